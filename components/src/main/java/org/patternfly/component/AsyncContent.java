@@ -0,0 +1,32 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component;
+
+import java.util.function.Function;
+
+import elemental2.dom.HTMLElement;
+import elemental2.promise.Promise;
+
+/**
+ * A functional interface that represents an asynchronous computation yielding the content of an expandable component. The
+ * function is called with the component when it is expanded for the first time.
+ *
+ * @param <C> the type of the component which is expanded
+ * @see HasLazyContent
+ */
+@FunctionalInterface
+public interface AsyncContent<C> extends Function<C, Promise<HTMLElement>> {
+}
@@ -0,0 +1,133 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.patternfly.core.ChunkedTask;
+import org.patternfly.core.TaskPriority;
+import org.patternfly.core.TaskScheduler;
+import org.patternfly.handler.ProgressHandler;
+
+import elemental2.promise.Promise;
+
+/**
+ * A utility class for rendering the items of {@link AsyncItems} in a component. By default, all items are added
+ * synchronously. If chunked rendering is enabled, the items are added using a {@link ChunkedTask}: The first items are
+ * added immediately, the remaining items are added in time-sliced chunks, one chunk per animation frame. This keeps the UI
+ * responsive if the async items resolve to a large number of items.
+ *
+ * @param <C> the type of the component that implements the {@code HasItems} interface
+ * @param <S> the type of the item that implements the {@code HasIdentifier} interface
+ */
+public class AsyncItemsRenderer<C extends HasItems<?, ?, ?>, S extends HasIdentifier<?, ?>> {
+
+    private final C component;
+    private final List<ProgressHandler<C>> progressHandler;
+    private int firstChunk;
+    private int rendered;
+    private ChunkedTask<S> task;
+    private Runnable settle;
+
+    public AsyncItemsRenderer(C component) {
+        this.component = component;
+        this.progressHandler = new ArrayList<>();
+        this.firstChunk = -1;
+    }
+
+    /**
+     * Enables chunked rendering. The first {@code firstChunk} items are added immediately, the remaining items are added
+     * in time-sliced chunks.
+     */
+    public C chunked(int firstChunk) {
+        this.firstChunk = Math.max(0, firstChunk);
+        return component;
+    }
+
+    public C onProgress(ProgressHandler<C> progressHandler) {
+        this.progressHandler.add(progressHandler);
+        return component;
+    }
+
+    /**
+     * Adds the items using the given consumer. The returned promise resolves to the items which have been added once all items
+     * have been added. If the rendering is {@linkplain #cancel() cancelled}, the returned promise resolves to the items which
+     * have been added so far. If adding an item fails while rendering in chunks, the remaining items are skipped, and the
+     * returned promise is rejected.
+     */
+    public Promise<Iterable<S>> render(Iterable<S> items, Consumer<S> add) {
+        cancel();
+        rendered = 0;
+        List<S> added = new ArrayList<>();
+        Consumer<S> counting = item -> {
+            add.accept(item);
+            added.add(item);
+            rendered++;
+        };
+        if (firstChunk < 0) {
+            items.forEach(counting);
+            return Promise.resolve(added);
+        } else {
+            return new Promise<>((resolve, reject) -> {
+                settle = () -> resolve.onInvoke(added);
+                task = TaskScheduler.chunked(items, counting)
+                        .priority(TaskPriority.frame)
+                        .eager(firstChunk)
+                        .onProgress((processed, total) -> progressHandler.forEach(
+                                handler -> handler.onProgress(component, processed, total)))
+                        .onDone(() -> {
+                            task = null;
+                            settle = null;
+                            resolve.onInvoke(added);
+                        })
+                        .onFailure(error -> {
+                            task = null;
+                            settle = null;
+                            reject.onInvoke(error);
+                        })
+                        .start();
+            });
+        }
+    }
+
+    /** Returns the number of items added by the last call to {@link #render(Iterable, Consumer)}. */
+    public int rendered() {
+        return rendered;
+    }
+
+    /** Returns {@code true} if there are items left to be added. */
+    public boolean rendering() {
+        return task != null && !task.done();
+    }
+
+    /**
+     * Cancels the pending chunks (if any) and resolves the pending promise to the items which have been added so far. Items
+     * that have already been added are not removed.
+     */
+    public void cancel() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        if (settle != null) {
+            Runnable pending = settle;
+            settle = null;
+            pending.run();
+        }
+    }
+}
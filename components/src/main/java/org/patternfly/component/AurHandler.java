@@ -17,16 +17,53 @@ package org.patternfly.component;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * A utility class for managing add, update, and remove event handlers for a component. This class provides a mechanism to
  * register and execute handlers for processing specific actions related to items of a component.
+ * <p>
+ * Events can be {@linkplain #batch(Supplier) batched}: While a batch is running, the events of all handlers are collected and
+ * delivered in order once the batch has finished.
  *
  * @param <C> the type of the component that implements the {@code HasItems} interface
  * @param <S> the type of the item that implements the {@code HasIdentifier} interface
  */
 public class AurHandler<C extends HasItems<?, ?, ?>, S extends HasIdentifier<?, ?>> {
 
+    // ------------------------------------------------------ batch
+
+    private static final List<Runnable> pending = new ArrayList<>();
+    private static int depth;
+
+    /**
+     * Runs the specified operation and delays all add, update, and remove events until the operation has finished. Batches
+     * can be nested, the events are delivered when the outermost batch has finished.
+     */
+    public static <T> T batch(Supplier<T> operation) {
+        depth++;
+        try {
+            return operation.get();
+        } finally {
+            depth--;
+            if (depth == 0 && !pending.isEmpty()) {
+                List<Runnable> events = new ArrayList<>(pending);
+                pending.clear();
+                events.forEach(Runnable::run);
+            }
+        }
+    }
+
+    private static void fire(Runnable event) {
+        if (depth > 0) {
+            pending.add(event);
+        } else {
+            event.run();
+        }
+    }
+
+    // ------------------------------------------------------ instance
+
     private final C component;
     private final List<AddItemHandler<C, S>> onAdd;
     private final List<UpdateItemHandler<C, S>> onUpdate;
@@ -56,21 +93,21 @@ public class AurHandler<C extends HasItems<?, ?, ?>, S extends HasIdentifier<?,
 
     public C added(S item) {
         if (item != null) {
-            onAdd.forEach(handler -> handler.onAdd(component, item));
+            fire(() -> onAdd.forEach(handler -> handler.onAdd(component, item)));
         }
         return component;
     }
 
     public C updated(S oldItem, S newItem) {
         if (oldItem != null && newItem != null) {
-            onUpdate.forEach(handler -> handler.onUpdate(component, oldItem, newItem));
+            fire(() -> onUpdate.forEach(handler -> handler.onUpdate(component, oldItem, newItem)));
         }
         return component;
     }
 
     public C removed(S item) {
         if (item != null) {
-            onRemove.forEach(handler -> handler.onRemove(component, item));
+            fire(() -> onRemove.forEach(handler -> handler.onRemove(component, item)));
         }
         return component;
     }
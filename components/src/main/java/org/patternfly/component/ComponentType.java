@@ -117,6 +117,8 @@ public enum ComponentType {
 
     PageHeader("ph", "PF6/Component/PageHeader"),
 
+    Pagination("pgn", "PF6/Component/Pagination"),
+
     Panel("pnl", "PF6/Component/Panel"),
 
     @Deprecated
@@ -16,6 +16,7 @@
 package org.patternfly.component;
 
 import org.patternfly.core.AsyncStatus;
+import org.patternfly.handler.ProgressHandler;
 
 import elemental2.dom.Element;
 import elemental2.dom.HTMLElement;
@@ -36,6 +37,27 @@ public interface HasAsyncItems<E extends Element, C extends HasItems<E, C, S>, S
 
     C add(AsyncItems<C, S> items);
 
+    /**
+     * Renders the items returned by the async items in time-sliced chunks instead of adding them all at once. The first
+     * {@code firstChunk} items are added immediately, the remaining items are added one chunk per animation frame. While
+     * the chunks are added, {@link #status()} returns {@link AsyncStatus#rendering}.
+     * <p>
+     * The default implementation ignores the call and adds all items at once.
+     */
+    @SuppressWarnings("unchecked")
+    default C renderInChunks(int firstChunk) {
+        return (C) this;
+    }
+
+    /**
+     * Registers a handler which is called while the items are rendered in chunks. The default implementation ignores the
+     * handler.
+     */
+    @SuppressWarnings("unchecked")
+    default C onRenderProgress(ProgressHandler<C> progressHandler) {
+        return (C) this;
+    }
+
     Promise<Iterable<S>> load();
 
     Promise<Iterable<S>> reload();
@@ -16,7 +16,9 @@
 package org.patternfly.component;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
@@ -183,6 +185,72 @@ public interface HasItems<E extends Element, C extends HasItems<E, C, S>, S exte
         }
     }
 
+    /**
+     * Synchronizes the items of this component with the specified data using a keyed diff. The key of a data item is used as
+     * the identifier of the corresponding item.
+     * <ul>
+     *     <li>Items whose identifier is not among the keys are removed.</li>
+     *     <li>Existing items are patched in place using the {@code patch} function. Their elements are kept, which preserves
+     *     focus, scroll position and other DOM state.</li>
+     *     <li>Missing items are created using the {@code create} function and added to the component.</li>
+     *     <li>If the order of the items doesn't match the order of the data, the items are {@linkplain #reorderItems(List)
+     *     reordered}.</li>
+     * </ul>
+     * Add and remove events are {@linkplain AurHandler#batch(java.util.function.Supplier) batched} and delivered after the
+     * items have been synchronized. Patching an item does not fire an update event. If the data contains duplicate keys, only
+     * the first occurrence is used.
+     *
+     * @param <T>    the type of the data
+     * @param data   the data to synchronize with
+     * @param key    returns the key of a data item; must be the identifier of the item created for that data
+     * @param create creates a new item for a data item
+     * @param patch  updates an existing item with a data item
+     * @return the builder instance after the items have been synchronized
+     */
+    default <T> C sync(Iterable<T> data, Function<T, String> key, Function<T, S> create, BiConsumer<S, T> patch) {
+        return AurHandler.batch(() -> {
+            Map<String, T> keyed = new LinkedHashMap<>();
+            for (T t : data) {
+                keyed.putIfAbsent(key.apply(t), t);
+            }
+
+            // remove
+            for (S item : items()) {
+                if (!keyed.containsKey(item.identifier())) {
+                    removeItem(item.identifier());
+                }
+            }
+
+            // patch and create
+            List<S> ordered = new ArrayList<>();
+            for (Map.Entry<String, T> entry : keyed.entrySet()) {
+                S item = item(entry.getKey());
+                if (item != null) {
+                    patch.accept(item, entry.getValue());
+                } else {
+                    item = create.apply(entry.getValue());
+                    add(item);
+                }
+                ordered.add(item);
+            }
+
+            // move
+            if (!ordered.equals(items())) {
+                reorderItems(ordered);
+            }
+            return that();
+        });
+    }
+
+    /**
+     * Brings the items of this component into the specified order. Used by
+     * {@link #sync(Iterable, Function, Function, BiConsumer)}. Implementations must reorder both the elements and the
+     * internal order of the items, which is usually done using {@link KeyedDiff#reorder(Map, List)}.
+     *
+     * @param items the items in the new order
+     */
+    void reorderItems(List<S> items);
+
     /**
      * Removes an item from the component based on the provided identifier.
      *
@@ -0,0 +1,61 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component;
+
+import java.util.function.Supplier;
+
+import org.jboss.elemento.IsElement;
+import org.jboss.elemento.TypedBuilder;
+import org.patternfly.core.AsyncStatus;
+
+import elemental2.dom.Element;
+import elemental2.dom.HTMLElement;
+
+/**
+ * Represents an expandable component whose content is rendered when the component is expanded for the first time. Once
+ * rendered, the content is cached. If {@linkplain #releaseOnCollapse(boolean) enabled}, the content is released when the
+ * component is collapsed and rendered again on the next expand.
+ * <p>
+ * While the content is loaded, {@link #contentStatus()} returns {@link AsyncStatus#pending}. If the content has been
+ * rendered, the status is {@link AsyncStatus#resolved}, if loading the content failed, it's {@link AsyncStatus#rejected}.
+ * Components which don't use lazy content return {@link AsyncStatus#static_}.
+ *
+ * @param <E> the type of the element of the component
+ * @param <C> the type of the component
+ * @see LazyContentRenderer
+ */
+public interface HasLazyContent<E extends Element, C extends TypedBuilder<E, C>> extends TypedBuilder<E, C>,
+        IsElement<E> {
+
+    /** Renders the content returned by the supplier when the component is expanded for the first time. */
+    C lazyContent(Supplier<HTMLElement> content);
+
+    /**
+     * Renders the content returned by the promise when the component is expanded for the first time. While the promise is
+     * pending, a loading indicator is shown.
+     */
+    C lazyContent(AsyncContent<C> content);
+
+    /** Same as {@linkplain #releaseOnCollapse(boolean) releaseOnCollapse(true)} */
+    default C releaseOnCollapse() {
+        return releaseOnCollapse(true);
+    }
+
+    /** Releases the lazy content when the component is collapsed. Defaults to false. */
+    C releaseOnCollapse(boolean releaseOnCollapse);
+
+    AsyncStatus contentStatus();
+}
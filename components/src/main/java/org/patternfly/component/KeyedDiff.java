@@ -0,0 +1,182 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import elemental2.dom.Element;
+import elemental2.dom.HTMLElement;
+import elemental2.dom.Node;
+
+/**
+ * Internal helper that implements the reordering part of {@link HasItems#sync(Iterable, java.util.function.Function,
+ * java.util.function.Function, java.util.function.BiConsumer)}. Components use {@link #reorder(Map, List)} to implement
+ * {@link HasItems#reorderItems(List)}.
+ * <p>
+ * Items are reordered with a minimal number of DOM moves: The current DOM positions of the items are read in the desired
+ * order. The items on the longest increasing subsequence of these positions are already in the right order and stay where
+ * they are. Only the remaining items are moved.
+ */
+public final class KeyedDiff {
+
+    /**
+     * Brings the items into the specified order. Moves the elements of the items and reorders the map which holds the items
+     * of a component. Items which are not part of {@code ordered} are kept after the ordered items.
+     */
+    public static <S extends HasIdentifier<? extends HTMLElement, ?>> void reorder(Map<String, S> items, List<S> ordered) {
+        reorder(ordered);
+        Map<String, S> remaining = new LinkedHashMap<>(items);
+        items.clear();
+        for (S item : ordered) {
+            if (remaining.remove(item.identifier()) != null) {
+                items.put(item.identifier(), item);
+            }
+        }
+        items.putAll(remaining);
+    }
+
+    /**
+     * Moves the elements of the specified items so that they appear in the given order. If the items are wrapped in other
+     * elements (e.g. {@code <li/>} elements), the wrapping elements are moved. Only items below the common parent of the
+     * first two items are reordered.
+     */
+    static void reorder(List<? extends HasIdentifier<? extends HTMLElement, ?>> items) {
+        List<Element> elements = containers(items);
+        if (elements.size() < 2) {
+            return;
+        }
+        Element parent = elements.get(0).parentElement;
+
+        // read the current DOM positions
+        Map<Node, Integer> positions = new HashMap<>();
+        int index = 0;
+        for (Node child = parent.firstChild; child != null; child = child.nextSibling) {
+            positions.put(child, index++);
+        }
+        int[] current = new int[elements.size()];
+        int last = -1;
+        for (int i = 0; i < current.length; i++) {
+            current[i] = positions.get(elements.get(i));
+            if (last == -1 || current[i] > current[last]) {
+                last = i;
+            }
+        }
+
+        // move everything which is not part of the longest increasing subsequence
+        boolean[] stable = stable(current);
+        Node anchor = elements.get(last).nextSibling;
+        for (int i = elements.size() - 1; i >= 0; i--) {
+            Element element = elements.get(i);
+            if (!stable[i]) {
+                parent.insertBefore(element, anchor);
+            }
+            anchor = element;
+        }
+    }
+
+    /**
+     * Returns the elements to move: For each item the element itself or the ancestor of the element, which is a direct child
+     * of the common parent.
+     */
+    private static List<Element> containers(List<? extends HasIdentifier<? extends HTMLElement, ?>> items) {
+        List<Element> containers = new ArrayList<>();
+        Element parent = null;
+        Element first = null;
+        for (HasIdentifier<? extends HTMLElement, ?> item : items) {
+            Element element = item.element();
+            if (element.parentElement == null) {
+                continue;
+            }
+            if (first == null) {
+                first = element;
+            } else if (parent == null) {
+                parent = commonAncestor(first, element);
+                if (parent == null) {
+                    return containers;
+                }
+                containers.add(container(first, parent));
+            }
+            if (parent != null) {
+                Element container = container(element, parent);
+                if (container != null) {
+                    containers.add(container);
+                }
+            }
+        }
+        return containers;
+    }
+
+    private static Element commonAncestor(Element a, Element b) {
+        Set<Element> ancestors = new HashSet<>();
+        for (Element element = a.parentElement; element != null; element = element.parentElement) {
+            ancestors.add(element);
+        }
+        for (Element element = b.parentElement; element != null; element = element.parentElement) {
+            if (ancestors.contains(element)) {
+                return element;
+            }
+        }
+        return null;
+    }
+
+    private static Element container(Element element, Element parent) {
+        while (element != null && element.parentElement != parent) {
+            element = element.parentElement;
+        }
+        return element;
+    }
+
+    /**
+     * Returns which positions are part of the longest increasing subsequence of the specified positions. Runs in O(n log n).
+     */
+    static boolean[] stable(int[] positions) {
+        int n = positions.length;
+        boolean[] stable = new boolean[n];
+        int[] tails = new int[n]; // index of the smallest tail of all increasing subsequences with length i + 1
+        int[] previous = new int[n];
+        int length = 0;
+        for (int i = 0; i < n; i++) {
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (positions[tails[middle]] < positions[i]) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+            stable[i] = true;
+        }
+        return stable;
+    }
+
+    private KeyedDiff() {
+    }
+}
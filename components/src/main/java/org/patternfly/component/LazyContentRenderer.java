@@ -0,0 +1,186 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component;
+
+import java.util.function.Supplier;
+
+import org.jboss.elemento.logger.Logger;
+import org.patternfly.core.AsyncStatus;
+
+import elemental2.dom.HTMLElement;
+
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static org.jboss.elemento.Elements.div;
+import static org.jboss.elemento.Elements.failSafeRemoveFromParent;
+import static org.jboss.elemento.Elements.span;
+import static org.patternfly.component.spinner.Spinner.spinner;
+import static org.patternfly.core.AsyncStatus.pending;
+import static org.patternfly.core.AsyncStatus.rejected;
+import static org.patternfly.core.AsyncStatus.resolved;
+import static org.patternfly.core.AsyncStatus.static_;
+import static org.patternfly.core.Timeouts.LOADING_TIMEOUT;
+import static org.patternfly.icon.IconSets.rhUi.errorFill;
+import static org.patternfly.style.Size.md;
+
+/**
+ * A utility class for rendering the {@linkplain HasLazyContent lazy content} of an expandable component. The component calls
+ * {@link #expand()} and {@link #collapse()} whenever it is expanded or collapsed.
+ * <p>
+ * If the content is given as {@link AsyncContent}, a loading indicator is shown after {@link org.patternfly.core.Timeouts#LOADING_TIMEOUT}.
+ * If the promise is rejected, an error is shown, and the content is loaded again on the next expand. If the component is
+ * collapsed and the content is released while the promise is pending, the result is ignored.
+ *
+ * @param <C> the type of the component that implements the {@code HasLazyContent} interface
+ */
+public class LazyContentRenderer<C extends HasLazyContent<?, ?>> {
+
+    private static final Logger logger = Logger.getLogger(LazyContentRenderer.class.getName());
+
+    private final C component;
+    private final Supplier<HTMLElement> container;
+    private Supplier<HTMLElement> supplier;
+    private AsyncContent<C> asyncContent;
+    private boolean releaseOnCollapse;
+    private boolean loading;
+    private int generation;
+    private double loadingTimeout;
+    private HTMLElement loadingElement;
+    private AsyncStatus status;
+    private HTMLElement contentElement;
+    private HTMLElement errorElement;
+
+    /**
+     * Creates a new renderer.
+     *
+     * @param component the component which uses this renderer
+     * @param container supplies the element the lazy content is appended to
+     */
+    public LazyContentRenderer(C component, Supplier<HTMLElement> container) {
+        this.component = component;
+        this.container = container;
+        this.status = static_;
+    }
+
+    public C supplier(Supplier<HTMLElement> content) {
+        release();
+        this.supplier = content;
+        this.asyncContent = null;
+        this.status = pending;
+        return component;
+    }
+
+    public C promise(AsyncContent<C> content) {
+        release();
+        this.supplier = null;
+        this.asyncContent = content;
+        this.status = pending;
+        return component;
+    }
+
+    public C releaseOnCollapse(boolean releaseOnCollapse) {
+        this.releaseOnCollapse = releaseOnCollapse;
+        return component;
+    }
+
+    /** Renders the content if it has not been rendered yet. Must be called when the component is expanded. */
+    public void expand() {
+        if (status == rejected) {
+            failSafeRemoveFromParent(errorElement);
+            errorElement = null;
+            status = pending;
+        }
+        if (status == pending && !loading) {
+            if (supplier != null) {
+                contentElement = supplier.get();
+                if (contentElement != null) {
+                    container.get().appendChild(contentElement);
+                }
+                status = resolved;
+            } else if (asyncContent != null) {
+                load();
+            }
+        }
+    }
+
+    /** Releases the content if {@link #releaseOnCollapse(boolean)} is enabled. Must be called when the component is collapsed. */
+    public void collapse() {
+        if (releaseOnCollapse) {
+            release();
+        }
+    }
+
+    public AsyncStatus status() {
+        return status;
+    }
+
+    // ------------------------------------------------------ internal
+
+    private void load() {
+        loading = true;
+        int current = ++generation;
+        // TODO Customize loading and error handling
+        loadingTimeout = setTimeout(__ -> {
+            loadingElement = spinner(md, "Loading").element(); // TODO i18n
+            container.get().appendChild(loadingElement);
+        }, LOADING_TIMEOUT);
+
+        asyncContent.apply(component)
+                .then(element -> {
+                    if (current == generation) {
+                        stopLoading();
+                        contentElement = element;
+                        if (contentElement != null) {
+                            container.get().appendChild(contentElement);
+                        }
+                        status = resolved;
+                    }
+                    return null;
+                })
+                .catch_(error -> {
+                    if (current == generation) {
+                        stopLoading();
+                        status = rejected;
+                        logger.error("Unable to load content for %o: %s", component.element(), error);
+                        errorElement = div()
+                                .add(errorFill())
+                                .add(span().text(" Error")) // TODO i18n
+                                .element();
+                        container.get().appendChild(errorElement);
+                    }
+                    return null;
+                });
+    }
+
+    private void stopLoading() {
+        loading = false;
+        clearTimeout(loadingTimeout);
+        failSafeRemoveFromParent(loadingElement);
+        loadingElement = null;
+    }
+
+    private void release() {
+        if (status == resolved || status == rejected || loading) {
+            generation++;
+            stopLoading();
+            failSafeRemoveFromParent(contentElement);
+            failSafeRemoveFromParent(errorElement);
+            contentElement = null;
+            errorElement = null;
+            status = pending;
+        }
+    }
+}
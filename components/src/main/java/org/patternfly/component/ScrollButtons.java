@@ -19,19 +19,24 @@ import org.gwtproject.event.shared.HandlerRegistration;
 import org.patternfly.component.button.Button;
 import org.patternfly.core.LanguageDirection;
 import org.patternfly.core.ObservableValue;
+import org.patternfly.style.BreakpointObserver;
 
+import elemental2.dom.AddEventListenerOptions;
+import elemental2.dom.Element;
 import elemental2.dom.HTMLElement;
+import elemental2.dom.IntersectionObserver;
+import elemental2.dom.IntersectionObserverEntry;
+import elemental2.dom.IntersectionObserverInit;
 import elemental2.dom.Node;
 import elemental2.dom.NodeList;
 
-import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.cancelAnimationFrame;
+import static elemental2.dom.DomGlobal.requestAnimationFrame;
 import static elemental2.dom.DomGlobal.setTimeout;
-import static elemental2.dom.DomGlobal.window;
 import static org.jboss.elemento.Elements.div;
 import static org.jboss.elemento.Elements.isElementInView;
 import static org.jboss.elemento.Elements.setVisible;
 import static org.jboss.elemento.EventType.bind;
-import static org.jboss.elemento.EventType.resize;
 import static org.jboss.elemento.EventType.scroll;
 import static org.patternfly.component.button.Button.button;
 import static org.patternfly.core.Aria.label;
@@ -45,6 +50,11 @@ import static org.patternfly.style.Classes.scrollable;
 /**
  * Internal class used by components like {@link org.patternfly.component.navigation.Navigation} or
  * {@link org.patternfly.component.tabs.Tab} that provide buttons to scroll their items horizontally.
+ * <p>
+ * The scroll state is not computed by reading the geometry of the items. Instead, an {@link IntersectionObserver} watches
+ * the first and last item of the items container and reports whether they are fully visible. Scroll events (bound as
+ * passive listener) and size changes of the items container (reported by the shared {@link BreakpointObserver}) are
+ * throttled to one update per animation frame.
  */
 // TODO Use in Tabs.java
 public class ScrollButtons {
@@ -62,9 +72,16 @@ public class ScrollButtons {
     private final ObservableValue<Boolean> disableBackScrollButton;
     private final ObservableValue<Boolean> disableForwardScrollButton;
 
-    private double scrollTimeout;
+    private static final double IN_VIEW_THRESHOLD = 0.99;
+
+    private double animationFrame;
+    private boolean firstInView;
+    private boolean lastInView;
+    private Element firstItem;
+    private Element lastItem;
+    private IntersectionObserver intersectionObserver;
+    private HandlerRegistration sizeHandler;
     private HandlerRegistration scrollHandler;
-    private HandlerRegistration resizeHandler;
     private HandlerRegistration transitionEndHandler;
 
     public ScrollButtons(HTMLElement component, HTMLElement itemsContainer, String css) {
@@ -75,6 +92,8 @@ public class ScrollButtons {
         this.renderScrollButtons = ov(false);
         this.disableBackScrollButton = ov(false);
         this.disableForwardScrollButton = ov(false);
+        this.firstInView = true;
+        this.lastInView = true;
 
         scrollBackContainer = div().css(css)
                 .add(scrollBack = button().icon(caretLeft())
@@ -93,7 +112,9 @@ public class ScrollButtons {
     }
 
     public void attach() {
-        scrollHandler = bind(itemsContainer, scroll, e -> updateScrollState());
+        AddEventListenerOptions options = AddEventListenerOptions.create();
+        options.setPassive(true);
+        scrollHandler = bind(itemsContainer, scroll, options, e -> updateScrollState());
         scrollBack.onClick((e, b) -> scrollBack());
         scrollForward.onClick((e, b) -> scrollForward());
         enableScrollButtons.subscribe((current, previous) -> {
@@ -114,34 +135,96 @@ public class ScrollButtons {
         });
         disableBackScrollButton.subscribe((current, __) -> scrollBack.disabled(current));
         disableForwardScrollButton.subscribe((current, __) -> scrollForward.disabled(current));
-        resizeHandler = bind(window, resize.name, e -> updateScrollState());
+        IntersectionObserverInit init = IntersectionObserverInit.create();
+        init.setRoot(itemsContainer);
+        init.setThreshold(IN_VIEW_THRESHOLD);
+        intersectionObserver = new IntersectionObserver((entries, observer) -> {
+            for (int i = 0; i < entries.length; i++) {
+                IntersectionObserverEntry entry = entries.getAt(i);
+                boolean inView = entry.isIntersecting && entry.intersectionRatio >= IN_VIEW_THRESHOLD;
+                if (entry.target == firstItem) {
+                    firstInView = inView;
+                }
+                if (entry.target == lastItem) {
+                    lastInView = inView;
+                }
+            }
+            applyScrollState();
+        }, init);
+        sizeHandler = BreakpointObserver.observeSize(itemsContainer, (current, previous) -> updateScrollState());
         updateScrollState();
     }
 
     public void detach() {
-        clearTimeout(scrollTimeout);
+        cancelAnimationFrame(animationFrame);
+        animationFrame = 0;
         if (scrollHandler != null) {
             scrollHandler.removeHandler();
         }
-        if (resizeHandler != null) {
-            resizeHandler.removeHandler();
+        if (sizeHandler != null) {
+            sizeHandler.removeHandler();
+            sizeHandler = null;
+        }
+        if (intersectionObserver != null) {
+            intersectionObserver.disconnect();
+            intersectionObserver = null;
         }
         if (transitionEndHandler != null) {
             transitionEndHandler.removeHandler();
         }
+        firstItem = null;
+        lastItem = null;
+        firstInView = true;
+        lastInView = true;
     }
 
+    /**
+     * Schedules an update of the scroll state for the next animation frame. Multiple calls within the same frame are
+     * coalesced into one update. The update does not read any geometry: It (re-)observes the first and last item if they have
+     * changed and applies the visibility last reported by the {@link IntersectionObserver}.
+     */
     public void updateScrollState() {
-        clearTimeout(scrollTimeout);
-        scrollTimeout = setTimeout((__) -> {
-            boolean overflowOnLeft = !isElementInView(itemsContainer,
-                    ((HTMLElement) itemsContainer.firstElementChild), false);
-            boolean overflowOnRight = !isElementInView(itemsContainer,
-                    ((HTMLElement) itemsContainer.lastElementChild), false);
-            enableScrollButtons.change(overflowOnLeft || overflowOnRight);
-            disableBackScrollButton.change(!overflowOnLeft);
-            disableForwardScrollButton.change(!overflowOnRight);
-        }, 100);
+        if (animationFrame == 0) {
+            animationFrame = requestAnimationFrame(__ -> {
+                animationFrame = 0;
+                observeEdges();
+                applyScrollState();
+            });
+        }
+    }
+
+    private void observeEdges() {
+        if (intersectionObserver != null) {
+            Element first = itemsContainer.firstElementChild;
+            Element last = itemsContainer.lastElementChild;
+            if (first != firstItem || last != lastItem) {
+                if (firstItem != null) {
+                    intersectionObserver.unobserve(firstItem);
+                }
+                if (lastItem != null && lastItem != firstItem) {
+                    intersectionObserver.unobserve(lastItem);
+                }
+                firstItem = first;
+                lastItem = last;
+                // assume the new edges are in view until the intersection observer reports otherwise
+                firstInView = true;
+                lastInView = true;
+                if (firstItem != null) {
+                    intersectionObserver.observe(firstItem);
+                }
+                if (lastItem != null && lastItem != firstItem) {
+                    intersectionObserver.observe(lastItem);
+                }
+            }
+        }
+    }
+
+    private void applyScrollState() {
+        boolean overflowOnLeft = !firstInView;
+        boolean overflowOnRight = !lastInView;
+        enableScrollButtons.change(overflowOnLeft || overflowOnRight);
+        disableBackScrollButton.change(!overflowOnLeft);
+        disableForwardScrollButton.change(!overflowOnRight);
     }
 
     private void scrollBack() {
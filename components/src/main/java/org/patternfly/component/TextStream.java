@@ -0,0 +1,197 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import elemental2.dom.HTMLElement;
+import elemental2.dom.Text;
+
+import static elemental2.dom.DomGlobal.cancelAnimationFrame;
+import static elemental2.dom.DomGlobal.document;
+import static elemental2.dom.DomGlobal.requestAnimationFrame;
+import static org.jboss.elemento.Elements.removeChildrenFrom;
+
+/**
+ * A utility class for components which show a continuously growing text like a log file ({@code tail -f}). Chunks of text
+ * are {@linkplain #append(String) appended} to a buffer and written to the DOM at most once per animation frame. Each flush
+ * appends one text node, the existing text is never replaced. If a maximum number of lines is set, the oldest lines are
+ * dropped from the first text nodes. The scroll container is scrolled to the bottom after a flush, but only if it was
+ * scrolled to the bottom before, so that users can scroll up and read older lines without being interrupted.
+ */
+public class TextStream {
+
+    private static final double BOTTOM_THRESHOLD = 2;
+
+    private final HTMLElement textContainer;
+    private final HTMLElement scrollContainer;
+    private final Deque<Segment> segments;
+    private final StringBuilder pending;
+    private int maxLines;
+    private int newlines;
+    private int trailingNewlines;
+    private int length;
+    private double animationFrame;
+
+    public TextStream(HTMLElement textContainer, HTMLElement scrollContainer) {
+        this.textContainer = textContainer;
+        this.scrollContainer = scrollContainer;
+        this.segments = new ArrayDeque<>();
+        this.pending = new StringBuilder();
+        this.maxLines = 0;
+        this.newlines = 0;
+        this.trailingNewlines = 0;
+        this.length = 0;
+    }
+
+    // ------------------------------------------------------ api
+
+    /**
+     * Sets the maximum number of lines to keep. Use {@code 0} (the default) to keep all lines. Trailing line breaks don't
+     * count as lines, see {@link #lineCount()}.
+     */
+    public void maxLines(int maxLines) {
+        this.maxLines = Math.max(0, maxLines);
+    }
+
+    /** Adds the chunk to the buffer and schedules a flush for the next animation frame. */
+    public void append(String chunk) {
+        if (chunk != null && !chunk.isEmpty()) {
+            pending.append(chunk);
+            if (animationFrame == 0) {
+                animationFrame = requestAnimationFrame(__ -> {
+                    animationFrame = 0;
+                    flush();
+                });
+            }
+        }
+    }
+
+    /**
+     * Returns the number of lines written to the DOM. The lines are the same as the ones returned by
+     * {@code text.split("\n")}, i.e. trailing empty lines are not counted.
+     */
+    public int lineCount() {
+        return length == trailingNewlines ? 0 : newlines + 1 - trailingNewlines;
+    }
+
+    /** Replaces the whole text. Pending chunks are discarded. */
+    public void reset(String text) {
+        cancel();
+        pending.setLength(0);
+        segments.clear();
+        newlines = 0;
+        trailingNewlines = 0;
+        length = 0;
+        removeChildrenFrom(textContainer);
+        if (text != null && !text.isEmpty()) {
+            write(text);
+            trim();
+        }
+    }
+
+    /** Writes the pending chunks to the DOM right away. */
+    public void flush() {
+        cancel();
+        if (pending.length() != 0) {
+            boolean atBottom = atBottom();
+            write(pending.toString());
+            pending.setLength(0);
+            trim();
+            if (atBottom) {
+                scrollContainer.scrollTop = scrollContainer.scrollHeight;
+            }
+        }
+    }
+
+    /** Cancels a scheduled flush. The pending chunks are kept. */
+    public void cancel() {
+        if (animationFrame != 0) {
+            cancelAnimationFrame(animationFrame);
+            animationFrame = 0;
+        }
+    }
+
+    // ------------------------------------------------------ internal
+
+    private boolean atBottom() {
+        return scrollContainer.scrollHeight - scrollContainer.scrollTop - scrollContainer.clientHeight <= BOTTOM_THRESHOLD;
+    }
+
+    private void write(String text) {
+        Text node = document.createTextNode(text);
+        int count = countNewlines(text);
+        segments.addLast(new Segment(node, count));
+        newlines += count;
+        length += text.length();
+        int trailing = 0;
+        while (trailing < text.length() && text.charAt(text.length() - 1 - trailing) == '\n') {
+            trailing++;
+        }
+        trailingNewlines = trailing == text.length() ? trailingNewlines + trailing : trailing;
+        textContainer.appendChild(node);
+    }
+
+    private void trim() {
+        if (maxLines > 0) {
+            // dropping the first n line breaks drops the first n lines, trailing line breaks are never reached
+            int excess = lineCount() - maxLines;
+            while (excess > 0 && !segments.isEmpty()) {
+                Segment segment = segments.peekFirst();
+                String data = segment.node.data;
+                if (segment.newlines < excess || (segment.newlines == excess && data.endsWith("\n"))) {
+                    segments.removeFirst();
+                    textContainer.removeChild(segment.node);
+                    newlines -= segment.newlines;
+                    length -= data.length();
+                    excess -= segment.newlines;
+                } else {
+                    int index = -1;
+                    for (int i = 0; i < excess; i++) {
+                        index = data.indexOf('\n', index + 1);
+                    }
+                    segment.node.data = data.substring(index + 1);
+                    segment.newlines -= excess;
+                    newlines -= excess;
+                    length -= index + 1;
+                    excess = 0;
+                }
+            }
+        }
+    }
+
+    private static int countNewlines(String text) {
+        int count = 0;
+        int index = text.indexOf('\n');
+        while (index != -1) {
+            count++;
+            index = text.indexOf('\n', index + 1);
+        }
+        return count;
+    }
+
+    private static class Segment {
+
+        final Text node;
+        int newlines;
+
+        Segment(Text node, int newlines) {
+            this.node = node;
+            this.newlines = newlines;
+        }
+    }
+}
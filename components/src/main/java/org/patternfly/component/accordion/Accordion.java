@@ -29,6 +29,7 @@ import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
 import org.patternfly.component.HasItems;
 import org.patternfly.component.IconPosition;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 import org.patternfly.handler.ToggleHandler;
@@ -263,6 +264,11 @@ public class Accordion extends BaseComponent<HTMLElement, Accordion> implements
         });
     }
 
+    @Override
+    public void reorderItems(List<AccordionItem> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         AccordionItem item = items.remove(identifier);
@@ -19,15 +19,20 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.jboss.elemento.ButtonType;
 import org.jboss.elemento.ElementContainerDelegate;
 import org.jboss.elemento.ElementTextDelegate;
 import org.jboss.elemento.HTMLContainerBuilder;
 import org.jboss.elemento.Id;
+import org.patternfly.component.AsyncContent;
 import org.patternfly.component.ComponentType;
 import org.patternfly.component.Expandable;
 import org.patternfly.component.HasIdentifier;
+import org.patternfly.component.HasLazyContent;
+import org.patternfly.component.LazyContentRenderer;
+import org.patternfly.core.AsyncStatus;
 import org.patternfly.core.ComponentContext;
 import org.patternfly.core.Roles;
 import org.patternfly.style.Classes;
@@ -67,7 +72,8 @@ public class AccordionItem extends AccordionSubComponent<HTMLElement, AccordionI
         ComponentContext<HTMLElement, AccordionItem>,
         ElementContainerDelegate<HTMLElement, AccordionItem>,
         ElementTextDelegate<HTMLElement, AccordionItem>,
-        HasIdentifier<HTMLElement, AccordionItem> {
+        HasIdentifier<HTMLElement, AccordionItem>,
+        HasLazyContent<HTMLElement, AccordionItem> {
 
     // ------------------------------------------------------ factory
 
@@ -88,6 +94,7 @@ public class AccordionItem extends AccordionSubComponent<HTMLElement, AccordionI
     private final HTMLElement textElement;
     private final AccordionItemBody defaultBody;
     private final List<AccordionItemBody> bodies;
+    private final LazyContentRenderer<AccordionItem> lazy;
     private boolean expanded;
     private HTMLElement toggleElement;
     private HTMLElement contentElement;
@@ -103,6 +110,7 @@ public class AccordionItem extends AccordionSubComponent<HTMLElement, AccordionI
         this.defaultBody = new AccordionItemBody();
         this.bodies = new ArrayList<>();
         this.bodies.add(defaultBody);
+        this.lazy = new LazyContentRenderer<>(this, defaultBody::element);
     }
 
     /**
@@ -142,6 +150,21 @@ public class AccordionItem extends AccordionSubComponent<HTMLElement, AccordionI
         return this;
     }
 
+    @Override
+    public AccordionItem lazyContent(Supplier<HTMLElement> content) {
+        return lazy.supplier(content);
+    }
+
+    @Override
+    public AccordionItem lazyContent(AsyncContent<AccordionItem> content) {
+        return lazy.promise(content);
+    }
+
+    @Override
+    public AccordionItem releaseOnCollapse(boolean releaseOnCollapse) {
+        return lazy.releaseOnCollapse(releaseOnCollapse);
+    }
+
     @Override
     public <T> AccordionItem store(String key, T value) {
         data.put(key, value);
@@ -160,6 +183,11 @@ public class AccordionItem extends AccordionSubComponent<HTMLElement, AccordionI
         return identifier;
     }
 
+    @Override
+    public AsyncStatus contentStatus() {
+        return lazy.status();
+    }
+
     @Override
     public boolean has(String key) {
         return data.containsKey(key);
@@ -208,6 +236,7 @@ public class AccordionItem extends AccordionSubComponent<HTMLElement, AccordionI
 
         if (expanded) {
             Expandable.expand(element(), toggleElement, contentElement, true);
+            lazy.expand();
         } else {
             Expandable.collapse(element(), toggleElement, contentElement, true);
         }
@@ -228,12 +257,14 @@ public class AccordionItem extends AccordionSubComponent<HTMLElement, AccordionI
     void collapse() {
         if (contentElement != null && toggleElement != null) {
             Expandable.collapse(element(), toggleElement, contentElement);
+            lazy.collapse();
         }
     }
 
     void expand() {
         if (contentElement != null && toggleElement != null) {
             Expandable.expand(element(), toggleElement, contentElement);
+            lazy.expand();
         }
     }
 }
@@ -30,6 +30,7 @@ import org.patternfly.component.ComponentType;
 import org.patternfly.component.Expandable;
 import org.patternfly.component.HasIdentifier;
 import org.patternfly.component.Severity;
+import org.patternfly.component.badge.Badge;
 import org.patternfly.component.button.Button;
 import org.patternfly.core.Aria;
 import org.patternfly.core.ComponentContext;
@@ -62,6 +63,7 @@ import static org.jboss.elemento.EventType.click;
 import static org.jboss.elemento.EventType.mouseout;
 import static org.jboss.elemento.EventType.mouseover;
 import static org.patternfly.component.alert.AlertDescription.alertDescription;
+import static org.patternfly.component.badge.Badge.badge;
 import static org.patternfly.component.button.Button.button;
 import static org.patternfly.core.Aria.atomic;
 import static org.patternfly.core.Aria.expanded;
@@ -77,6 +79,7 @@ import static org.patternfly.style.Classes.modifier;
 import static org.patternfly.style.Classes.screenReader;
 import static org.patternfly.style.Classes.toggle;
 import static org.patternfly.style.Classes.truncate;
+import static org.patternfly.style.Classes.util;
 import static org.patternfly.style.Variable.componentVar;
 
 /**
@@ -114,9 +117,15 @@ public class Alert extends BaseComponent<HTMLDivElement, Alert> implements
     int timeout;
     boolean expandable;
     Button closeButton;
+    // set if the timeout is managed by a toast alert group
+    AlertGroup group;
+    boolean managed;
+    int expiryVersion;
+    int sequence;
+    String dedupKey;
+    final Severity severity;
+    final String title;
     private final String identifier;
-    private final Severity severity;
-    private final String title;
     private final double timestamp;
     private final HTMLElement iconContainer;
     private final HTMLParagraphElement titleElement;
@@ -126,6 +135,8 @@ public class Alert extends BaseComponent<HTMLDivElement, Alert> implements
     private Button toggleButton;
     private AlertDescription description;
     private ToggleHandler<Alert> toggleHandler;
+    private Badge repeatBadge;
+    private int repeated;
 
     Alert(Severity severity, String identifier, String title) {
         super(ComponentType.Alert, div().css(component(alert), severity.status.modifier())
@@ -139,6 +150,7 @@ public class Alert extends BaseComponent<HTMLDivElement, Alert> implements
         this.data = new HashMap<>();
         this.timeoutHandle = 0;
         this.timeout = NO_TIMEOUT;
+        this.repeated = 1;
         this.expandable = false;
         this.closeHandler = new ArrayList<>();
         storeComponent();
@@ -155,7 +167,7 @@ public class Alert extends BaseComponent<HTMLDivElement, Alert> implements
 
     @Override
     public void attach(MutationRecord mutationRecord) {
-        if (timeout > MIN_TIMEOUT) {
+        if (timeout > MIN_TIMEOUT && !managed) {
             startTimeout();
             on(mouseover, e -> stopTimeout());
             on(mouseout, e -> startTimeout());
@@ -343,7 +355,8 @@ public class Alert extends BaseComponent<HTMLDivElement, Alert> implements
     public void close(Event event, boolean fireEvent) {
         if (shouldClose(this, closeHandler, event, fireEvent)) {
             stopTimeout();
-            AlertGroup alertGroup = lookupComponent(ComponentType.AlertGroup, true);
+            // hidden toast alerts are not attached, so use the reference to the alert group if available
+            AlertGroup alertGroup = group != null ? group : lookupComponent(ComponentType.AlertGroup, true);
             if (alertGroup != null) {
                 alertGroup.closeAlert(this);
             } else {
@@ -383,8 +396,26 @@ public class Alert extends BaseComponent<HTMLDivElement, Alert> implements
         return timestamp;
     }
 
+    /**
+     * Returns how often this alert has been added to a toast alert group with
+     * {@linkplain AlertGroup#deduplicate() deduplication} enabled.
+     */
+    public int repeated() {
+        return repeated;
+    }
+
     // ------------------------------------------------------ internal
 
+    void repeat() {
+        repeated++;
+        if (repeatBadge == null) {
+            repeatBadge = badge(repeated).read().css(util("ml-sm"));
+            titleElement.appendChild(repeatBadge.element());
+        } else {
+            repeatBadge.count(repeated);
+        }
+    }
+
     private void startTimeout() {
         timeoutHandle = setTimeout((o) -> close(), timeout);
     }
@@ -15,30 +15,47 @@
  */
 package org.patternfly.component.alert;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
 
 import org.patternfly.component.AddItemHandler;
 import org.patternfly.component.AurHandler;
 import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
 import org.patternfly.component.HasItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 import org.patternfly.core.Timeouts;
+import org.patternfly.handler.ComponentHandler;
 import org.patternfly.style.Classes;
 
 import elemental2.dom.Element;
+import elemental2.dom.Event;
+import elemental2.dom.HTMLElement;
 import elemental2.dom.HTMLUListElement;
+import elemental2.dom.Node;
 
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.performance;
+import static elemental2.dom.DomGlobal.setTimeout;
 import static org.jboss.elemento.Elements.body;
+import static org.jboss.elemento.Elements.button;
 import static org.jboss.elemento.Elements.div;
 import static org.jboss.elemento.Elements.failSafeRemoveFromParent;
-import static org.jboss.elemento.Elements.insertFirst;
 import static org.jboss.elemento.Elements.li;
 import static org.jboss.elemento.Elements.removeChildrenFrom;
 import static org.jboss.elemento.Elements.ul;
+import static org.jboss.elemento.EventType.click;
+import static org.jboss.elemento.EventType.mouseenter;
+import static org.jboss.elemento.EventType.mouseleave;
+import static org.patternfly.component.alert.Alert.MIN_TIMEOUT;
 import static org.patternfly.component.alert.Alert.NO_TIMEOUT;
 import static org.patternfly.core.Aria.atomic;
 import static org.patternfly.core.Aria.live;
@@ -48,11 +65,24 @@ import static org.patternfly.style.Classes.alertGroup;
 import static org.patternfly.style.Classes.component;
 import static org.patternfly.style.Classes.inline;
 import static org.patternfly.style.Classes.modifier;
+import static org.patternfly.style.Classes.overflow;
 
 /**
  * An alert group stacks and positions 2 or more alerts in a live region, either in a layer over the main content of a page or
  * inline with the page content. Alert groups should always rank alerts by age, stacking new alerts on top of old ones as they
  * surface.
+ * <p>
+ * Toast alert groups support some additional features to cope with lots of alerts in a short time (e.g. if a backend goes
+ * down, and many requests fail at once):
+ * <ul>
+ *     <li>{@link #maxVisible(int)}: Shows at most the specified number of alerts. Additional alerts are summarized in an
+ *     overflow button ("N more").</li>
+ *     <li>{@link #deduplicate()}: Alerts with the same key are shown only once with a repeat counter.</li>
+ *     <li>{@link #rateLimit(int, int)}: Limits the number of new alerts shown per second using a token bucket. Alerts which
+ *     exceed the rate limit go to the overflow.</li>
+ * </ul>
+ * The timeouts of toast alerts are managed by the alert group using a single timer and a time-ordered queue. Hovering over
+ * the alert group pauses all timeouts.
  *
  * @see <a href=
  *      "https://www.patternfly.org/components/alert#alert-group-examples">
@@ -97,11 +127,32 @@ public class AlertGroup extends BaseComponent<HTMLUListElement, AlertGroup> impl
 
     // ------------------------------------------------------ instance
 
+    private static final Function<Alert, String> DEFAULT_DEDUP_KEY = alert -> alert.severity.name() + ":" + alert.title;
     private static AlertGroup toast;
     private final AlertGroupType type;
     private final Map<String, Alert> items;
     private final int timeout;
     private final AurHandler<AlertGroup, Alert> aur;
+    // visible and overflow alerts, oldest first
+    private final Map<String, Alert> visible;
+    private final Map<String, Alert> overflowing;
+    private final Map<String, Alert> byDedupKey;
+    private final PriorityQueue<Expiry> expiries;
+    private final List<ComponentHandler<AlertGroup>> overflowHandler;
+    private int maxVisible;
+    private int sequence;
+    private Function<Alert, String> dedupKey;
+    private int burst;
+    private double refillRate; // tokens per ms
+    private double tokens;
+    private double lastRefill;
+    private double refillHandle;
+    private HTMLElement overflowElement;
+    private HTMLElement overflowButton;
+    private double timerHandle;
+    private double timerDeadline;
+    private double pausedAt;
+    private double pausedTotal;
 
     AlertGroup(AlertGroupType type, int timeout) {
         super(ComponentType.AlertGroup, ul().css(component(alertGroup))
@@ -111,6 +162,12 @@ public class AlertGroup extends BaseComponent<HTMLUListElement, AlertGroup> impl
         this.timeout = timeout;
         this.items = new LinkedHashMap<>();
         this.aur = new AurHandler<>(this);
+        this.visible = new LinkedHashMap<>();
+        this.overflowing = new LinkedHashMap<>();
+        this.byDedupKey = new HashMap<>();
+        this.expiries = new PriorityQueue<>();
+        this.overflowHandler = new ArrayList<>();
+        this.pausedAt = -1;
         storeComponent();
 
         if (type == AlertGroupType.dynamic || type == AlertGroupType.toast) {
@@ -118,6 +175,8 @@ public class AlertGroup extends BaseComponent<HTMLUListElement, AlertGroup> impl
             aria(atomic, false);
             if (type == AlertGroupType.toast) {
                 css(modifier(Classes.toast));
+                on(mouseenter, e -> pause());
+                on(mouseleave, e -> resume());
             }
         }
     }
@@ -126,16 +185,45 @@ public class AlertGroup extends BaseComponent<HTMLUListElement, AlertGroup> impl
 
     @Override
     public AlertGroup add(Alert alert) {
-        items.put(alert.identifier(), alert);
         if (type == AlertGroupType.toast) {
+            if (dedupKey != null) {
+                String key = dedupKey.apply(alert);
+                Alert existing = byDedupKey.get(key);
+                if (existing != null) {
+                    existing.repeat();
+                    existing.sequence = ++sequence;
+                    scheduleExpiry(existing);
+                    if (visible.containsKey(existing.identifier())) {
+                        // move to the top
+                        show(existing);
+                    }
+                    return this;
+                }
+                alert.dedupKey = key;
+                byDedupKey.put(key, alert);
+            }
+            items.put(alert.identifier(), alert);
+            alert.group = this;
+            alert.sequence = ++sequence;
             if (timeout != NO_TIMEOUT && alert.timeout == NO_TIMEOUT) {
                 alert.timeout(timeout);
             }
             if (alert.closeButton == null) {
                 alert.closable();
             }
-            insertFirst(element(), li().add(alert));
+            if (alert.timeout > MIN_TIMEOUT) {
+                alert.managed = true;
+                scheduleExpiry(alert);
+            }
+            if (acquireToken()) {
+                show(alert);
+            } else {
+                overflowing.put(alert.identifier(), alert);
+                scheduleRefill();
+            }
+            updateOverflow();
         } else {
+            items.put(alert.identifier(), alert);
             if (type == AlertGroupType.staticInline) {
                 if (!alert.element().classList.contains(modifier(inline))) {
                     alert.inline();
@@ -148,6 +236,47 @@ public class AlertGroup extends BaseComponent<HTMLUListElement, AlertGroup> impl
 
     // ------------------------------------------------------ builder
 
+    /**
+     * Shows at most the specified number of alerts in a toast alert group. If more alerts are added, the oldest alerts are
+     * hidden and summarized in an overflow button. Hidden alerts are shown again as soon as visible alerts are closed or
+     * time out.
+     */
+    public AlertGroup maxVisible(int maxVisible) {
+        this.maxVisible = Math.max(0, maxVisible);
+        return this;
+    }
+
+    /**
+     * Same as {@linkplain #deduplicate(Function) deduplicate(alert -> severity + title)}: Alerts with the same severity and
+     * title are considered duplicates.
+     */
+    public AlertGroup deduplicate() {
+        return deduplicate(DEFAULT_DEDUP_KEY);
+    }
+
+    /**
+     * Deduplicates alerts in a toast alert group. If an alert with the same key is already part of the group, the new alert
+     * is not added. Instead, the repeat counter of the existing alert is incremented, its timeout is restarted, and it is
+     * moved to the top.
+     */
+    public AlertGroup deduplicate(Function<Alert, String> key) {
+        this.dedupKey = key;
+        return this;
+    }
+
+    /**
+     * Limits the rate of new alerts in a toast alert group using a token bucket: At most {@code burst} alerts are shown at
+     * once, and the bucket is refilled with {@code perSecond} tokens per second. Alerts which exceed the rate limit are not
+     * shown, but go to the overflow. They are shown at their original position as soon as the bucket has been refilled.
+     */
+    public AlertGroup rateLimit(int burst, int perSecond) {
+        this.burst = Math.max(1, burst);
+        this.refillRate = Math.max(0, perSecond) / 1000.0;
+        this.tokens = this.burst;
+        this.lastRefill = performance.now();
+        return this;
+    }
+
     @Override
     public AlertGroup that() {
         return this;
@@ -170,6 +299,15 @@ public class AlertGroup extends BaseComponent<HTMLUListElement, AlertGroup> impl
         return aur.onRemove(onRemove);
     }
 
+    /**
+     * Defines a handler which is called if the overflow button of a toast alert group is clicked. If no handler is defined,
+     * clicking the overflow button shows all hidden alerts.
+     */
+    public AlertGroup onOverflowClick(ComponentHandler<AlertGroup> handler) {
+        this.overflowHandler.add(handler);
+        return this;
+    }
+
     // ------------------------------------------------------ api
 
     @Override
@@ -205,16 +343,75 @@ public class AlertGroup extends BaseComponent<HTMLUListElement, AlertGroup> impl
         });
     }
 
+    /**
+     * Reorders the alerts. In a toast alert group, the order is interpreted as the age of the alerts (oldest first): Visible
+     * alerts are shown newest first, and hidden alerts are promoted in this order.
+     */
+    @Override
+    public void reorderItems(List<Alert> items) {
+        if (type == AlertGroupType.toast) {
+            Map<String, Alert> remaining = new LinkedHashMap<>(this.items);
+            this.items.clear();
+            for (Alert item : items) {
+                if (remaining.remove(item.identifier()) != null) {
+                    this.items.put(item.identifier(), item);
+                }
+            }
+            this.items.putAll(remaining);
+
+            // the new order is the age of the alerts (oldest first)
+            Map<String, Alert> reorderedVisible = new LinkedHashMap<>();
+            Map<String, Alert> reorderedOverflowing = new LinkedHashMap<>();
+            for (Alert alert : this.items.values()) {
+                alert.sequence = ++sequence;
+                if (visible.containsKey(alert.identifier())) {
+                    reorderedVisible.put(alert.identifier(), alert);
+                } else if (overflowing.containsKey(alert.identifier())) {
+                    reorderedOverflowing.put(alert.identifier(), alert);
+                }
+            }
+            visible.clear();
+            visible.putAll(reorderedVisible);
+            overflowing.clear();
+            overflowing.putAll(reorderedOverflowing);
+
+            // render the visible alerts newest first
+            List<Alert> shown = new ArrayList<>(visible.values());
+            Node expected = element().firstChild;
+            for (int i = shown.size() - 1; i >= 0; i--) {
+                Element element = shown.get(i).element().parentElement;
+                if (element == expected) {
+                    expected = expected.nextSibling;
+                } else {
+                    element().insertBefore(element, expected);
+                }
+            }
+        } else {
+            KeyedDiff.reorder(this.items, items);
+        }
+    }
+
     @Override
     public void removeItem(String identifier) {
-        Alert item = items.remove(identifier);
-        failSafeRemoveFromParent(item);
-        aur.removed(item);
+        Alert item = items.get(identifier);
+        if (item != null) {
+            closeAlert(item);
+            aur.removed(item);
+        }
     }
 
     @Override
     public void clear() {
         removeChildrenFrom(element());
+        overflowElement = null;
+        visible.clear();
+        overflowing.clear();
+        byDedupKey.clear();
+        expiries.clear();
+        clearTimeout(timerHandle);
+        timerDeadline = 0;
+        clearTimeout(refillHandle);
+        refillHandle = 0;
         Iterator<Alert> iterator = items.values().iterator();
         while (iterator.hasNext()) {
             Alert item = iterator.next();
@@ -223,14 +420,229 @@ public class AlertGroup extends BaseComponent<HTMLUListElement, AlertGroup> impl
         }
     }
 
+    /** Returns the number of alerts which are part of a toast alert group, but currently not shown. */
+    public int overflowCount() {
+        return overflowing.size();
+    }
+
     // ------------------------------------------------------ internal
 
     void closeAlert(Alert alert) {
         Element element = alert.element().parentElement;
-        if (element != null) {
+        if (element != null && element.parentElement == element()) {
             failSafeRemoveFromParent(element);
         } else {
             failSafeRemoveFromParent(alert);
         }
+        items.remove(alert.identifier());
+        alert.group = null;
+        if (type == AlertGroupType.toast) {
+            overflowing.remove(alert.identifier());
+            if (visible.remove(alert.identifier()) != null) {
+                promote();
+            }
+            if (alert.dedupKey != null && byDedupKey.get(alert.dedupKey) == alert) {
+                byDedupKey.remove(alert.dedupKey);
+            }
+            updateOverflow();
+        }
+    }
+
+    // ------------------------------------------------------ visible & overflow
+
+    // shows the alert at its age position: visible alerts are kept oldest first and rendered newest first
+    private void show(Alert alert) {
+        Element element = alert.element().parentElement;
+        if (element == null || element.parentElement != element()) {
+            element = li().add(alert).element();
+        }
+        visible.remove(alert.identifier());
+        Alert older = null;
+        List<Alert> younger = new ArrayList<>();
+        for (Alert a : visible.values()) {
+            if (a.sequence < alert.sequence) {
+                older = a;
+            } else {
+                younger.add(a);
+            }
+        }
+        visible.put(alert.identifier(), alert);
+        for (Alert a : younger) {
+            visible.remove(a.identifier());
+            visible.put(a.identifier(), a);
+        }
+        if (older != null) {
+            element().insertBefore(element, older.element().parentElement);
+        } else if (overflowElement != null && overflowElement.parentElement == element()) {
+            element().insertBefore(element, overflowElement);
+        } else {
+            element().appendChild(element);
+        }
+        if (maxVisible > 0) {
+            while (visible.size() > maxVisible) {
+                Alert oldest = visible.values().iterator().next();
+                visible.remove(oldest.identifier());
+                hide(oldest);
+                overflowing.put(oldest.identifier(), oldest);
+            }
+        }
+    }
+
+    private void hide(Alert alert) {
+        Element element = alert.element().parentElement;
+        if (element != null && element.parentElement == element()) {
+            failSafeRemoveFromParent(element);
+        }
+    }
+
+    private void promote() {
+        if (!overflowing.isEmpty() && (maxVisible == 0 || visible.size() < maxVisible)) {
+            Alert next = overflowing.values().iterator().next();
+            overflowing.remove(next.identifier());
+            show(next);
+        }
+    }
+
+    private void updateOverflow() {
+        int count = overflowing.size();
+        if (count > 0) {
+            if (overflowElement == null) {
+                overflowElement = li().add(overflowButton = button().css(component(alertGroup, overflow, Classes.button))
+                                .on(click, this::onOverflowClick)
+                                .element())
+                        .element();
+            }
+            if (overflowElement.parentElement == null) {
+                element().appendChild(overflowElement);
+            }
+            overflowButton.textContent = "View " + count + " more alert" + (count == 1 ? "" : "s");
+        } else if (overflowElement != null) {
+            failSafeRemoveFromParent(overflowElement);
+        }
+    }
+
+    private void onOverflowClick(Event event) {
+        if (overflowHandler.isEmpty()) {
+            maxVisible = 0;
+            while (!overflowing.isEmpty()) {
+                promote();
+            }
+            updateOverflow();
+        } else {
+            overflowHandler.forEach(h -> h.handle(event, this));
+        }
+    }
+
+    // promotes overflowing alerts as soon as the token bucket has been refilled
+    private void scheduleRefill() {
+        if (refillRate > 0 && refillHandle == 0 && !overflowing.isEmpty()
+                && (maxVisible == 0 || visible.size() < maxVisible)) {
+            double wait = Math.max(0, (1 - tokens) / refillRate);
+            refillHandle = setTimeout(__ -> refill(), wait);
+        }
+    }
+
+    private void refill() {
+        refillHandle = 0;
+        while (!overflowing.isEmpty() && (maxVisible == 0 || visible.size() < maxVisible) && acquireToken()) {
+            promote();
+        }
+        updateOverflow();
+        scheduleRefill();
+    }
+
+    private boolean acquireToken() {
+        if (refillRate <= 0 && burst == 0) {
+            return true; // no rate limit
+        }
+        double now = performance.now();
+        tokens = Math.min(burst, tokens + (now - lastRefill) * refillRate);
+        lastRefill = now;
+        if (tokens >= 1) {
+            tokens--;
+            return true;
+        }
+        return false;
+    }
+
+    // ------------------------------------------------------ expiry
+
+    // the clock of the alert group doesn't advance while the alert group is paused
+    private double clock() {
+        return (pausedAt >= 0 ? pausedAt : performance.now()) - pausedTotal;
+    }
+
+    private void scheduleExpiry(Alert alert) {
+        if (alert.managed) {
+            alert.expiryVersion++;
+            expiries.add(new Expiry(alert, alert.expiryVersion, clock() + alert.timeout));
+            scheduleTimer();
+        }
+    }
+
+    private void scheduleTimer() {
+        if (pausedAt >= 0) {
+            return;
+        }
+        Expiry next = expiries.peek();
+        if (next == null) {
+            clearTimeout(timerHandle);
+            timerDeadline = 0;
+        } else if (timerDeadline == 0 || next.deadline < timerDeadline) {
+            clearTimeout(timerHandle);
+            timerDeadline = next.deadline;
+            timerHandle = setTimeout(__ -> expire(), Math.max(0, next.deadline - clock()));
+        }
+    }
+
+    private void expire() {
+        timerDeadline = 0;
+        double now = clock();
+        List<Alert> expired = new ArrayList<>();
+        while (!expiries.isEmpty() && expiries.peek().deadline <= now) {
+            Expiry expiry = expiries.poll();
+            // skip stale entries (the alert has been closed or its timeout has been restarted)
+            if (expiry.version == expiry.alert.expiryVersion && items.containsKey(expiry.alert.identifier())) {
+                expired.add(expiry.alert);
+            }
+        }
+        for (Alert alert : expired) {
+            alert.close();
+        }
+        scheduleTimer();
+    }
+
+    private void pause() {
+        if (pausedAt < 0) {
+            pausedAt = performance.now();
+            clearTimeout(timerHandle);
+            timerDeadline = 0;
+        }
+    }
+
+    private void resume() {
+        if (pausedAt >= 0) {
+            pausedTotal += performance.now() - pausedAt;
+            pausedAt = -1;
+            scheduleTimer();
+        }
+    }
+
+    private static class Expiry implements Comparable<Expiry> {
+
+        final Alert alert;
+        final int version;
+        final double deadline;
+
+        Expiry(Alert alert, int version, double deadline) {
+            this.alert = alert;
+            this.version = version;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public int compareTo(Expiry other) {
+            return Double.compare(deadline, other.deadline);
+        }
     }
 }
@@ -27,6 +27,7 @@ import org.patternfly.component.AurHandler;
 import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
 import org.patternfly.component.HasItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 import org.patternfly.core.Aria;
@@ -157,6 +158,11 @@ public class Breadcrumb extends BaseComponent<HTMLElement, Breadcrumb> implement
         });
     }
 
+    @Override
+    public void reorderItems(List<BreadcrumbItem> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         BreadcrumbItem item = items.remove(identifier);
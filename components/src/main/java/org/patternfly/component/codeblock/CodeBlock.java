@@ -20,6 +20,7 @@ import org.jboss.elemento.Elements;
 import org.jboss.elemento.Id;
 import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
+import org.patternfly.component.TextStream;
 import org.patternfly.component.expandable.ExpandableSection;
 import org.patternfly.style.Classes;
 
@@ -27,7 +28,8 @@ import elemental2.dom.HTMLDivElement;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.MutationRecord;
 
-import static java.util.Arrays.copyOfRange;
+import static elemental2.dom.DomGlobal.cancelAnimationFrame;
+import static elemental2.dom.DomGlobal.requestAnimationFrame;
 import static org.jboss.elemento.Elements.div;
 import static org.jboss.elemento.Elements.failSafeRemoveFromParent;
 import static org.jboss.elemento.Elements.insertAfter;
@@ -48,6 +50,14 @@ import static org.patternfly.style.Classes.pre;
 /**
  * A code block is a component that contains two or more lines of read-only code. The code in a code block can be copied to the
  * clipboard.
+ * <p>
+ * For large documents like logs or big YAML files, use {@link #largeDocument(int)}. In this mode, the code block indexes the
+ * line offsets once per {@linkplain #code(String) update} and renders only the lines which are visible in a scrollable
+ * window. Truncation and {@linkplain #search(String) search} work on the line index and never render the whole document.
+ * <p>
+ * To follow a growing document like a log file, use {@link #append(String)} together with {@link #maxLines(int)}. The
+ * appended chunks are written at most once per animation frame, and the code block sticks to the bottom as long as the
+ * user has not scrolled up.
  *
  * @see <a href= "https://www.patternfly.org/components/code-block">https://www.patternfly.org/components/code-block</a>
  */
@@ -66,11 +76,23 @@ public class CodeBlock extends BaseComponent<HTMLDivElement, CodeBlock> implemen
     // ------------------------------------------------------ instance
 
     public static final int DEFAULT_TRUNCATE = 3;
+    public static final int DEFAULT_VISIBLE_LINES = 25;
+    private static final int[] NO_MATCHES = new int[0];
 
     private final HTMLElement preElement;
     private final HTMLElement codeElement;
     private String code;
+    private LineIndex index;
     private int truncate;
+    private boolean expanded;
+    private CodeBlockViewport viewport;
+    private String query;
+    private int[] matches;
+    private int currentMatch;
+    private int maxLines;
+    private TextStream stream;
+    private StringBuilder pending;
+    private double animationFrame;
     private CodeBlockHeader header;
     private ExpandableSection esCode;
     private ExpandableSection esTrigger;
@@ -84,17 +106,35 @@ public class CodeBlock extends BaseComponent<HTMLDivElement, CodeBlock> implemen
                                 .element())
                         .element()));
 
+        this.index = new LineIndex(null);
+        this.matches = NO_MATCHES;
+        this.currentMatch = -1;
         storeComponent();
         Attachable.register(this, this);
     }
 
     @Override
     public void attach(MutationRecord mutationRecord) {
-        if (mustSplitCode()) {
+        if (viewport != null) {
+            viewport.attach();
+            updateViewport();
+        } else if (stream == null && mustSplitCode()) {
             splitCode();
         }
     }
 
+    @Override
+    public void detach(MutationRecord mutationRecord) {
+        if (viewport != null) {
+            viewport.detach();
+        }
+        if (stream != null) {
+            stream.cancel();
+        }
+        cancelAnimationFrame(animationFrame);
+        animationFrame = 0;
+    }
+
     // ------------------------------------------------------ add
 
     public CodeBlock addHeader(CodeBlockHeader header) {
@@ -131,9 +171,48 @@ public class CodeBlock extends BaseComponent<HTMLDivElement, CodeBlock> implemen
         return this;
     }
 
+    /** Same as {@linkplain #largeDocument(int) largeDocument(DEFAULT_VISIBLE_LINES)} */
+    public CodeBlock largeDocument() {
+        return largeDocument(DEFAULT_VISIBLE_LINES);
+    }
+
+    /**
+     * Enables the large document mode: The code block shows a scrollable window of {@code visibleLines} lines and renders
+     * only the visible lines. Must be called before the code block is attached.
+     */
+    public CodeBlock largeDocument(int visibleLines) {
+        viewport = new CodeBlockViewport(preElement, codeElement, visibleLines);
+        codeElement.textContent = ""; // the lines are rendered by the viewport once attached
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of lines kept when {@linkplain #append(String) appending} code. If the code grows beyond this
+     * limit, the oldest lines are dropped. Use {@code 0} (the default) to keep all lines.
+     */
+    public CodeBlock maxLines(int maxLines) {
+        this.maxLines = Math.max(0, maxLines);
+        if (stream != null) {
+            stream.maxLines(this.maxLines);
+        }
+        return this;
+    }
+
     public CodeBlock code(String code) {
         this.code = code;
-        if (element().isConnected) { // already attached?
+        this.index = new LineIndex(code);
+        if (pending != null) {
+            pending.setLength(0);
+        }
+        if (stream != null) {
+            stream.reset(code);
+        } else if (viewport != null) {
+            matches = index.find(query);
+            currentMatch = -1;
+            if (element().isConnected) {
+                updateViewport();
+            }
+        } else if (element().isConnected) { // already attached?
             if (mustSplitCode()) {
                 splitCode();
             } else {
@@ -154,22 +233,203 @@ public class CodeBlock extends BaseComponent<HTMLDivElement, CodeBlock> implemen
     // ------------------------------------------------------ api
 
     public String code() {
+        if (viewport != null) {
+            return index.text();
+        } else if (stream != null) {
+            stream.flush();
+            return codeElement.textContent;
+        }
         return code;
     }
 
+    /**
+     * Appends a chunk of code. Use this method to follow a growing document like a log file. The chunks are buffered and
+     * written at most once per animation frame. If the code block was scrolled to the bottom, it stays at the bottom.
+     * Appending code disables the truncation of a code block which is not in the {@linkplain #largeDocument(int) large
+     * document mode}.
+     */
+    public CodeBlock append(String chunk) {
+        if (chunk == null || chunk.isEmpty()) {
+            return this;
+        }
+        if (viewport != null) {
+            if (pending == null) {
+                pending = new StringBuilder();
+            }
+            pending.append(chunk);
+            if (animationFrame == 0) {
+                animationFrame = requestAnimationFrame(__ -> {
+                    animationFrame = 0;
+                    flushLargeDocument();
+                });
+            }
+        } else {
+            if (stream == null) {
+                unsplitCode();
+                stream = new TextStream(codeElement, preElement);
+                stream.maxLines(maxLines);
+                stream.reset(code);
+            }
+            stream.append(chunk);
+        }
+        return this;
+    }
+
+    /** Returns the number of lines of the code. */
+    public int lineCount() {
+        if (stream != null) {
+            stream.flush();
+            return stream.lineCount();
+        }
+        return index.count();
+    }
+
+    /**
+     * Searches the code for the given query (case-insensitive) and reveals the first match. In the large document mode, the
+     * match is highlighted and scrolled into view. If the code is truncated and the match is in the hidden part, the code block
+     * is expanded.
+     *
+     * @return the number of matches
+     */
+    public int search(String query) {
+        if (stream != null) {
+            index = new LineIndex(code());
+        }
+        this.query = query;
+        this.matches = index.find(query);
+        this.currentMatch = -1;
+        if (matches.length == 0) {
+            clearMatch();
+        } else {
+            revealMatch(0);
+        }
+        return matches.length;
+    }
+
+    /** Reveals the next match of the last {@linkplain #search(String) search}. Wraps around at the end. */
+    public void nextMatch() {
+        if (matches.length != 0) {
+            revealMatch((currentMatch + 1) % matches.length);
+        }
+    }
+
+    /** Reveals the previous match of the last {@linkplain #search(String) search}. Wraps around at the start. */
+    public void previousMatch() {
+        if (matches.length != 0) {
+            revealMatch((currentMatch - 1 + matches.length) % matches.length);
+        }
+    }
+
+    /** Returns the index of the current match or {@code -1} if there's no current match. */
+    public int currentMatch() {
+        return currentMatch;
+    }
+
+    public void clearSearch() {
+        query = null;
+        matches = NO_MATCHES;
+        clearMatch();
+    }
+
     // ------------------------------------------------------ internal
 
-    private String[] lines() {
-        return code != null && !code.trim().isEmpty() ? code.split("\n") : new String[0];
+    private void revealMatch(int match) {
+        currentMatch = match;
+        int start = matches[match];
+        if (mustSplitCode() && !expanded && index.lineAt(start) >= truncate) {
+            expanded = true;
+            if (esTrigger != null) {
+                esTrigger.expand(false);
+            } else if (esCode != null) {
+                esCode.expand(false);
+            }
+        }
+        if (viewport != null) {
+            updateViewport();
+            viewport.reveal(start, start + query.length());
+        }
+    }
+
+    private void flushLargeDocument() {
+        if (pending.length() != 0) {
+            boolean atBottom = viewport.atBottom();
+            index.append(pending.toString());
+            pending.setLength(0);
+            int dropped = maxLines > 0 && index.count() > maxLines ? index.dropFirst(index.count() - maxLines) : 0;
+            if (query != null) {
+                updateMatches(dropped);
+            }
+            if (element().isConnected) {
+                updateViewport();
+                if (atBottom) {
+                    viewport.scrollToBottom();
+                }
+            }
+        }
+    }
+
+    // Keeps the current match (if any) after the code has changed.
+    private void updateMatches(int dropped) {
+        int offset = currentMatch >= 0 ? matches[currentMatch] - dropped : -1;
+        matches = index.find(query);
+        currentMatch = -1;
+        if (offset >= 0) {
+            for (int i = 0; i < matches.length; i++) {
+                if (matches[i] >= offset) {
+                    currentMatch = i;
+                    break;
+                }
+            }
+        }
+        if (currentMatch >= 0) {
+            viewport.mark(matches[currentMatch], matches[currentMatch] + query.length());
+        } else {
+            viewport.clearMark();
+        }
+    }
+
+    private void clearMatch() {
+        currentMatch = -1;
+        if (viewport != null) {
+            viewport.clearMark();
+        }
     }
 
     private boolean mustSplitCode() {
-        return truncate > 0 && truncate < lines().length;
+        return truncate > 0 && truncate < index.count();
+    }
+
+    private void updateViewport() {
+        if (mustSplitCode()) {
+            if (esTrigger == null) {
+                // the lines are rendered by the viewport, the content of the expandable section is just a placeholder
+                String esId = Id.unique(componentType().id, "es-code");
+                esCode = expandableSection(esId)
+                        .detached()
+                        .addContent(expandableSectionContent());
+                esTrigger = expandableSection(esId)
+                        .detached()
+                        .addToggle(expandableSectionToggle("Show more", "Show less"))
+                        .onToggle((e, es, expanded) -> {
+                            this.expanded = expanded;
+                            viewport.update(index, expanded ? index.count() : truncate);
+                        });
+                insertAfter(esCode.element(), codeElement);
+                insertAfter(esTrigger.element(), preElement);
+                if (expanded) {
+                    esTrigger.expand(false);
+                }
+            }
+            viewport.update(index, expanded ? index.count() : truncate);
+        } else {
+            unsplitCode();
+            viewport.update(index, index.count());
+        }
     }
 
     private void splitCode() {
-        String visibleCode = String.join("\n", copyOfRange(lines(), 0, truncate));
-        String moreCode = String.join("\n", copyOfRange(lines(), truncate, lines().length));
+        String visibleCode = index.lines(0, truncate);
+        String moreCode = index.lines(truncate, index.count());
 
         if (esCode == null && esTrigger == null) {
             String esId = Id.unique(componentType().id, "es-code");
@@ -0,0 +1,185 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component.codeblock;
+
+import org.gwtproject.event.shared.HandlerRegistration;
+
+import elemental2.dom.AddEventListenerOptions;
+import elemental2.dom.HTMLElement;
+
+import static elemental2.dom.DomGlobal.cancelAnimationFrame;
+import static elemental2.dom.DomGlobal.document;
+import static elemental2.dom.DomGlobal.requestAnimationFrame;
+import static org.jboss.elemento.Elements.removeChildrenFrom;
+import static org.jboss.elemento.EventType.bind;
+import static org.jboss.elemento.EventType.scroll;
+
+/**
+ * Internal helper that implements the large document mode of {@link CodeBlock}.
+ * <p>
+ * The viewport turns the {@code <pre/>} element into a scrollable window of a fixed number of lines and renders only the
+ * lines which are visible (plus some lines above and below). The space of the lines which are not rendered is reserved
+ * using padding, so that the scrollbar reflects the size of the whole document. The lines are taken from a
+ * {@link LineIndex}, the text is never split. The line height is measured once. Scroll events are handled by a passive
+ * listener and coalesced to one update per animation frame.
+ */
+class CodeBlockViewport {
+
+    private static final int OVERSCAN = 10;
+
+    private final HTMLElement preElement;
+    private final HTMLElement codeElement;
+    private final int visibleLines;
+    private LineIndex index;
+    private HandlerRegistration scrollHandler;
+    private double lineHeight;
+    private double animationFrame;
+    private int lineCount;
+    private int first;
+    private int last;
+    private int markStart;
+    private int markEnd;
+
+    CodeBlockViewport(HTMLElement preElement, HTMLElement codeElement, int visibleLines) {
+        this.preElement = preElement;
+        this.codeElement = codeElement;
+        this.visibleLines = Math.max(1, visibleLines);
+        this.index = new LineIndex(null);
+        this.first = -1;
+        this.last = -1;
+        this.markStart = -1;
+        this.markEnd = -1;
+    }
+
+    void attach() {
+        codeElement.style.display = "block";
+        preElement.style.overflowY = "auto";
+        if (scrollHandler == null) {
+            AddEventListenerOptions options = AddEventListenerOptions.create();
+            options.setPassive(true);
+            scrollHandler = bind(preElement, scroll, options, e -> scheduleRender());
+        }
+        render(true);
+    }
+
+    void detach() {
+        cancelAnimationFrame(animationFrame);
+        animationFrame = 0;
+        if (scrollHandler != null) {
+            scrollHandler.removeHandler();
+            scrollHandler = null;
+        }
+    }
+
+    // ------------------------------------------------------ api
+
+    /** Sets the index and the number of lines to show (used to truncate the document). */
+    void update(LineIndex index, int lineCount) {
+        this.index = index;
+        this.lineCount = Math.min(lineCount, index.count());
+        render(true);
+    }
+
+    /** Highlights the text {@code [start, end)} and scrolls the line of {@code start} into the middle of the viewport. */
+    void reveal(int start, int end) {
+        markStart = start;
+        markEnd = end;
+        if (start >= 0 && measure()) {
+            int line = index.lineAt(start);
+            preElement.scrollTop = Math.max(0, (line - visibleLines / 2) * lineHeight);
+        }
+        render(true);
+    }
+
+    /** Highlights the text {@code [start, end)} without scrolling. */
+    void mark(int start, int end) {
+        markStart = start;
+        markEnd = end;
+        render(true);
+    }
+
+    boolean atBottom() {
+        return preElement.scrollHeight - preElement.scrollTop - preElement.clientHeight <= 2;
+    }
+
+    void scrollToBottom() {
+        preElement.scrollTop = preElement.scrollHeight;
+        render(false);
+    }
+
+    void clearMark() {
+        markStart = -1;
+        markEnd = -1;
+        render(true);
+    }
+
+    // ------------------------------------------------------ internal
+
+    private void scheduleRender() {
+        if (animationFrame == 0) {
+            animationFrame = requestAnimationFrame(__ -> {
+                animationFrame = 0;
+                render(false);
+            });
+        }
+    }
+
+    private void render(boolean force) {
+        if (!preElement.isConnected || !measure()) {
+            return;
+        }
+        int top = (int) Math.floor(preElement.scrollTop / lineHeight);
+        int from = Math.max(0, top - OVERSCAN);
+        int to = Math.min(lineCount, top + visibleLines + OVERSCAN);
+        if (force || from != first || to != last) {
+            first = from;
+            last = to;
+            codeElement.style.paddingTop = (from * lineHeight) + "px";
+            codeElement.style.paddingBottom = ((lineCount - to) * lineHeight) + "px";
+            if (from >= to) {
+                codeElement.textContent = "";
+            } else {
+                int start = index.start(from);
+                int end = index.end(to - 1);
+                if (markStart >= start && markEnd <= end && markStart < markEnd) {
+                    String text = index.text();
+                    removeChildrenFrom(codeElement);
+                    codeElement.appendChild(document.createTextNode(text.substring(start, markStart)));
+                    HTMLElement mark = (HTMLElement) document.createElement("mark");
+                    mark.textContent = text.substring(markStart, markEnd);
+                    codeElement.appendChild(mark);
+                    codeElement.appendChild(document.createTextNode(text.substring(markEnd, end)));
+                } else {
+                    codeElement.textContent = index.lines(from, to);
+                }
+            }
+        }
+    }
+
+    private boolean measure() {
+        if (lineHeight <= 0) {
+            codeElement.style.paddingTop = "0";
+            codeElement.style.paddingBottom = "0";
+            codeElement.textContent = "X";
+            lineHeight = codeElement.getBoundingClientRect().height;
+            codeElement.textContent = "";
+            if (lineHeight > 0) {
+                preElement.style.maxHeight = (visibleLines * lineHeight) + "px";
+            }
+        }
+        return lineHeight > 0;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component.codeblock;
+
+import java.util.Arrays;
+
+/**
+ * Index of the line offsets of a text. The index is built once in a single pass and is used to get the number of lines,
+ * ranges of lines and the line of a text offset without splitting the text. Appending text only scans the appended text.
+ * The lines are the same as the ones returned by {@code text.split("\n")}, i.e. trailing empty lines are not counted and
+ * a blank text has no lines.
+ */
+final class LineIndex {
+
+    private static final int[] NO_MATCHES = new int[0];
+
+    private String text;
+    private int[] starts;
+    private int rawCount;
+    private int count;
+    private String lowerCaseText;
+
+    LineIndex(String text) {
+        this.text = "";
+        this.starts = new int[64];
+        this.rawCount = 1;
+        this.count = 0;
+        append(text);
+        if (this.text.trim().isEmpty()) {
+            this.count = 0;
+        }
+    }
+
+    /** Appends the given text and indexes the new lines. Only the appended text is scanned. */
+    void append(String chunk) {
+        if (chunk != null && !chunk.isEmpty()) {
+            int base = text.length();
+            text = text + chunk;
+            lowerCaseText = null;
+            int newline = chunk.indexOf('\n');
+            while (newline != -1) {
+                if (rawCount == starts.length) {
+                    starts = Arrays.copyOf(starts, rawCount * 2);
+                }
+                starts[rawCount++] = base + newline + 1;
+                newline = chunk.indexOf('\n', newline + 1);
+            }
+            updateCount();
+        }
+    }
+
+    /**
+     * Removes the first {@code lines} lines.
+     *
+     * @return the number of removed characters
+     */
+    int dropFirst(int lines) {
+        lines = Math.min(lines, rawCount - 1);
+        if (lines <= 0) {
+            return 0;
+        }
+        int offset = starts[lines];
+        text = text.substring(offset);
+        lowerCaseText = null;
+        rawCount -= lines;
+        System.arraycopy(starts, lines, starts, 0, rawCount);
+        for (int i = 0; i < rawCount; i++) {
+            starts[i] -= offset;
+        }
+        updateCount();
+        return offset;
+    }
+
+    /** The number of lines */
+    int count() {
+        return count;
+    }
+
+    /** The offset of the first character of the given line */
+    int start(int line) {
+        return starts[line];
+    }
+
+    /** The offset after the last character of the given line (excluding the line break) */
+    int end(int line) {
+        return line + 1 < rawCount ? starts[line + 1] - 1 : text.length();
+    }
+
+    String line(int line) {
+        return text.substring(start(line), end(line));
+    }
+
+    /** Returns the lines {@code [from, to)} joined by line breaks. */
+    String lines(int from, int to) {
+        from = Math.max(0, from);
+        to = Math.min(count, to);
+        return from < to ? text.substring(start(from), end(to - 1)) : "";
+    }
+
+    /** Returns the line which contains the given offset. */
+    int lineAt(int offset) {
+        int low = 0;
+        int high = count - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (starts[mid] <= offset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return Math.max(0, low);
+    }
+
+    /** Returns the offsets of all occurrences of the given query (case-insensitive). */
+    int[] find(String query) {
+        if (query == null || query.isEmpty() || count == 0) {
+            return NO_MATCHES;
+        }
+        if (lowerCaseText == null) {
+            lowerCaseText = text.toLowerCase();
+        }
+        String q = query.toLowerCase();
+        int[] matches = new int[16];
+        int size = 0;
+        int offset = lowerCaseText.indexOf(q);
+        while (offset != -1) {
+            if (size == matches.length) {
+                matches = Arrays.copyOf(matches, size * 2);
+            }
+            matches[size++] = offset;
+            offset = lowerCaseText.indexOf(q, offset + q.length());
+        }
+        return Arrays.copyOf(matches, size);
+    }
+
+    String text() {
+        return text;
+    }
+
+    private void updateCount() {
+        // same as String.split(): ignore trailing empty lines
+        int effective = rawCount;
+        while (effective > 0 && end(effective - 1) == starts[effective - 1]) {
+            effective--;
+        }
+        count = effective;
+    }
+}
@@ -18,7 +18,8 @@
  * <p>
  * A code block contains a read-only block of code that can be copied to the clipboard. It can include actions such as a
  * copy-to-clipboard button or custom action buttons. The code block also supports a truncated/expandable view for long code
- * snippets.
+ * snippets. For large documents such as logs, the code block provides a windowed mode which renders only the visible
+ * lines and supports searching within the code.
  *
  * <h2>Usage</h2>
  *
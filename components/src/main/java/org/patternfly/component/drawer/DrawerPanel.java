@@ -41,9 +41,12 @@ import elemental2.dom.MutationRecord;
 import elemental2.dom.TouchEvent;
 
 import static elemental2.core.JsNumber.EPSILON;
+import static elemental2.dom.DomGlobal.cancelAnimationFrame;
 import static elemental2.dom.DomGlobal.document;
+import static elemental2.dom.DomGlobal.requestAnimationFrame;
 import static org.jboss.elemento.Elements.div;
 import static org.jboss.elemento.EventType.bind;
+import static org.jboss.elemento.EventType.focusout;
 import static org.jboss.elemento.EventType.keydown;
 import static org.jboss.elemento.EventType.mousedown;
 import static org.jboss.elemento.EventType.mousemove;
@@ -84,6 +87,10 @@ import static org.patternfly.style.Variables.FlexBasis;
 /**
  * The sliding panel in a {@link Drawer} component. Elements should not be added directly to this subcomponent, but instead
  * nested inside a {@link DrawerBody} or {@link DrawerPanelHead}.
+ * <p>
+ * If the panel is {@linkplain #resizable() resizable}, the geometry of the drawer is read once when resizing starts (by mouse,
+ * touch or keyboard). While resizing, the new size is applied at most once per animation frame. By default, the
+ * {@link ResizeHandler}s are notified when resizing ends. Use {@link #resizeInterval(int)} to get notified while resizing.
  */
 public class DrawerPanel extends DrawerSubComponent<HTMLDivElement, DrawerPanel> implements
         Attachable,
@@ -101,10 +108,17 @@ public class DrawerPanel extends DrawerSubComponent<HTMLDivElement, DrawerPanel>
     public static final String SUB_COMPONENT_ID = "dp";
     public static final String SUB_COMPONENT_NAME = "DrawerPanel";
     private int increment;
+    private int resizeInterval;
     private boolean resizable;
     private boolean isResizing;
-    private boolean setInitialVals;
+    private boolean keyboardResizing;
+    private boolean geometryCaptured;
+    private boolean rtl;
     private double currentWidth, start, end, bottom;
+    private double drawerSize, splitterOffset;
+    private double pendingSize;
+    private double animationFrame;
+    private double lastNotification;
     private String ariaResizeLabel;
     private Drawer drawer;
     private HTMLContainerBuilder<HTMLDivElement> splitterElement;
@@ -115,14 +129,17 @@ public class DrawerPanel extends DrawerSubComponent<HTMLDivElement, DrawerPanel>
     private HandlerRegistration touchMoveHandler;
     private HandlerRegistration touchEndHandler;
     private HandlerRegistration keyDownHandler;
+    private HandlerRegistration focusOutHandler;
     private final List<ResizeHandler<DrawerPanel>> resizeHandler;
 
     DrawerPanel() {
         super(SUB_COMPONENT_ID, SUB_COMPONENT_NAME, div().css(component(Classes.drawer, panel)).element());
         this.increment = 5;
+        this.resizeInterval = -1;
         this.resizable = false;
         this.isResizing = false;
-        this.setInitialVals = true;
+        this.keyboardResizing = false;
+        this.geometryCaptured = false;
         this.ariaResizeLabel = "Resize";
         this.resizeHandler = new ArrayList<>();
         Attachable.register(this, this);
@@ -168,12 +185,25 @@ public class DrawerPanel extends DrawerSubComponent<HTMLDivElement, DrawerPanel>
             mouseDownHandler = bind(splitterElement, mousedown, this::handleMouseDown);
             touchStartHandler = bind(splitterElement, touchstart, this::handleTouchStart);
             keyDownHandler = bind(splitterElement, keydown, this::handleKeys);
-            splitterElement.aria(valueNow, calcValueNow());
+            focusOutHandler = bind(splitterElement, focusout, e -> {
+                if (keyboardResizing) {
+                    keyboardResizing = false;
+                    endResize(true);
+                } else if (!isResizing) {
+                    endResize(false);
+                }
+            });
+            captureGeometry();
+            splitterElement.aria(valueNow, calcValueNow(pendingSize));
+            geometryCaptured = false;
         }
     }
 
     @Override
     public void detach(MutationRecord mutationRecord) {
+        cancelAnimationFrame(animationFrame);
+        animationFrame = 0;
+        geometryCaptured = false;
         if (mouseDownHandler != null) {
             mouseDownHandler.removeHandler();
         }
@@ -195,6 +225,9 @@ public class DrawerPanel extends DrawerSubComponent<HTMLDivElement, DrawerPanel>
         if (keyDownHandler != null) {
             keyDownHandler.removeHandler();
         }
+        if (focusOutHandler != null) {
+            focusOutHandler.removeHandler();
+        }
     }
 
     // ------------------------------------------------------ add
@@ -250,6 +283,16 @@ public class DrawerPanel extends DrawerSubComponent<HTMLDivElement, DrawerPanel>
         return this;
     }
 
+    /**
+     * Notifies the {@linkplain #onResize(ResizeHandler) resize handlers} at most every {@code interval} milliseconds while the
+     * panel is resized. Use {@code 0} to notify the handlers once per animation frame and a negative value to notify the
+     * handlers only when resizing ends (default).
+     */
+    public DrawerPanel resizeInterval(int interval) {
+        this.resizeInterval = interval;
+        return this;
+    }
+
     /**
      * Same as {@code widths(breakpoints(default_, widths))}
      */
@@ -292,20 +335,28 @@ public class DrawerPanel extends DrawerSubComponent<HTMLDivElement, DrawerPanel>
 
     // ------------------------------------------------------ internal
 
-    private int calcValueNow() {
-        if (!resizableDrawer()) {
-            return 0;
-        }
-
-        double splitterPos = 0;
-        double drawerSize = 1;
-
+    /**
+     * Reads the geometry of the drawer, its content, the splitter and the panel. This is done once when resizing starts. All
+     * values needed while resizing are derived from the captured geometry.
+     */
+    private void captureGeometry() {
         DOMRect drawerRect = drawer.element().getBoundingClientRect();
         DOMRect contentRect = drawer.content.element().getBoundingClientRect();
         DOMRect splitterRect = splitterElement.element().getBoundingClientRect();
         DOMRect panelRect = element().getBoundingClientRect();
-        boolean rtl = languageDirection(element()) == LanguageDirection.rtl;
+        rtl = languageDirection(element()) == LanguageDirection.rtl;
+
+        if (rtl) {
+            start = panelRect.right;
+            end = panelRect.left;
+        } else {
+            start = panelRect.left;
+            end = panelRect.right;
+        }
+        bottom = panelRect.bottom;
 
+        double splitterPos = 0;
+        drawerSize = 1;
         if (drawer.inline) {
             if (drawer.position == Position.end) {
                 if (rtl) {
@@ -347,7 +398,18 @@ public class DrawerPanel extends DrawerSubComponent<HTMLDivElement, DrawerPanel>
             }
         }
 
-        double newSplitterPos = (splitterPos / drawerSize) * 100;
+        // the distance between the splitter and the edge of the panel doesn't change while resizing
+        double panelSize = drawer.position == Position.bottom ? panelRect.height : panelRect.width;
+        splitterOffset = splitterPos - panelSize;
+        pendingSize = panelSize;
+        geometryCaptured = true;
+    }
+
+    private int calcValueNow(double size) {
+        if (!resizableDrawer() || drawerSize == 0) {
+            return 0;
+        }
+        double newSplitterPos = ((size + splitterOffset) / drawerSize) * 100;
         return (int) (Math.round((newSplitterPos + EPSILON) * 100) / 100);
     }
 
@@ -360,7 +422,8 @@ public class DrawerPanel extends DrawerSubComponent<HTMLDivElement, DrawerPanel>
 
             drawer.classList().add(modifier(resizing));
             isResizing = true;
-            setInitialVals = true;
+            keyboardResizing = false;
+            captureGeometry();
         }
     }
 
@@ -373,6 +436,8 @@ public class DrawerPanel extends DrawerSubComponent<HTMLDivElement, DrawerPanel>
             touchMoveHandler = bind(document, touchmove, options, this::handleTouchMove);
             touchEndHandler = bind(document, touchend, this::handleTouchEnd);
             isResizing = true;
+            keyboardResizing = false;
+            captureGeometry();
         }
     }
 
@@ -396,22 +461,11 @@ public class DrawerPanel extends DrawerSubComponent<HTMLDivElement, DrawerPanel>
 
     private void handleControlMove(Event event, double controlPosition) {
         if (resizableDrawer()) {
-            boolean rtl = languageDirection(element()) == LanguageDirection.rtl;
             event.stopPropagation();
             if (isResizing) {
-                if (setInitialVals) {
-                    DOMRect panelRect = element().getBoundingClientRect();
-                    if (rtl) {
-                        start = panelRect.right;
-                        end = panelRect.left;
-                    } else {
-                        start = panelRect.left;
-                        end = panelRect.right;
-                    }
-                    bottom = panelRect.bottom;
-                    setInitialVals = false;
+                if (!geometryCaptured) {
+                    captureGeometry();
                 }
-
                 double newSize;
                 if (drawer.position == Position.end) {
                     newSize = rtl ? controlPosition - end : end - controlPosition;
@@ -420,10 +474,7 @@ public class DrawerPanel extends DrawerSubComponent<HTMLDivElement, DrawerPanel>
                 } else {
                     newSize = bottom - controlPosition;
                 }
-                if (drawer.position == Position.bottom) {
-                    style("overflow-anchor", "none");
-                }
-                updateSize(newSize);
+                scheduleSize(newSize);
             }
         }
     }
@@ -432,12 +483,7 @@ public class DrawerPanel extends DrawerSubComponent<HTMLDivElement, DrawerPanel>
         if (resizableDrawer() && isResizing) {
             drawer.classList().remove(modifier(resizing));
             isResizing = false;
-            if (!resizeHandler.isEmpty()) {
-                for (ResizeHandler<DrawerPanel> rh : resizeHandler) {
-                    rh.onResize(this);
-                }
-            }
-            setInitialVals = true;
+            endResize(true);
             mouseMoveHandler.removeHandler();
             mouseUpHandler.removeHandler();
         }
@@ -448,7 +494,7 @@ public class DrawerPanel extends DrawerSubComponent<HTMLDivElement, DrawerPanel>
             event.stopPropagation();
             if (isResizing) {
                 isResizing = false;
-                resizeHandler.forEach(rh -> rh.onResize(this));
+                endResize(true);
                 touchMoveHandler.removeHandler();
                 touchEndHandler.removeHandler();
             }
@@ -457,17 +503,17 @@ public class DrawerPanel extends DrawerSubComponent<HTMLDivElement, DrawerPanel>
 
     private void handleKeys(KeyboardEvent event) {
         if (resizableDrawer()) {
-            if (Escape.match(event) || Enter.match(event) ||
-                    ArrowUp.match(event) || ArrowDown.match(event) || ArrowLeft.match(event) || ArrowRight.match(event)) {
-                boolean rtl = languageDirection(element()) == LanguageDirection.rtl;
+            if (Escape.match(event) || Enter.match(event)) {
                 event.preventDefault();
+                keyboardResizing = false;
+                endResize(true);
 
-                if (Escape.match(event) || Enter.match(event)) {
-                    resizeHandler.forEach(rh -> rh.onResize(this));
+            } else if (ArrowUp.match(event) || ArrowDown.match(event) || ArrowLeft.match(event) || ArrowRight.match(event)) {
+                event.preventDefault();
+                if (!geometryCaptured) {
+                    captureGeometry();
                 }
                 double delta = 0;
-                DOMRect panelRect = element().getBoundingClientRect();
-                double newSize = drawer.position == Position.bottom ? panelRect.height : panelRect.width;
                 if (ArrowRight.match(event)) {
                     if (rtl) {
                         delta = drawer.position == Position.start ? -increment : increment;
@@ -485,11 +531,9 @@ public class DrawerPanel extends DrawerSubComponent<HTMLDivElement, DrawerPanel>
                 } else if (ArrowDown.match(event)) {
                     delta = -increment;
                 }
-                newSize = newSize + delta;
-                if (drawer.position == Position.bottom) {
-                    style("overflow-anchor", "none");
-                }
-                updateSize(newSize);
+                // keys pressed within the same frame accumulate on the pending size
+                keyboardResizing = true;
+                scheduleSize(pendingSize + delta);
 
             } else {
                 if (isResizing) {
@@ -499,9 +543,38 @@ public class DrawerPanel extends DrawerSubComponent<HTMLDivElement, DrawerPanel>
         }
     }
 
+    private void scheduleSize(double newSize) {
+        pendingSize = newSize;
+        if (animationFrame == 0) {
+            if (drawer.position == Position.bottom) {
+                style("overflow-anchor", "none");
+            }
+            animationFrame = requestAnimationFrame(timestamp -> {
+                animationFrame = 0;
+                updateSize(pendingSize);
+                if (resizeInterval >= 0 && timestamp - lastNotification >= resizeInterval) {
+                    lastNotification = timestamp;
+                    resizeHandler.forEach(rh -> rh.onResize(this));
+                }
+            });
+        }
+    }
+
+    private void endResize(boolean notify) {
+        if (animationFrame != 0) {
+            cancelAnimationFrame(animationFrame);
+            animationFrame = 0;
+            updateSize(pendingSize);
+        }
+        if (notify) {
+            resizeHandler.forEach(rh -> rh.onResize(this));
+        }
+        geometryCaptured = false;
+    }
+
     private void updateSize(double newSize) {
         currentWidth = newSize;
-        splitterElement.aria(valueNow, calcValueNow());
+        splitterElement.aria(valueNow, calcValueNow(newSize));
         componentVar(component(Classes.drawer, panel), md.value, FlexBasis).applyTo(this).set(newSize + "px");
     }
 
@@ -58,6 +58,10 @@ import static org.patternfly.style.Variables.LineClamp;
  * An expandable section component is used to support progressive disclosure in a form or page by hiding additional content when
  * you don't want it to be shown by default. An expandable section can contain any type of content such as plain text, form
  * inputs, and charts.
+ * <p>
+ * The content can be rendered lazily using {@link ExpandableSectionContent#lazyContent(java.util.function.Supplier)}. Lazy
+ * content is rendered when the expandable section containing the content is expanded. This is not supported for
+ * {@linkplain #detached() detached} expandable sections.
  *
  * @see <a href=
  * "https://www.patternfly.org/components/expandable-section">https://www.patternfly.org/components/expandable-section</a>
@@ -235,6 +239,7 @@ public class ExpandableSection extends BaseComponent<HTMLDivElement, ExpandableS
         }
         if (content != null) {
             content.element().hidden = true;
+            content.lazy.collapse();
         } else if (detached) {
             // Two different expandable sections! The call above is for the one containing the trigger.
             contentEsElement.classList.remove(modifier(expanded));
@@ -253,6 +258,7 @@ public class ExpandableSection extends BaseComponent<HTMLDivElement, ExpandableS
         }
         if (content != null) {
             content.element().hidden = false;
+            content.lazy.expand();
         } else if (detached) {
             // Two different expandable sections! The call above is for the one containing the trigger.
             contentEsElement.classList.add(modifier(expanded));
@@ -15,9 +15,16 @@
  */
 package org.patternfly.component.expandable;
 
+import java.util.function.Supplier;
+
 import org.jboss.elemento.ElementTextMethods;
+import org.patternfly.component.AsyncContent;
+import org.patternfly.component.HasLazyContent;
+import org.patternfly.component.LazyContentRenderer;
+import org.patternfly.core.AsyncStatus;
 
 import elemental2.dom.HTMLDivElement;
+import elemental2.dom.HTMLElement;
 
 import static org.jboss.elemento.Elements.div;
 import static org.patternfly.core.Roles.region;
@@ -28,7 +35,8 @@ import static org.patternfly.style.Classes.expandableSection;
 /** The collapsible content area of an {@link ExpandableSection} component. */
 /** A expandable section content area within a {@link ExpandableSection} component. */
 public class ExpandableSectionContent extends ExpandableSectionSubComponent<HTMLDivElement, ExpandableSectionContent> implements
-        ElementTextMethods<HTMLDivElement, ExpandableSectionContent> {
+        ElementTextMethods<HTMLDivElement, ExpandableSectionContent>,
+        HasLazyContent<HTMLDivElement, ExpandableSectionContent> {
 
     // ------------------------------------------------------ factory
 
@@ -40,18 +48,42 @@ public class ExpandableSectionContent extends ExpandableSectionSubComponent<HTML
 
     public static final String SUB_COMPONENT_ID = "esc";
     public static final String SUB_COMPONENT_NAME = "ExpandableSectionContent";
+    final LazyContentRenderer<ExpandableSectionContent> lazy;
 
     ExpandableSectionContent() {
         super(SUB_COMPONENT_ID, SUB_COMPONENT_NAME, div().css(component(expandableSection, content))
                 .apply(e -> e.hidden = true)
                 .role(region)
                 .element());
+        this.lazy = new LazyContentRenderer<>(this, this::element);
     }
 
     // ------------------------------------------------------ builder
 
+    @Override
+    public ExpandableSectionContent lazyContent(Supplier<HTMLElement> content) {
+        return lazy.supplier(content);
+    }
+
+    @Override
+    public ExpandableSectionContent lazyContent(AsyncContent<ExpandableSectionContent> content) {
+        return lazy.promise(content);
+    }
+
+    @Override
+    public ExpandableSectionContent releaseOnCollapse(boolean releaseOnCollapse) {
+        return lazy.releaseOnCollapse(releaseOnCollapse);
+    }
+
     @Override
     public ExpandableSectionContent that() {
         return this;
     }
+
+    // ------------------------------------------------------ api
+
+    @Override
+    public AsyncStatus contentStatus() {
+        return lazy.status();
+    }
 }
@@ -28,6 +28,7 @@ import org.patternfly.component.AurHandler;
 import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
 import org.patternfly.component.HasItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 import org.patternfly.component.alert.Alert;
@@ -204,6 +205,11 @@ public class Form extends BaseComponent<HTMLFormElement, Form> implements
         });
     }
 
+    @Override
+    public void reorderItems(List<FormGroup> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         FormGroup item = items.remove(identifier);
@@ -27,15 +27,12 @@ import org.patternfly.handler.ChangeHandler;
 import org.patternfly.style.Modifiers.Plain;
 import org.patternfly.style.Modifiers.Readonly;
 
-import elemental2.dom.CSSStyleDeclaration;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.HTMLTextAreaElement;
 import elemental2.dom.MutationRecord;
 
-import static org.jboss.elemento.DomGlobal.window;
 import static org.jboss.elemento.Elements.textarea;
 import static org.jboss.elemento.Elements.wrapTextAreaElement;
-import static org.jboss.elemento.EventType.input;
 import static org.patternfly.core.Aria.invalid;
 import static org.patternfly.style.Classes.modifier;
 import static org.patternfly.style.Classes.textarea;
@@ -66,7 +63,7 @@ public class TextArea extends FormControl<HTMLElement, TextArea> implements
 
     private final HTMLTextAreaElement textAreaElement;
     private final KicHandler<TextArea> kicHandler;
-    private boolean autoResize;
+    private TextAreaAutoResize autoResize;
     private TextAreaResize resize;
 
     TextArea(String id, String value) {
@@ -91,9 +88,15 @@ public class TextArea extends FormControl<HTMLElement, TextArea> implements
 
     @Override
     public void attach(MutationRecord mutationRecord) {
-        if (autoResize) {
-            autoHeight();
-            textAreaElement.addEventListener(input.name, e -> autoHeight());
+        if (autoResize != null) {
+            autoResize.attach();
+        }
+    }
+
+    @Override
+    public void detach(MutationRecord mutationRecord) {
+        if (autoResize != null) {
+            autoResize.detach();
         }
     }
 
@@ -105,8 +108,14 @@ public class TextArea extends FormControl<HTMLElement, TextArea> implements
         return this;
     }
 
+    /**
+     * Adjusts the height of the text area to its content. The height is updated at most once per animation frame. All
+     * auto-resizing text areas are measured and resized together in one read and one write phase.
+     */
     public TextArea autoResize() {
-        this.autoResize = true;
+        if (autoResize == null) {
+            autoResize = new TextAreaAutoResize(textAreaElement);
+        }
         return this;
     }
 
@@ -155,6 +164,9 @@ public class TextArea extends FormControl<HTMLElement, TextArea> implements
 
     public TextArea value(String value, boolean fireEvent) {
         textAreaElement.value = value;
+        if (autoResize != null) {
+            autoResize.update();
+        }
         if (fireEvent) {
             kicHandler.fireIfChanged(value);
         }
@@ -214,20 +226,4 @@ public class TextArea extends FormControl<HTMLElement, TextArea> implements
     void disableControl(boolean disabled) {
         textAreaElement.disabled = disabled;
     }
-
-    private void autoHeight() {
-        style("height", "inherit");
-        CSSStyleDeclaration computed = window.getComputedStyle(textAreaElement);
-        int height = Integer.parseInt(stripUnit(computed.getPropertyValue("border-top-width"))) +
-                Integer.parseInt(stripUnit(computed.getPropertyValue("padding-top"))) +
-                textAreaElement.scrollHeight +
-                Integer.parseInt(stripUnit(computed.getPropertyValue("padding-bottom"))) +
-                Integer.parseInt(stripUnit(computed.getPropertyValue("border-bottom-width")));
-        style("height", height + "px");
-    }
-
-    private String stripUnit(String value) {
-        int index = value.indexOf("px");
-        return index == -1 ? value : value.substring(0, index);
-    }
 }
@@ -0,0 +1,186 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component.form;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.gwtproject.event.shared.HandlerRegistration;
+import org.patternfly.style.BreakpointObserver;
+
+import elemental2.dom.CSSStyleDeclaration;
+import elemental2.dom.HTMLTextAreaElement;
+
+import static elemental2.dom.DomGlobal.cancelAnimationFrame;
+import static elemental2.dom.DomGlobal.requestAnimationFrame;
+import static org.jboss.elemento.DomGlobal.window;
+import static org.jboss.elemento.EventType.bind;
+import static org.jboss.elemento.EventType.input;
+
+/**
+ * Internal helper that implements the auto-resize of {@link TextArea}s.
+ * <p>
+ * All auto-resizing text areas share one animation frame: Input events and size changes only mark a text area as dirty. In
+ * the next animation frame, all dirty text areas are measured in one read phase, and their heights are written in one write
+ * phase. Width changes are observed by the shared resize observer of {@link BreakpointObserver}.
+ * <p>
+ * Measuring a text area requires to reset its height, which forces a layout. This is only necessary if the number of lines
+ * has changed, the text got shorter, or the width has changed. Otherwise, the text can only grow by wrapping, which is
+ * detected by comparing {@code scrollHeight} and {@code clientHeight} without resetting the height.
+ */
+final class TextAreaAutoResize {
+
+    private static final Set<TextAreaAutoResize> dirty = new LinkedHashSet<>();
+    private static double frame;
+
+    private final HTMLTextAreaElement textArea;
+    private HandlerRegistration inputHandler;
+    private HandlerRegistration sizeHandler;
+    private boolean force;
+    private boolean measure;
+    private int lines;
+    private int length;
+    private int chrome;
+    private int height;
+    private int written;
+
+    TextAreaAutoResize(HTMLTextAreaElement textArea) {
+        this.textArea = textArea;
+        this.chrome = -1;
+        this.written = -1;
+    }
+
+    void attach() {
+        detach();
+        inputHandler = bind(textArea, input, e -> markDirty(false));
+        sizeHandler = BreakpointObserver.observeSize(textArea, (current, previous) -> {
+            if (current.width != previous.width) {
+                markDirty(true);
+            }
+        });
+        markDirty(true);
+    }
+
+    void detach() {
+        if (inputHandler != null) {
+            inputHandler.removeHandler();
+            inputHandler = null;
+        }
+        if (sizeHandler != null) {
+            sizeHandler.removeHandler();
+            sizeHandler = null;
+        }
+        dirty.remove(this);
+        if (dirty.isEmpty() && frame != 0) {
+            cancelAnimationFrame(frame);
+            frame = 0;
+        }
+    }
+
+    /** Schedules a resize after the value has been changed programmatically. */
+    void update() {
+        if (inputHandler != null) {
+            markDirty(false);
+        }
+    }
+
+    // ------------------------------------------------------ internal
+
+    private void markDirty(boolean force) {
+        if (force) {
+            this.force = true;
+            this.chrome = -1;
+        }
+        dirty.add(this);
+        if (frame == 0) {
+            frame = requestAnimationFrame(__ -> flush());
+        }
+    }
+
+    private static void flush() {
+        frame = 0;
+        List<TextAreaAutoResize> entries = new ArrayList<>(dirty);
+        dirty.clear();
+
+        // read phase: decide which text areas must be measured, check the others for growth by wrapping
+        for (TextAreaAutoResize entry : entries) {
+            String value = entry.textArea.value;
+            int lines = lines(value);
+            if (entry.chrome < 0) {
+                entry.chrome = chrome(entry.textArea);
+            }
+            entry.measure = entry.force || lines != entry.lines || value.length() < entry.length;
+            if (!entry.measure && entry.textArea.scrollHeight > entry.textArea.clientHeight) {
+                entry.height = entry.chrome + entry.textArea.scrollHeight;
+            }
+            entry.force = false;
+            entry.lines = lines;
+            entry.length = value.length();
+        }
+
+        // reset the heights of the text areas which must be measured
+        for (TextAreaAutoResize entry : entries) {
+            if (entry.measure) {
+                entry.textArea.style.height = "inherit";
+            }
+        }
+
+        // read phase: one layout for all text areas which must be measured
+        for (TextAreaAutoResize entry : entries) {
+            if (entry.measure) {
+                entry.height = entry.chrome + entry.textArea.scrollHeight;
+            }
+        }
+
+        // write phase
+        for (TextAreaAutoResize entry : entries) {
+            if (entry.measure || entry.height != entry.written) {
+                entry.textArea.style.height = entry.height + "px";
+                entry.written = entry.height;
+            }
+        }
+    }
+
+    private static int lines(String value) {
+        int lines = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    private static int chrome(HTMLTextAreaElement textArea) {
+        CSSStyleDeclaration computed = window.getComputedStyle(textArea);
+        return px(computed.getPropertyValue("border-top-width")) +
+                px(computed.getPropertyValue("padding-top")) +
+                px(computed.getPropertyValue("padding-bottom")) +
+                px(computed.getPropertyValue("border-bottom-width"));
+    }
+
+    private static int px(String value) {
+        int index = value.indexOf("px");
+        String number = index == -1 ? value : value.substring(0, index);
+        try {
+            return (int) Math.round(Double.parseDouble(number));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
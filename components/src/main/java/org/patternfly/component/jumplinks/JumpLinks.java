@@ -16,8 +16,8 @@
 package org.patternfly.component.jumplinks;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -33,6 +33,7 @@ import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
 import org.patternfly.component.Expandable;
 import org.patternfly.component.HasItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 import org.patternfly.component.button.Button;
@@ -80,6 +81,10 @@ import static org.patternfly.style.Classes.toggle;
 
 /**
  * Jump links allow users to navigate to sections within a page.
+ * <p>
+ * If a scrollable element is specified using one of the {@code scrollableSelector()} methods, the jump links follow the
+ * scroll position: The item whose section is at the top of the scrollable element is marked as current. The sections are
+ * resolved from the fragment of the items' {@code href} attribute.
  *
  * @see <a href= "https://www.patternfly.org/components/jump-links">https://www.patternfly.org/components/jump-links</a>
  */
@@ -115,15 +120,19 @@ public class JumpLinks extends BaseComponent<HTMLElement, JumpLinks> implements
     private boolean expandable;
     private boolean vertical;
     private Button toggleButton;
-    private Supplier<HTMLElement> scrollableElement; // TODO Implement scrollable selector support
+    private final ScrollSpy scrollSpy;
+    private int offset;
+    private JumpLinksItem currentItem;
+    private Supplier<HTMLElement> scrollableElement;
     private HTMLContainerBuilder<HTMLElement> toggleTextElement;
 
     JumpLinks(String label) {
         super(ComponentType.JumpLinks, nav().css(component(jumpLinks)).element());
-        this.items = new HashMap<>();
+        this.items = new LinkedHashMap<>();
         this.aur = new AurHandler<>(this);
         this.toggleHandler = new ArrayList<>();
         this.selectHandler = new ArrayList<>();
+        this.scrollSpy = new ScrollSpy(item -> select(item, true, true));
 
         element().appendChild(div().css(component(jumpLinks, main))
                 .add(headerElement = div().css(component(jumpLinks, header))
@@ -147,6 +156,12 @@ public class JumpLinks extends BaseComponent<HTMLElement, JumpLinks> implements
         } else {
             failSafeToggleButton();
         }
+        startScrollSpy();
+    }
+
+    @Override
+    public void detach(MutationRecord mutationRecord) {
+        scrollSpy.stop();
     }
 
     // ------------------------------------------------------ add
@@ -155,6 +170,7 @@ public class JumpLinks extends BaseComponent<HTMLElement, JumpLinks> implements
     public JumpLinks add(JumpLinksItem item) {
         items.put(item.identifier(), item);
         ulElement.add(item);
+        scrollSpy.add(item);
         return aur.added(item);
     }
 
@@ -201,6 +217,15 @@ public class JumpLinks extends BaseComponent<HTMLElement, JumpLinks> implements
         return this;
     }
 
+    /**
+     * Offset in pixels from the top of the scrollable element which is ignored when determining the current item. Use this if
+     * the scrollable element has a sticky header that covers the top of the sections.
+     */
+    public JumpLinks offset(int offset) {
+        this.offset = offset;
+        return this;
+    }
+
     @Override
     public JumpLinks vertical(boolean vertical) {
         this.vertical = vertical;
@@ -292,8 +317,13 @@ public class JumpLinks extends BaseComponent<HTMLElement, JumpLinks> implements
 
     public void select(JumpLinksItem item, boolean fireEvent, boolean selected) {
         if (item != null) {
-            unselectAllItems();
+            if (currentItem != null) {
+                currentItem.markSelected(false);
+            } else {
+                unselectAllItems();
+            }
             item.markSelected(selected);
+            currentItem = selected ? item : null;
             if (fireEvent) {
                 selectHandler.forEach(selectHandler -> selectHandler.onSelect(new Event(""), item, selected));
             }
@@ -329,14 +359,28 @@ public class JumpLinks extends BaseComponent<HTMLElement, JumpLinks> implements
     public void updateItem(JumpLinksItem item) {
         replaceItemElement(item, (oldItem, newItem) -> {
             items.put(newItem.identifier(), newItem);
+            scrollSpy.remove(oldItem);
+            scrollSpy.add(newItem);
             aur.updated(oldItem, newItem);
         });
     }
 
+    @Override
+    public void reorderItems(List<JumpLinksItem> items) {
+        KeyedDiff.reorder(this.items, items);
+        scrollSpy.reordered();
+    }
+
     @Override
     public void removeItem(String identifier) {
         JumpLinksItem item = items.remove(identifier);
+        if (item != null) {
+            scrollSpy.remove(item);
+        }
         failSafeRemoveFromParent(item);
+        if (item == currentItem) {
+            currentItem = null;
+        }
         if (item != null) {
             item.list.clear();
             aur.removed(item);
@@ -345,6 +389,8 @@ public class JumpLinks extends BaseComponent<HTMLElement, JumpLinks> implements
 
     @Override
     public void clear() {
+        scrollSpy.clear();
+        currentItem = null;
         removeChildrenFrom(ulElement);
         Iterator<JumpLinksItem> iterator = items.values().iterator();
         while (iterator.hasNext()) {
@@ -359,6 +405,25 @@ public class JumpLinks extends BaseComponent<HTMLElement, JumpLinks> implements
 
     // ------------------------------------------------------ internal
 
+    // called by nested lists and items if items are added after the list has been added to this component
+    void observe(JumpLinksItem item) {
+        scrollSpy.add(item);
+    }
+
+    void unobserve(JumpLinksItem item) {
+        scrollSpy.remove(item);
+    }
+
+    void reordered() {
+        scrollSpy.reordered();
+    }
+
+    private void startScrollSpy() {
+        if (scrollableElement != null) {
+            scrollSpy.start(scrollableElement.get(), offset, items.values());
+        }
+    }
+
     private JumpLinksItem findItem(String identifier) {
         JumpLinksItem item = items.get(identifier);
         if (item == null) {
@@ -73,6 +73,7 @@ public class JumpLinksItem extends JumpLinksSubComponent<HTMLLIElement, JumpLink
     private final Map<String, Object> data;
     private final Button button;
     private final HTMLElement textElement;
+    private String href;
     JumpLinksList list;
 
     JumpLinksItem(String identifier) {
@@ -106,6 +107,10 @@ public class JumpLinksItem extends JumpLinksSubComponent<HTMLLIElement, JumpLink
     public JumpLinksItem add(JumpLinksList list) {
         this.list = list;
         add(list.element());
+        JumpLinks jumpLinks = lookupComponent(true);
+        if (jumpLinks != null) {
+            jumpLinks.observe(this);
+        }
         return this;
     }
 
@@ -127,6 +132,7 @@ public class JumpLinksItem extends JumpLinksSubComponent<HTMLLIElement, JumpLink
     }
 
     public JumpLinksItem href(String href) {
+        this.href = href;
         button.href(href);
         return this;
     }
@@ -181,6 +187,17 @@ public class JumpLinksItem extends JumpLinksSubComponent<HTMLLIElement, JumpLink
 
     // ------------------------------------------------------ internal
 
+    /** Returns the ID of the section this item links to, or {@code null} if the item does not link to a fragment. */
+    String target() {
+        if (href != null) {
+            int index = href.indexOf('#');
+            if (index != -1 && index < href.length() - 1) {
+                return href.substring(index + 1);
+            }
+        }
+        return null;
+    }
+
     void markSelected(boolean selected) {
         classList().toggle(modifier(Classes.current), selected);
         if (selected) {
@@ -15,13 +15,15 @@
  */
 package org.patternfly.component.jumplinks;
 
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.patternfly.component.AddItemHandler;
 import org.patternfly.component.AurHandler;
 import org.patternfly.component.HasItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 import org.patternfly.core.Roles;
@@ -58,7 +60,7 @@ public class JumpLinksList extends JumpLinksSubComponent<HTMLUListElement, JumpL
         super(SUB_COMPONENT_ID, SUB_COMPONENT_NAME, ul().css(component(jumpLinks, Classes.list))
                 .attr(role, Roles.list)
                 .element());
-        this.items = new HashMap<>();
+        this.items = new LinkedHashMap<>();
         this.aur = new AurHandler<>(this);
     }
 
@@ -68,6 +70,10 @@ public class JumpLinksList extends JumpLinksSubComponent<HTMLUListElement, JumpL
     public JumpLinksList add(JumpLinksItem item) {
         items.put(item.identifier(), item);
         add(item.element());
+        JumpLinks jumpLinks = lookupComponent(true);
+        if (jumpLinks != null) {
+            jumpLinks.observe(item);
+        }
         return aur.added(item);
     }
 
@@ -126,19 +132,43 @@ public class JumpLinksList extends JumpLinksSubComponent<HTMLUListElement, JumpL
     public void updateItem(JumpLinksItem item) {
         replaceItemElement(item, (oldItem, newItem) -> {
             items.put(newItem.identifier(), newItem);
+            JumpLinks jumpLinks = lookupComponent(true);
+            if (jumpLinks != null) {
+                jumpLinks.unobserve(oldItem);
+                jumpLinks.observe(newItem);
+            }
             aur.updated(oldItem, newItem);
         });
     }
 
+    @Override
+    public void reorderItems(List<JumpLinksItem> items) {
+        KeyedDiff.reorder(this.items, items);
+        JumpLinks jumpLinks = lookupComponent(true);
+        if (jumpLinks != null) {
+            jumpLinks.reordered();
+        }
+    }
+
     @Override
     public void removeItem(String identifier) {
         JumpLinksItem item = items.remove(identifier);
+        if (item != null) {
+            JumpLinks jumpLinks = lookupComponent(true);
+            if (jumpLinks != null) {
+                jumpLinks.unobserve(item);
+            }
+        }
         failSafeRemoveFromParent(item);
         aur.removed(item);
     }
 
     @Override
     public void clear() {
+        JumpLinks jumpLinks = lookupComponent(true);
+        if (jumpLinks != null) {
+            items.values().forEach(jumpLinks::unobserve);
+        }
         removeChildrenFrom(element());
         Iterator<JumpLinksItem> iterator = items.values().iterator();
         while (iterator.hasNext()) {
@@ -0,0 +1,182 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component.jumplinks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import elemental2.dom.Element;
+import elemental2.dom.HTMLElement;
+import elemental2.dom.IntersectionObserver;
+import elemental2.dom.IntersectionObserverEntry;
+import elemental2.dom.IntersectionObserverInit;
+import elemental2.dom.Node;
+
+import static elemental2.dom.DomGlobal.document;
+
+/**
+ * Internal helper that implements the scroll spy of {@link JumpLinks}.
+ * <p>
+ * The scroll spy uses one {@link IntersectionObserver} for all section targets of all jump links items (including the items
+ * of nested {@link JumpLinksList}s). Items which are added or removed while the scroll spy is running are observed or
+ * unobserved individually. The observer reports which sections intersect with the scrollable element and the intersecting
+ * item which comes first in document order determines the active item. Since the intersection state is computed by the
+ * browser, the scroll spy does not read any geometry when the user scrolls.
+ */
+class ScrollSpy {
+
+    private final Consumer<JumpLinksItem> onActivate;
+    private final Map<String, JumpLinksItem> itemsByTarget;
+    private final TreeSet<JumpLinksItem> intersecting;
+    private IntersectionObserver observer;
+    private JumpLinksItem activeItem;
+
+    ScrollSpy(Consumer<JumpLinksItem> onActivate) {
+        this.onActivate = onActivate;
+        this.itemsByTarget = new HashMap<>();
+        this.intersecting = new TreeSet<>(ScrollSpy::documentOrder);
+    }
+
+    void start(HTMLElement scrollableElement, int offset, Iterable<JumpLinksItem> items) {
+        stop();
+        IntersectionObserverInit init = IntersectionObserverInit.create();
+        if (scrollableElement != null && scrollableElement != document.body) {
+            init.setRoot(scrollableElement);
+        }
+        init.setRootMargin("-" + offset + "px 0px 0px 0px");
+        init.setThreshold(0);
+        observer = new IntersectionObserver((entries, o) -> {
+            for (int i = 0; i < entries.length; i++) {
+                IntersectionObserverEntry entry = entries.getAt(i);
+                JumpLinksItem item = itemsByTarget.get(entry.target.id);
+                if (item != null) {
+                    if (entry.isIntersecting) {
+                        intersecting.add(item);
+                    } else {
+                        intersecting.remove(item);
+                    }
+                }
+            }
+            activate();
+        }, init);
+        add(items);
+    }
+
+    void stop() {
+        if (observer != null) {
+            observer.disconnect();
+            observer = null;
+        }
+        itemsByTarget.clear();
+        intersecting.clear();
+        activeItem = null;
+    }
+
+    /** Stops observing all targets, but keeps the scroll spy running: Items added afterward are observed again. */
+    void clear() {
+        if (observer != null) {
+            // a disconnected observer can be reused by observing new targets
+            observer.disconnect();
+        }
+        itemsByTarget.clear();
+        intersecting.clear();
+        activeItem = null;
+    }
+
+    boolean running() {
+        return observer != null;
+    }
+
+    /** Observes the targets of the specified item and its nested items. */
+    void add(JumpLinksItem item) {
+        if (observer != null) {
+            String target = item.target();
+            if (target != null && !itemsByTarget.containsKey(target)) {
+                Element element = document.getElementById(target);
+                if (element != null) {
+                    itemsByTarget.put(target, item);
+                    observer.observe(element);
+                }
+            }
+            if (item.list != null) {
+                add(item.list);
+            }
+        }
+    }
+
+    /** Stops observing the targets of the specified item and its nested items. */
+    void remove(JumpLinksItem item) {
+        if (observer != null) {
+            String target = item.target();
+            if (target != null && itemsByTarget.get(target) == item) {
+                itemsByTarget.remove(target);
+                // don't rely on the document order: the item might not be part of the document anymore
+                intersecting.removeIf(i -> i == item);
+                if (activeItem == item) {
+                    activeItem = null;
+                }
+                Element element = document.getElementById(target);
+                if (element != null) {
+                    observer.unobserve(element);
+                }
+            }
+            if (item.list != null) {
+                for (JumpLinksItem nested : item.list) {
+                    remove(nested);
+                }
+            }
+        }
+    }
+
+    /** Must be called after items have been moved: the intersecting items are sorted by the document order of the items. */
+    void reordered() {
+        if (!intersecting.isEmpty()) {
+            // the tree set is no longer sorted, rebuild it from a copy
+            List<JumpLinksItem> items = new ArrayList<>(intersecting);
+            intersecting.clear();
+            intersecting.addAll(items);
+            activate();
+        }
+    }
+
+    private void add(Iterable<JumpLinksItem> items) {
+        for (JumpLinksItem item : items) {
+            add(item);
+        }
+    }
+
+    private void activate() {
+        // if no section intersects (e.g. the user scrolled to a gap between two sections), keep the current item
+        if (!intersecting.isEmpty()) {
+            JumpLinksItem item = intersecting.first();
+            if (item != activeItem) {
+                activeItem = item;
+                onActivate.accept(item);
+            }
+        }
+    }
+
+    private static int documentOrder(JumpLinksItem a, JumpLinksItem b) {
+        if (a == b) {
+            return 0;
+        }
+        return (a.element().compareDocumentPosition(b.element()) & Node.DOCUMENT_POSITION_FOLLOWING) != 0 ? -1 : 1;
+    }
+}
@@ -43,13 +43,15 @@ import org.patternfly.style.Classes;
 import org.patternfly.style.Color;
 import org.patternfly.style.Modifiers.Vertical;
 
+import elemental2.dom.DocumentFragment;
 import elemental2.dom.Element;
 import elemental2.dom.Event;
 import elemental2.dom.HTMLDivElement;
 import elemental2.dom.HTMLElement;
-import elemental2.dom.HTMLLIElement;
 import elemental2.dom.MutationRecord;
+import elemental2.dom.Node;
 
+import static elemental2.dom.DomGlobal.document;
 import static org.jboss.elemento.Elements.div;
 import static org.jboss.elemento.Elements.failSafeRemoveFromParent;
 import static org.jboss.elemento.Elements.insertBefore;
@@ -79,6 +81,10 @@ import static org.patternfly.style.Classes.overflow;
 
 /**
  * A group of labels that can be used to display a collection of {@link Label} components.
+ * <p>
+ * If the group contains more than {@linkplain #numLabels(int) numLabels} labels, only the first labels are rendered,
+ * followed by an overflow label. The remaining labels are rendered only when the group is expanded. Adding or removing a
+ * label only touches the labels which cross the {@code numLabels} boundary and the overflow label, which is created lazily.
  *
  * @see <a href=
  *      "https://www.patternfly.org/components/label#label-group">https://www.patternfly.org/components/label#label-group</a>
@@ -106,6 +112,7 @@ public class LabelGroup extends BaseComponent<HTMLDivElement, LabelGroup> implem
 
     private final HTMLElement listElement;
     private final Map<String, Label> items;
+    private final List<Label> order;
     private final AurHandler<LabelGroup, Label> aur;
     private final List<CloseHandler<LabelGroup>> closeHandler;
     private boolean expanded;
@@ -121,6 +128,7 @@ public class LabelGroup extends BaseComponent<HTMLDivElement, LabelGroup> implem
     LabelGroup(String category) {
         super(ComponentType.LabelGroup, div().css(component(labelGroup)).element());
         this.items = new LinkedHashMap<>();
+        this.order = new ArrayList<>();
         this.aur = new AurHandler<>(this);
         this.closeHandler = new ArrayList<>();
         this.expanded = false;
@@ -160,17 +168,11 @@ public class LabelGroup extends BaseComponent<HTMLDivElement, LabelGroup> implem
     @Override
     public LabelGroup add(Label label) {
         items.put(label.identifier(), label);
-
-        HTMLLIElement itemElement = li().css(component(labelGroup, list, item))
-                .add(label)
-                .element();
-        if (overflowItem != null) {
-            insertBefore(itemElement, overflowItem);
-        } else {
-            listElement.appendChild(itemElement);
+        order.add(label);
+        if (expanded || order.size() <= numLabels) {
+            render(label);
         }
-
-        overflow();
+        updateOverflow();
         return aur.added(label);
     }
 
@@ -193,8 +195,18 @@ public class LabelGroup extends BaseComponent<HTMLDivElement, LabelGroup> implem
     }
 
     public LabelGroup numLabels(int numLabels) {
-        if (numLabels > 0) {
+        if (numLabels > 0 && numLabels != this.numLabels) {
+            int previous = this.numLabels;
             this.numLabels = numLabels;
+            if (!expanded) {
+                for (int i = numLabels; i < Math.min(previous, order.size()); i++) {
+                    unrender(order.get(i));
+                }
+                for (int i = previous; i < Math.min(numLabels, order.size()); i++) {
+                    render(order.get(i));
+                }
+            }
+            updateOverflow();
         }
         return this;
     }
@@ -311,20 +323,56 @@ public class LabelGroup extends BaseComponent<HTMLDivElement, LabelGroup> implem
     public void updateItem(Label item) {
         replaceItemElement(item, (oldItem, newItem) -> {
             items.put(newItem.identifier(), newItem);
+            int index = order.indexOf(oldItem);
+            if (index != -1) {
+                order.set(index, newItem);
+            }
             aur.updated(oldItem, newItem);
         });
     }
 
+    @Override
+    public void reorderItems(List<Label> items) {
+        Map<String, Label> remaining = new LinkedHashMap<>(this.items);
+        this.items.clear();
+        for (Label label : items) {
+            if (remaining.remove(label.identifier()) != null) {
+                this.items.put(label.identifier(), label);
+            }
+        }
+        this.items.putAll(remaining);
+        order.clear();
+        order.addAll(this.items.values());
+
+        // hidden labels are detached: split the labels again and move only the visible labels which are out of place
+        int visible = expanded ? order.size() : Math.min(numLabels, order.size());
+        for (int i = visible; i < order.size(); i++) {
+            unrender(order.get(i));
+        }
+        Node expected = listElement.firstChild;
+        for (int i = 0; i < visible; i++) {
+            Element itemElement = itemElement(order.get(i));
+            if (itemElement != expected) {
+                listElement.insertBefore(itemElement, expected);
+            } else {
+                expected = expected.nextSibling;
+            }
+        }
+        updateOverflow();
+    }
+
     @Override
     public void removeItem(String identifier) {
-        Label item = items.remove(identifier);
-        failSafeRemoveFromParent(item);
-        aur.removed(item);
+        Label item = items.get(identifier);
+        if (item != null) {
+            close(item);
+        }
     }
 
     @Override
     public void clear() {
         removeChildrenFrom(listElement);
+        order.clear();
         Iterator<Label> iterator = items.values().iterator();
         while (iterator.hasNext()) {
             Label item = iterator.next();
@@ -339,18 +387,54 @@ public class LabelGroup extends BaseComponent<HTMLDivElement, LabelGroup> implem
 
     void close(Label label) {
         items.remove(label.identifier());
+        int index = order.indexOf(label);
+        if (index != -1) {
+            order.remove(index);
+        }
         Element element = label.element().parentElement;
         if (element != null) {
             failSafeRemoveFromParent(element);
         } else {
             failSafeRemoveFromParent(label);
         }
-        overflow();
+        // a hidden label moves up and crosses the boundary
+        if (!expanded && index != -1 && index < numLabels && order.size() >= numLabels) {
+            render(order.get(numLabels - 1));
+        }
+        updateOverflow();
         aur.removed(label);
     }
 
-    private void overflow() {
-        if (items.size() > numLabels && overflowItem == null && overflowLabel == null) {
+    private Element itemElement(Label label) {
+        Element itemElement = label.element().parentElement;
+        if (itemElement == null) {
+            itemElement = li().css(component(labelGroup, list, item))
+                    .add(label)
+                    .element();
+        }
+        return itemElement;
+    }
+
+    private void render(Label label) {
+        Element itemElement = itemElement(label);
+        if (overflowItem != null) {
+            insertBefore(itemElement, overflowItem);
+        } else {
+            listElement.appendChild(itemElement);
+        }
+    }
+
+    private void unrender(Label label) {
+        // keep the label in its list item, so it can be rendered again
+        Element itemElement = label.element().parentElement;
+        if (itemElement != null) {
+            failSafeRemoveFromParent(itemElement);
+        }
+    }
+
+    private void updateOverflow() {
+        int hidden = order.size() - numLabels;
+        if (hidden > 0 && overflowItem == null) {
             String identifier = Id.unique(componentType().id, "overflow");
             overflowItem = li().css(component(chipGroup, list, item))
                     .add(overflowLabel = label(Elements.button(ButtonType.button), identifier, "", Color.grey)
@@ -359,20 +443,28 @@ public class LabelGroup extends BaseComponent<HTMLDivElement, LabelGroup> implem
                     .element();
             listElement.appendChild(overflowItem);
         }
-        int index = 0;
-        for (Label label : items.values()) {
-            setVisible((HTMLElement) label.element().parentElement, expanded || index < numLabels);
-            index++;
-        }
-        if (overflowItem != null && overflowLabel != null) {
-            setVisible(overflowItem, items.size() > numLabels);
-            overflowLabel.textElement.textContent = expanded ? expandedText
-                    : collapsedText.replace(REMAINING_PLACEHOLDER, String.valueOf(items.size() - numLabels));
+        if (overflowItem != null) {
+            setVisible(overflowItem, hidden > 0);
+            if (hidden > 0) {
+                overflowLabel.textElement.textContent = expanded ? expandedText
+                        : collapsedText.replace(REMAINING_PLACEHOLDER, String.valueOf(hidden));
+            }
         }
     }
 
     private void toggle() {
         expanded = !expanded;
-        overflow();
+        if (expanded) {
+            DocumentFragment fragment = document.createDocumentFragment();
+            for (int i = numLabels; i < order.size(); i++) {
+                fragment.appendChild(itemElement(order.get(i)));
+            }
+            listElement.insertBefore(fragment, overflowItem);
+        } else {
+            for (int i = numLabels; i < order.size(); i++) {
+                unrender(order.get(i));
+            }
+        }
+        updateOverflow();
     }
 }
@@ -24,6 +24,7 @@ import org.patternfly.component.AurHandler;
 import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
 import org.patternfly.component.HasItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 import org.patternfly.style.Modifiers.Vertical;
@@ -136,6 +137,11 @@ public class ActionList extends BaseComponent<HTMLElement, ActionList> implement
         });
     }
 
+    @Override
+    public void reorderItems(java.util.List<ActionListGroup> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         ActionListGroup item = items.remove(identifier);
@@ -26,6 +26,7 @@ import org.patternfly.component.AurHandler;
 import org.patternfly.component.ComponentType;
 import org.patternfly.component.HasIdentifier;
 import org.patternfly.component.HasItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 import org.patternfly.core.ComponentContext;
@@ -172,6 +173,11 @@ public class ActionListGroup extends ActionListSubComponent<HTMLDivElement, Acti
         });
     }
 
+    @Override
+    public void reorderItems(java.util.List<ActionListItem> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         ActionListItem item = items.remove(identifier);
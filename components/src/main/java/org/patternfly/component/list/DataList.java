@@ -24,6 +24,7 @@ import org.patternfly.component.AddItemHandler;
 import org.patternfly.component.AurHandler;
 import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.Ordered;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
@@ -183,6 +184,11 @@ public class DataList extends BaseComponent<HTMLUListElement, DataList> implemen
         });
     }
 
+    @Override
+    public void reorderItems(java.util.List<DataListItem> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         DataListItem item = items.remove(identifier);
@@ -15,8 +15,14 @@
  */
 package org.patternfly.component.list;
 
+import java.util.function.Supplier;
+
 import org.jboss.elemento.ElementContainerDelegate;
 import org.jboss.elemento.ElementTextDelegate;
+import org.patternfly.component.AsyncContent;
+import org.patternfly.component.HasLazyContent;
+import org.patternfly.component.LazyContentRenderer;
+import org.patternfly.core.AsyncStatus;
 import org.patternfly.style.Classes;
 import org.patternfly.style.Modifiers.NoPadding;
 
@@ -36,6 +42,7 @@ import static org.patternfly.style.Modifiers.toggleModifier;
 public class DataListExpandableContent extends DataListSubComponent<HTMLElement, DataListExpandableContent> implements
         ElementContainerDelegate<HTMLElement, DataListExpandableContent>,
         ElementTextDelegate<HTMLElement, DataListExpandableContent>,
+        HasLazyContent<HTMLElement, DataListExpandableContent>,
         NoPadding<HTMLElement, DataListExpandableContent> {
 
     // ------------------------------------------------------ factory
@@ -48,12 +55,14 @@ public class DataListExpandableContent extends DataListSubComponent<HTMLElement,
 
     public static final String SUB_COMPONENT_ID = "dlc";
     public static final String SUB_COMPONENT_NAME = "DataListExpandableContent";
+    final LazyContentRenderer<DataListExpandableContent> lazy;
     private final HTMLElement body;
 
     DataListExpandableContent() {
         super(SUB_COMPONENT_ID, SUB_COMPONENT_NAME, section().css(component(dataList, expandable, content))
                 .element());
         element().appendChild(body = div().css(component(dataList, expandable, content, Classes.body)).element());
+        this.lazy = new LazyContentRenderer<>(this, () -> body);
     }
 
     @Override
@@ -68,6 +77,21 @@ public class DataListExpandableContent extends DataListSubComponent<HTMLElement,
 
     // ------------------------------------------------------ builder
 
+    @Override
+    public DataListExpandableContent lazyContent(Supplier<HTMLElement> content) {
+        return lazy.supplier(content);
+    }
+
+    @Override
+    public DataListExpandableContent lazyContent(AsyncContent<DataListExpandableContent> content) {
+        return lazy.promise(content);
+    }
+
+    @Override
+    public DataListExpandableContent releaseOnCollapse(boolean releaseOnCollapse) {
+        return lazy.releaseOnCollapse(releaseOnCollapse);
+    }
+
     @Override
     public DataListExpandableContent noPadding(boolean noPadding) {
         return toggleModifier(that(), body, Classes.noPadding, noPadding);
@@ -77,4 +101,11 @@ public class DataListExpandableContent extends DataListSubComponent<HTMLElement,
     public DataListExpandableContent that() {
         return this;
     }
+
+    // ------------------------------------------------------ api
+
+    @Override
+    public AsyncStatus contentStatus() {
+        return lazy.status();
+    }
 }
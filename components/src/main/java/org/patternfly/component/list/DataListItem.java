@@ -188,6 +188,7 @@ public class DataListItem extends DataListSubComponent<HTMLLIElement, DataListIt
     @Override
     public void collapse(boolean fireEvent) {
         Expandable.collapse(element(), toggleButton.element(), expandableContent.element());
+        expandableContent.lazy.collapse();
         if (fireEvent && toggleHandler != null) {
             toggleHandler.onToggle(new Event(""), this, false);
         }
@@ -196,6 +197,7 @@ public class DataListItem extends DataListSubComponent<HTMLLIElement, DataListIt
     @Override
     public void expand(boolean fireEvent) {
         Expandable.expand(element(), toggleButton.element(), expandableContent.element());
+        expandableContent.lazy.expand();
         if (fireEvent && toggleHandler != null) {
             toggleHandler.onToggle(new Event(""), this, true);
         }
@@ -24,6 +24,7 @@ import org.patternfly.component.AddItemHandler;
 import org.patternfly.component.AurHandler;
 import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.Ordered;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
@@ -295,6 +296,11 @@ public class DescriptionList extends BaseComponent<HTMLElement, DescriptionList>
         });
     }
 
+    @Override
+    public void reorderItems(java.util.List<DescriptionListGroup> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         DescriptionListGroup item = items.remove(identifier);
@@ -25,6 +25,7 @@ import org.patternfly.component.AddItemHandler;
 import org.patternfly.component.AurHandler;
 import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.Ordered;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
@@ -170,6 +171,11 @@ public class List extends BaseComponent<HTMLElement, List> implements
         });
     }
 
+    @Override
+    public void reorderItems(java.util.List<ListItem> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         ListItem item = items.remove(identifier);
@@ -28,6 +28,7 @@ import org.patternfly.component.AddItemHandler;
 import org.patternfly.component.AurHandler;
 import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.Ordered;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
@@ -235,6 +236,11 @@ public class SimpleList extends BaseComponent<HTMLElement, SimpleList> implement
         });
     }
 
+    @Override
+    public void reorderItems(List<SimpleListItem> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         SimpleListItem item = items.remove(identifier);
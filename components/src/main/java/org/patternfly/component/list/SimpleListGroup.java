@@ -26,6 +26,7 @@ import org.jboss.elemento.HTMLContainerBuilder;
 import org.jboss.elemento.Id;
 import org.patternfly.component.AddItemHandler;
 import org.patternfly.component.AurHandler;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.Ordered;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
@@ -176,6 +177,11 @@ public class SimpleListGroup extends SimpleListSubComponent<HTMLElement, SimpleL
         });
     }
 
+    @Override
+    public void reorderItems(java.util.List<SimpleListItem> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         SimpleListItem item = items.remove(identifier);
@@ -21,9 +21,7 @@ import java.util.List;
 
 import org.gwtproject.event.shared.HandlerRegistration;
 import org.jboss.elemento.Attachable;
-import org.jboss.elemento.By;
 import org.jboss.elemento.Id;
-import org.jboss.elemento.logger.Logger;
 import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
 import org.patternfly.component.SelectionMode;
@@ -32,23 +30,17 @@ import org.patternfly.handler.SelectHandler;
 import org.patternfly.style.Classes;
 import org.patternfly.style.Modifiers.Plain;
 
-import elemental2.core.JsArray;
-import elemental2.dom.Element;
 import elemental2.dom.Event;
 import elemental2.dom.HTMLDivElement;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.KeyboardEvent;
 import elemental2.dom.MutationRecord;
-import elemental2.dom.Node;
-import elemental2.dom.NodeList;
 import elemental2.promise.Promise;
 
 import static elemental2.dom.DomGlobal.document;
-import static elemental2.dom.DomGlobal.window;
 import static java.util.stream.Collectors.toList;
 import static org.jboss.elemento.Elements.div;
 import static org.jboss.elemento.Elements.failSafeRemoveFromParent;
-import static org.jboss.elemento.Elements.isVisible;
 import static org.jboss.elemento.Elements.setVisible;
 import static org.jboss.elemento.EventType.bind;
 import static org.jboss.elemento.EventType.keydown;
@@ -56,7 +48,9 @@ import static org.jboss.elemento.Key.ArrowDown;
 import static org.jboss.elemento.Key.ArrowLeft;
 import static org.jboss.elemento.Key.ArrowRight;
 import static org.jboss.elemento.Key.ArrowUp;
+import static org.jboss.elemento.Key.End;
 import static org.jboss.elemento.Key.Enter;
+import static org.jboss.elemento.Key.Home;
 import static org.jboss.elemento.Key.Spacebar;
 import static org.patternfly.component.SelectionMode.click;
 import static org.patternfly.component.SelectionMode.group;
@@ -67,8 +61,6 @@ import static org.patternfly.component.menu.MenuFooter.menuFooter;
 import static org.patternfly.component.menu.MenuHeader.menuHeader;
 import static org.patternfly.core.AsyncStatus.pending;
 import static org.patternfly.style.Classes.component;
-import static org.patternfly.style.Classes.disabled;
-import static org.patternfly.style.Classes.divider;
 import static org.patternfly.style.Classes.favorited;
 import static org.patternfly.style.Classes.flyout;
 import static org.patternfly.style.Classes.menu;
@@ -98,14 +90,13 @@ public class Menu extends BaseComponent<HTMLDivElement, Menu> implements
 
     // ------------------------------------------------------ instance
 
-    private static final Logger logger = Logger.getLogger(Menu.class.getName());
-
     final String menuName;
     final MenuType menuType;
     final SelectionMode selectionMode;
     final List<MenuActionHandler> actionHandler;
     boolean favorites;
     MenuContent content;
+    final MenuNavigation navigation;
     private final List<SelectHandler<MenuItem>> selectHandler;
     private final List<MultiSelectHandler<Menu, MenuItem>> multiSelectHandler;
     private MenuItem noResultsItem;
@@ -119,6 +110,7 @@ public class Menu extends BaseComponent<HTMLDivElement, Menu> implements
         this.actionHandler = new ArrayList<>();
         this.selectHandler = new ArrayList<>();
         this.multiSelectHandler = new ArrayList<>();
+        this.navigation = new MenuNavigation(this);
         // TODO Without this workaround the menu "flickers" when showing.
         //  This could be solved by replacing the show/hide alg with an add/remove alg in the Popper class
         componentVar(component(menu), "TransitionDuration").applyTo(this).set(0);
@@ -129,7 +121,7 @@ public class Menu extends BaseComponent<HTMLDivElement, Menu> implements
     @Override
     public void attach(MutationRecord mutationRecord) {
         allowTabFirstItem();
-        keyHandler = bind(window, keydown, this::keyHandler);
+        keyHandler = bind(element(), keydown, this::keyHandler);
     }
 
     @Override
@@ -233,10 +225,7 @@ public class Menu extends BaseComponent<HTMLDivElement, Menu> implements
      * the menu items have changed (e.g., after filtering or searching items).
      */
     public void allowTabFirstItem() {
-        HTMLElement first = querySelector(By.selector("ul button:not(:disabled), ul a:not(:disabled)"));
-        if (first != null) {
-            first.tabIndex = 0;
-        }
+        navigation.allowTabFirst();
     }
 
     public MenuItem findItem(String identifier) {
@@ -392,6 +381,7 @@ public class Menu extends BaseComponent<HTMLDivElement, Menu> implements
         }
 
         int visibleItems = 0;
+        navigation.invalidate();
         for (MenuItem menuItem : items()) {
             boolean visible = searchFilter.test(menuItem, value);
             setVisible(menuItem, visible);
@@ -414,6 +404,7 @@ public class Menu extends BaseComponent<HTMLDivElement, Menu> implements
 
     void clearSearch() {
         failSafeRemoveFromParent(noResultsItem);
+        navigation.invalidate();
         for (MenuItem menuItem : items()) {
             setVisible(menuItem, true);
         }
@@ -490,136 +481,62 @@ public class Menu extends BaseComponent<HTMLDivElement, Menu> implements
 
     // ------------------------------------------------------ keyboard navigation
 
+    void focusFirstItem() {
+        navigation.focus(navigation.first());
+    }
+
+    void focusLastItem() {
+        navigation.focus(navigation.last());
+    }
+
     private void keyHandler(KeyboardEvent event) {
         HTMLElement activeElement = (HTMLElement) document.activeElement;
-        if (element().contains(((Node) event.target))) {
-            JsArray<HTMLElement> navigableElements = navigableElement(element());
-            if (navigableElements.length == 0) {
-                logger.warn("Menu %o has no navigable elements. Keyboard navigation will be ignored.", element());
-            }
-
-            if (Enter.match(event)) {
-                event.preventDefault();
-                event.stopImmediatePropagation();
-                activeElement.click();
-            } else if (Spacebar.match(event)) {
+        if (Enter.match(event) || Spacebar.match(event)) {
+            if (!typing(activeElement)) {
                 event.preventDefault();
                 event.stopImmediatePropagation();
                 activeElement.click();
             }
-            handleArrows(event, activeElement, navigableElements);
+            return;
         }
-    }
 
-    private void handleArrows(KeyboardEvent event, HTMLElement activeElement, JsArray<HTMLElement> navigableElements) {
         HTMLElement moveTarget = null;
         boolean arrowUp = ArrowUp.match(event);
         boolean arrowDown = ArrowDown.match(event);
         boolean arrowLeft = ArrowLeft.match(event);
         boolean arrowRight = ArrowRight.match(event);
-
         if (arrowUp || arrowDown) {
-            event.preventDefault();
-            event.stopImmediatePropagation();
-
-            int currentIndex;
-            for (int index = 0; index < navigableElements.length; index++) {
-                HTMLElement element = navigableElements.at(index);
-                if (isActiveElement(element)) {
-                    int increment = 0;
-                    while (moveTarget == null &&
-                            increment < navigableElements.length &&
-                            increment * -1 < navigableElements.length) {
-                        increment = arrowUp ? increment - 1 : increment + 1;
-                        currentIndex = index + increment;
-                        if (currentIndex >= navigableElements.length) {
-                            currentIndex = 0;
-                        }
-                        if (currentIndex < 0) {
-                            currentIndex = navigableElements.length - 1;
-                        }
-                        moveTarget = getFocusableElement(navigableElements.at(currentIndex));
-                    }
-                }
+            moveTarget = navigation.next(activeElement, arrowDown);
+        } else if (arrowLeft || arrowRight) {
+            if (typing(activeElement)) {
+                return;
             }
-
-        } else {
-            if (arrowLeft || arrowRight) {
-                event.preventDefault();
-                event.stopImmediatePropagation();
-
-                JsArray<String> validSiblingTags = JsArray.of("BUTTON", "A");
-                for (int i = 0; i < navigableElements.length; i++) {
-                    HTMLElement element = navigableElements.at(i);
-                    if (isActiveElement(element)) {
-                        NodeList<Element> activeRow = element.querySelectorAll(validSiblingTags.join(","));
-                        if (activeRow.length > 0) {
-                            HTMLElement nextSibling = (HTMLElement) document.activeElement;
-                            while (nextSibling != null) {
-                                boolean isDirectChildOfNavigableElement = nextSibling.parentElement == element;
-                                HTMLElement nextSiblingMainElement = isDirectChildOfNavigableElement ? nextSibling :
-                                        ((HTMLElement) nextSibling.parentElement);
-                                nextSibling = (HTMLElement) (arrowLeft
-                                        ? nextSiblingMainElement.previousElementSibling
-                                        : nextSiblingMainElement.nextElementSibling);
-                                if (nextSibling != null) {
-                                    if (validSiblingTags.includes(nextSibling.tagName)) {
-                                        moveTarget = nextSibling;
-                                        break;
-                                    }
-                                    // For cases where the validSiblingTag is inside a div wrapper
-                                    if (nextSibling.firstElementChild != null && validSiblingTags.includes(
-                                            nextSibling.firstElementChild.tagName)) {
-                                        moveTarget = (HTMLElement) nextSibling.firstElementChild;
-                                        break;
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
+            moveTarget = navigation.sibling(activeElement, arrowRight);
+        } else if (Home.match(event) || End.match(event)) {
+            if (typing(activeElement)) {
+                return;
+            }
+            moveTarget = Home.match(event) ? navigation.first() : navigation.last();
+        } else if (event.key != null && event.key.length() == 1 && !event.ctrlKey && !event.metaKey && !event.altKey) {
+            if (typing(activeElement)) {
+                return;
             }
+            moveTarget = navigation.typeahead(activeElement, event.key);
+        } else {
+            return;
         }
 
+        // don't swallow keys which don't move the focus (e.g. printable keys without a typeahead match)
         if (moveTarget != null) {
-            activeElement.tabIndex = -1;
-            moveTarget.tabIndex = 0;
-            moveTarget.focus();
-        }
-    }
-
-    private JsArray<HTMLElement> navigableElement(HTMLElement element) {
-        JsArray<HTMLElement> elements = JsArray.from(element.querySelectorAll("li").values());
-        return elements.filter((e, i) ->
-                isVisible(e) && !(e.classList.contains(modifier(disabled)) || e.classList.contains(component(divider))));
-    }
-
-    private HTMLElement getFocusableElement(HTMLElement navigableElement) {
-        HTMLElement focusableElement = null;
-        if ("DIV".equals(navigableElement.tagName)) {
-            focusableElement = (HTMLElement) navigableElement.querySelector("input");
-        }
-
-        if (focusableElement == null) {
-            HTMLElement firstChild = (HTMLElement) navigableElement.firstChild;
-            if (firstChild != null) {
-                if ("LABEL".equals(firstChild.tagName)) {
-                    focusableElement = (HTMLElement) navigableElement.querySelector("input");
-                } else if ("DIV".equals(firstChild.tagName)) {
-                    focusableElement = (HTMLElement) navigableElement.querySelector("a, button, input");
-                } else {
-                    focusableElement = firstChild;
-                }
-            }
+            event.preventDefault();
+            event.stopImmediatePropagation();
+            navigation.focus(moveTarget);
         }
-        return focusableElement;
     }
 
-    private boolean isActiveElement(HTMLElement element) {
-        return document.activeElement.closest("li") == element ||
-                document.activeElement.parentElement == element ||
-                document.activeElement.closest(component(menu, Classes.search)) == element ||
-                (document.activeElement.closest("ol") != null &&
-                        document.activeElement.closest("ol").firstChild == element);
+    // true if the user types into a text input (e.g. the menu search)
+    private boolean typing(HTMLElement element) {
+        return "INPUT".equals(element.tagName) && !"checkbox".equals(element.getAttribute("type"))
+                || "TEXTAREA".equals(element.tagName);
     }
 }
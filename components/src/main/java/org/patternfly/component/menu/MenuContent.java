@@ -95,6 +95,7 @@ public class MenuContent extends MenuSubComponent<HTMLDivElement, MenuContent> i
                 insertFirst(element(), favoritesGroup);
             }
 
+            menu.navigation.invalidate();
             for (MenuItem item : menu.items()) {
                 if (item.itemType == MenuItemType.async) {
                     continue;
@@ -166,6 +167,10 @@ public class MenuContent extends MenuSubComponent<HTMLDivElement, MenuContent> i
     }
 
     void showFavorites(boolean visible) {
+        Menu menu = lookupComponent(true);
+        if (menu != null) {
+            menu.navigation.invalidate();
+        }
         if (favoritesDivider != null) {
             setVisible(favoritesDivider, visible);
             favoritesDivider.element().hidden = !visible;
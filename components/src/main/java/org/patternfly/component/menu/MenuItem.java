@@ -392,6 +392,10 @@ public class MenuItem extends MenuSubComponent<HTMLElement, MenuItem> implements
         if (itemAction != null) {
             itemAction.action.disabled(disabled);
         }
+        Menu menu = lookupComponent(true);
+        if (menu != null) {
+            menu.navigation.invalidate();
+        }
         return Disabled.super.disabled(disabled);
     }
 
@@ -555,6 +559,19 @@ public class MenuItem extends MenuSubComponent<HTMLElement, MenuItem> implements
         }
     }
 
+    /** The element which receives the focus when navigating with the keyboard. */
+    HTMLElement focusElement() {
+        if (itemType == checkbox) {
+            if (checkboxComponent != null) {
+                return checkboxComponent.inputElement().element();
+            }
+            // cloned favorite items have no checkbox component
+            HTMLElement input = (HTMLElement) itemElement.querySelector("input");
+            return input != null ? input : itemElement;
+        }
+        return itemElement;
+    }
+
     boolean isSelected() {
         if (itemType == checkbox) {
             return checkboxComponent.value();
@@ -28,15 +28,18 @@ import org.jboss.elemento.Id;
 import org.jboss.elemento.logger.Logger;
 import org.patternfly.component.AddItemHandler;
 import org.patternfly.component.AsyncItems;
+import org.patternfly.component.AsyncItemsRenderer;
 import org.patternfly.component.AurHandler;
 import org.patternfly.component.ComponentType;
 import org.patternfly.component.HasAsyncItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.Ordered;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 import org.patternfly.core.Aria;
 import org.patternfly.core.AsyncStatus;
 import org.patternfly.core.Roles;
+import org.patternfly.handler.ProgressHandler;
 
 import elemental2.dom.HTMLUListElement;
 import elemental2.dom.MutationRecord;
@@ -53,6 +56,7 @@ import static org.patternfly.component.menu.MenuItem.menuItem;
 import static org.patternfly.component.menu.MenuItem.skeletonMenuItem;
 import static org.patternfly.core.AsyncStatus.pending;
 import static org.patternfly.core.AsyncStatus.rejected;
+import static org.patternfly.core.AsyncStatus.rendering;
 import static org.patternfly.core.AsyncStatus.resolved;
 import static org.patternfly.core.AsyncStatus.static_;
 import static org.patternfly.core.Attributes.role;
@@ -93,7 +97,9 @@ public class MenuList extends MenuSubComponent<HTMLUListElement, MenuList> imple
             .icon(errorFill());
 
     final Map<String, MenuItem> items;
+    int modCount;
     private final AurHandler<MenuList, MenuItem> aur;
+    private final AsyncItemsRenderer<MenuList, MenuItem> renderer;
     private AsyncStatus status;
     private MenuItem loadingItem;
     private MenuItem noItemsItem;
@@ -105,6 +111,7 @@ public class MenuList extends MenuSubComponent<HTMLUListElement, MenuList> imple
         super(SUB_COMPONENT_ID, SUB_COMPONENT_NAME, ul().css(component(menu, list)).element());
         this.items = new LinkedHashMap<>();
         this.aur = new AurHandler<>(this);
+        this.renderer = new AsyncItemsRenderer<>(this);
         this.status = static_;
         storeSubComponent();
         Attachable.register(this, this);
@@ -135,6 +142,7 @@ public class MenuList extends MenuSubComponent<HTMLUListElement, MenuList> imple
     public MenuList add(MenuItem item) {
         addOrdered(this, item);
         items.put(item.identifier(), item);
+        modCount++;
         return aur.added(item);
     }
 
@@ -157,6 +165,11 @@ public class MenuList extends MenuSubComponent<HTMLUListElement, MenuList> imple
         return this;
     }
 
+    @Override
+    public MenuList renderInChunks(int firstChunk) {
+        return renderer.chunked(firstChunk);
+    }
+
     @Override
     public MenuList that() {
         return this;
@@ -179,6 +192,11 @@ public class MenuList extends MenuSubComponent<HTMLUListElement, MenuList> imple
         return aur.onRemove(onRemove);
     }
 
+    @Override
+    public MenuList onRenderProgress(ProgressHandler<MenuList> progressHandler) {
+        return renderer.onProgress(progressHandler);
+    }
+
     // ------------------------------------------------------ api
 
     @Override
@@ -198,16 +216,18 @@ public class MenuList extends MenuSubComponent<HTMLUListElement, MenuList> imple
             // load items
             return asyncItems.apply(this)
                     .then(items -> {
-                        status = resolved;
+                        status = rendering;
                         failSafeRemoveFromParent(loadingItem);
-                        int count = 0;
-                        for (MenuItem item : items) {
-                            addItem(item);
-                            count++;
-                        }
-                        if (count == 0) {
-                            noItemsItem = noItems.get();
-                            addItem(noItemsItem);
+                        return renderer.render(items, this::addItem);
+                    })
+                    .then(items -> {
+                        // the status is no longer 'rendering' if the list has been reset in the meantime
+                        if (status == rendering) {
+                            status = resolved;
+                            if (renderer.rendered() == 0) {
+                                noItemsItem = noItems.get();
+                                addItem(noItemsItem);
+                            }
                         }
                         return Promise.resolve(items);
                     })
@@ -250,7 +270,8 @@ public class MenuList extends MenuSubComponent<HTMLUListElement, MenuList> imple
 
     @Override
     public void reset() {
-        if (status == resolved || status == rejected) {
+        if (status == resolved || status == rejected || status == rendering) {
+            renderer.cancel();
             status = pending;
             internalClear();
         }
@@ -290,14 +311,22 @@ public class MenuList extends MenuSubComponent<HTMLUListElement, MenuList> imple
     public void updateItem(MenuItem item) {
         replaceItemElement(item, (oldItem, newItem) -> {
             items.put(newItem.identifier(), newItem);
+            modCount++;
             aur.updated(oldItem, newItem);
         });
     }
 
+    @Override
+    public void reorderItems(List<MenuItem> items) {
+        KeyedDiff.reorder(this.items, items);
+        modCount++;
+    }
+
     @Override
     public void removeItem(String identifier) {
         MenuItem item = items.remove(identifier);
         failSafeRemoveFromParent(item);
+        modCount++;
         aur.removed(item);
     }
 
@@ -305,7 +334,7 @@ public class MenuList extends MenuSubComponent<HTMLUListElement, MenuList> imple
     public void clear() {
         if (status == static_) {
             internalClear();
-        } else if (status == resolved || status == rejected || status == pending) {
+        } else if (status == resolved || status == rejected || status == rendering || status == pending) {
             reset();
         }
     }
@@ -315,6 +344,7 @@ public class MenuList extends MenuSubComponent<HTMLUListElement, MenuList> imple
     void removeItem(MenuItem item) {
         items.remove(item.identifier());
         failSafeRemoveFromParent(item);
+        modCount++;
         aur.removed(item);
     }
 
@@ -322,6 +352,7 @@ public class MenuList extends MenuSubComponent<HTMLUListElement, MenuList> imple
         failSafeRemoveFromParent(loadingItem);
         failSafeRemoveFromParent(noItemsItem);
         failSafeRemoveFromParent(errorItem);
+        modCount++;
         Iterator<MenuItem> iterator = items.values().iterator();
         while (iterator.hasNext()) {
             MenuItem item = iterator.next();
@@ -0,0 +1,261 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component.menu;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import elemental2.dom.Element;
+import elemental2.dom.HTMLElement;
+
+import static org.jboss.elemento.Elements.isVisible;
+import static org.patternfly.style.Classes.disabled;
+import static org.patternfly.style.Classes.modifier;
+
+/**
+ * Internal helper that implements the roving tabindex keyboard model of {@link Menu}.
+ * <p>
+ * The navigation keeps an ordered index of all navigable menu items (visible and not disabled) across all menu lists and
+ * groups. The index is rebuilt lazily after the menu lists or the search filter changed. Each menu list counts its
+ * modifications, so detecting a stale index doesn't need any DOM queries. Once the index is up to date, moving the focus
+ * with Up, Down, Home, End or by typing the first character of an item is a constant-time operation.
+ */
+class MenuNavigation {
+
+    private final Menu menu;
+    private final List<MenuItem> entries;
+    private final Map<Element, Integer> indexByElement;
+    private final Map<String, List<Integer>> indexByChar;
+    private boolean dirty;
+    private int modCount;
+    private int current;
+    private HTMLElement focused;
+
+    MenuNavigation(Menu menu) {
+        this.menu = menu;
+        this.entries = new ArrayList<>();
+        this.indexByElement = new HashMap<>();
+        this.indexByChar = new HashMap<>();
+        this.dirty = true;
+        this.modCount = -1;
+        this.current = -1;
+    }
+
+    // ------------------------------------------------------ api
+
+    void invalidate() {
+        dirty = true;
+    }
+
+    /** Makes the first navigable item reachable by the Tab key. */
+    void allowTabFirst() {
+        ensureIndex();
+        if (!entries.isEmpty()) {
+            rove(focusElement(0));
+        }
+    }
+
+    HTMLElement first() {
+        ensureIndex();
+        return entries.isEmpty() ? null : focusElement(0);
+    }
+
+    HTMLElement last() {
+        ensureIndex();
+        return entries.isEmpty() ? null : focusElement(entries.size() - 1);
+    }
+
+    /**
+     * Returns the element of the next (or previous) navigable item relative to the active element. If the active element is
+     * not part of a menu item (e.g. the search input), the first (or last) item is returned.
+     */
+    HTMLElement next(HTMLElement active, boolean forward) {
+        ensureIndex();
+        if (entries.isEmpty()) {
+            return null;
+        }
+        int index = indexOf(active);
+        if (index == -1) {
+            return focusElement(forward ? 0 : entries.size() - 1);
+        }
+        int size = entries.size();
+        return focusElement(forward ? (index + 1) % size : (index - 1 + size) % size);
+    }
+
+    /** Returns the element of the next item after the active element whose text starts with the specified character. */
+    HTMLElement typeahead(HTMLElement active, String character) {
+        ensureIndex();
+        List<Integer> indices = indexByChar.get(character.toLowerCase());
+        if (indices == null) {
+            return null;
+        }
+        int index = indexOf(active);
+        int position = Collections.binarySearch(indices, index + 1);
+        if (position < 0) {
+            position = -position - 1;
+        }
+        return focusElement(indices.get(position < indices.size() ? position : 0));
+    }
+
+    /**
+     * Returns the next (or previous) focusable element within the row of the active element. A row consists of the menu
+     * item itself and its actions (including the mark-as-favorite action).
+     */
+    HTMLElement sibling(HTMLElement active, boolean forward) {
+        ensureIndex();
+        int index = indexOf(active);
+        if (index == -1) {
+            return null;
+        }
+        Element row = entries.get(index).element();
+        Element control = active;
+        while (control != null && control.parentElement != row) {
+            control = control.parentElement;
+        }
+        if (control == null) {
+            return null;
+        }
+        for (Element sibling = forward ? control.nextElementSibling : control.previousElementSibling;
+                sibling != null;
+                sibling = forward ? sibling.nextElementSibling : sibling.previousElementSibling) {
+            if (focusable(sibling)) {
+                return (HTMLElement) sibling;
+            }
+            // the actions wrap their buttons in a div
+            if (focusable(sibling.firstElementChild)) {
+                return (HTMLElement) sibling.firstElementChild;
+            }
+        }
+        return null;
+    }
+
+    /** Moves the roving tabindex to the specified element and focuses it. */
+    void focus(HTMLElement element) {
+        if (element != null) {
+            rove(element);
+            element.focus();
+        }
+    }
+
+    // ------------------------------------------------------ internal
+
+    private void rove(HTMLElement element) {
+        if (focused != null && focused != element) {
+            focused.tabIndex = -1;
+        }
+        element.tabIndex = 0;
+        focused = element;
+    }
+
+    private int indexOf(HTMLElement active) {
+        if (active == focused && current != -1) {
+            return current;
+        }
+        // walk up from the active element to the menu item (a few levels at most)
+        current = -1;
+        for (Element element = active; element != null && element != menu.element(); element = element.parentElement) {
+            Integer index = indexByElement.get(element);
+            if (index != null) {
+                current = index;
+                break;
+            }
+        }
+        return current;
+    }
+
+    private HTMLElement focusElement(int index) {
+        current = index;
+        return entries.get(index).focusElement();
+    }
+
+    private void ensureIndex() {
+        int mc = menuModCount();
+        if (dirty || mc != modCount) {
+            rebuild();
+            modCount = mc;
+            dirty = false;
+        }
+    }
+
+    private int menuModCount() {
+        int mc = 0;
+        if (menu.content != null) {
+            for (MenuGroup group : menu.content.groups) {
+                if (group.list != null) {
+                    mc += group.list.modCount;
+                }
+            }
+            if (menu.content.list != null) {
+                mc += menu.content.list.modCount;
+            }
+        }
+        return mc;
+    }
+
+    private void rebuild() {
+        entries.clear();
+        indexByElement.clear();
+        indexByChar.clear();
+        current = -1;
+        if (menu.content != null) {
+            for (MenuGroup group : menu.content.groups) {
+                if (group.list != null && isVisible(group.element())) {
+                    index(group.list);
+                }
+            }
+            if (menu.content.list != null) {
+                index(menu.content.list);
+            }
+        }
+    }
+
+    private void index(MenuList list) {
+        // use the DOM order of the list: ordered lists insert items at their sorted position
+        Map<Element, MenuItem> items = new HashMap<>();
+        for (MenuItem item : list.items.values()) {
+            items.put(item.element(), item);
+        }
+        for (Element child = list.element().firstElementChild; child != null; child = child.nextElementSibling) {
+            MenuItem item = items.get(child);
+            if (item != null && isVisible(item.element()) && !item.element().classList.contains(modifier(disabled))) {
+                int index = entries.size();
+                entries.add(item);
+                indexByElement.put(item.element(), index);
+                String text = item.text();
+                if (text != null) {
+                    text = text.trim();
+                    if (!text.isEmpty()) {
+                        indexByChar.computeIfAbsent(text.substring(0, 1).toLowerCase(), c -> new ArrayList<>()).add(index);
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean focusable(Element element) {
+        if (element == null) {
+            return false;
+        }
+        String tagName = element.tagName;
+        if ("BUTTON".equals(tagName) || "INPUT".equals(tagName)) {
+            return !element.hasAttribute("disabled");
+        }
+        return "A".equals(tagName);
+    }
+}
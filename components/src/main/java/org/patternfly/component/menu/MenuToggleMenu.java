@@ -32,26 +32,23 @@ import org.patternfly.component.Expandable;
 import org.patternfly.core.Aria;
 import org.patternfly.handler.ComponentHandler;
 import org.patternfly.handler.ToggleHandler;
+import org.patternfly.overlay.ManagedOverlay;
 import org.patternfly.overlay.Overlay;
+import org.patternfly.overlay.OverlayManager;
 import org.patternfly.style.Classes;
 import org.patternfly.style.Modifiers.Disabled;
 import org.patternfly.style.Placement;
 
-import elemental2.core.JsArray;
 import elemental2.dom.Event;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.KeyboardEvent;
 import elemental2.dom.MutationRecord;
 import elemental2.dom.Node;
 
-import static elemental2.dom.DomGlobal.document;
-import static elemental2.dom.DomGlobal.window;
 import static org.jboss.elemento.Elements.div;
 import static org.jboss.elemento.Elements.insertAfter;
-import static org.jboss.elemento.Elements.isVisible;
 import static org.jboss.elemento.EventType.bind;
 import static org.jboss.elemento.EventType.click;
-import static org.jboss.elemento.EventType.keydown;
 import static org.jboss.elemento.Key.ArrowDown;
 import static org.jboss.elemento.Key.ArrowUp;
 import static org.jboss.elemento.Key.Escape;
@@ -85,18 +82,38 @@ abstract class MenuToggleMenu<B extends TypedBuilder<HTMLElement, B>> extends Co
     private final HTMLElement menuPopover;
     private final List<ToggleHandler<B>> toggleHandler;
     private final List<ComponentHandler<B>> loadedHandler;
+    private final ManagedOverlay managed;
     private boolean disabled;
     private StayOpenPredicate stayOpen;
     private HandlerRegistration menuToggleClickHandler;
     private HandlerRegistration menuClickHandler;
-    private HandlerRegistration keyHandler;
-    private HandlerRegistration outsideClickHandler;
 
     MenuToggleMenu(ComponentType componentType, MenuToggle menuToggle) {
         super(componentType);
         this.menuToggle = menuToggle;
         this.toggleHandler = new ArrayList<>();
         this.loadedHandler = new ArrayList<>();
+        this.managed = new ManagedOverlay() {
+            @Override
+            public boolean contains(Node node) {
+                return menu.element().contains(node) || menuToggle.element().contains(node);
+            }
+
+            @Override
+            public Node trigger() {
+                return menuToggle.element();
+            }
+
+            @Override
+            public void onOutsideClick(Event event) {
+                MenuToggleMenu.this.onOutsideClick(event);
+            }
+
+            @Override
+            public boolean onKeydown(KeyboardEvent event) {
+                return keyHandler(event);
+            }
+        };
 
         menuPopover = div().css(component(Classes.overlay)).element();
         overlay = overlay(menuPopover, bottomStart)
@@ -118,7 +135,6 @@ abstract class MenuToggleMenu<B extends TypedBuilder<HTMLElement, B>> extends Co
             overlay.attach();
             menuToggleClickHandler = bind(menuToggle.toggleElement, click, this::onMenuToggleClick);
             menuClickHandler = bind(menu, click, this::onMenuClick);
-            keyHandler = bind(window, keydown, this::keyHandler);
 
         } else {
             logger.error("No toggle and/or menu defined for %s %o", componentType().name(), element());
@@ -130,12 +146,7 @@ abstract class MenuToggleMenu<B extends TypedBuilder<HTMLElement, B>> extends Co
         if (expanded()) {
             overlay.hide();
         }
-        if (outsideClickHandler != null) {
-            outsideClickHandler.removeHandler();
-        }
-        if (keyHandler != null) {
-            keyHandler.removeHandler();
-        }
+        OverlayManager.close(managed);
         if (menuClickHandler != null) {
             menuClickHandler.removeHandler();
         }
@@ -223,10 +234,7 @@ abstract class MenuToggleMenu<B extends TypedBuilder<HTMLElement, B>> extends Co
         if (expanded()) {
             overlay.hide();
             Expandable.collapse(element(), element(), null);
-            if (outsideClickHandler != null) {
-                outsideClickHandler.removeHandler();
-                outsideClickHandler = null;
-            }
+            OverlayManager.close(managed);
             if (fireEvent) {
                 toggleHandler.forEach(th -> th.onToggle(new Event(""), that(), false));
             }
@@ -239,7 +247,7 @@ abstract class MenuToggleMenu<B extends TypedBuilder<HTMLElement, B>> extends Co
         if (!expanded() && !isDisabled()) {
             overlay.show();
             Expandable.expand(element(), element(), null);
-            outsideClickHandler = bind(document, click, this::onOutsideClick);
+            OverlayManager.open(managed);
             if (fireEvent) {
                 toggleHandler.forEach(th -> th.onToggle(new Event(""), that(), true));
             }
@@ -281,15 +289,16 @@ abstract class MenuToggleMenu<B extends TypedBuilder<HTMLElement, B>> extends Co
 
     // ------------------------------------------------------ internal event handlers
 
-    private void keyHandler(KeyboardEvent event) {
+    private boolean keyHandler(KeyboardEvent event) {
         if (expanded()) {
             if (Escape.match(event)) {
                 collapse();
-                return;
+                return true;
             }
             if ((menuToggle.element().contains((Node) event.target) ||
                     menu.element().contains((Node) event.target)) && Tab.match(event)) {
                 collapse();
+                return true;
             }
         }
 
@@ -298,23 +307,15 @@ abstract class MenuToggleMenu<B extends TypedBuilder<HTMLElement, B>> extends Co
             boolean arrowDown = ArrowDown.match(event);
             if (arrowUp || arrowDown) {
                 event.preventDefault();
-                HTMLElement focusableElement;
-                JsArray<HTMLElement> listItems = JsArray.from(menu.element().querySelectorAll("li").values());
-                JsArray<HTMLElement> focusableElements = listItems
-                        .filter((li, __) -> isVisible(li))
-                        .map((li, __) -> ((HTMLElement) li.querySelector(
-                                "button:not(:disabled),input:not(:disabled),a:not([aria-disabled=\"true\"])")))
-                        .filter((li, __) -> li != null);
                 if (arrowDown) {
-                    focusableElement = focusableElements.at(0);
+                    menu.focusFirstItem();
                 } else {
-                    focusableElement = focusableElements.at(focusableElements.length - 1);
-                }
-                if (focusableElement != null) {
-                    focusableElement.focus();
+                    menu.focusLastItem();
                 }
+                return true;
             }
         }
+        return false;
     }
 
     private void onMenuToggleClick(Event event) {
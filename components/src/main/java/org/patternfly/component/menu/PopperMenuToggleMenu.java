@@ -22,10 +22,8 @@ import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
-import org.gwtproject.event.shared.HandlerRegistration;
 import org.jboss.elemento.Attachable;
 import org.jboss.elemento.By;
-import org.jboss.elemento.EventType;
 import org.jboss.elemento.Id;
 import org.jboss.elemento.TypedBuilder;
 import org.jboss.elemento.logger.Logger;
@@ -43,7 +41,6 @@ import org.patternfly.popper.TriggerAction;
 import org.patternfly.style.Classes;
 import org.patternfly.style.Modifiers.Disabled;
 
-import elemental2.core.JsArray;
 import elemental2.dom.Event;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.KeyboardEvent;
@@ -51,11 +48,8 @@ import elemental2.dom.MutationRecord;
 import elemental2.dom.Node;
 
 import static elemental2.dom.DomGlobal.document;
-import static elemental2.dom.DomGlobal.window;
 import static org.jboss.elemento.Elements.failSafeRemoveFromParent;
-import static org.jboss.elemento.Elements.isVisible;
 import static org.jboss.elemento.Elements.setVisible;
-import static org.jboss.elemento.EventType.keydown;
 import static org.jboss.elemento.Key.ArrowDown;
 import static org.jboss.elemento.Key.ArrowUp;
 import static org.jboss.elemento.Key.Tab;
@@ -91,7 +85,6 @@ abstract class PopperMenuToggleMenu<B extends TypedBuilder<HTMLElement, B>> exte
     private boolean disabled;
     private PopperPlacement placement;
     private Popper popper;
-    private HandlerRegistration keyHandler;
     private Predicate<Event> stayOpen;
 
     PopperMenuToggleMenu(ComponentType componentType, MenuToggle menuToggle, TriggerAction triggerAction) {
@@ -127,9 +120,9 @@ abstract class PopperMenuToggleMenu<B extends TypedBuilder<HTMLElement, B>> exte
                     .registerHandler(menuToggle.toggleElement, triggerActions,
                             event -> expand(), event -> collapse())
                     .stayOpen(stayOpen)
+                    .onKeydown(this::keyHandler)
                     .zIndex(zIndex)
                     .build();
-            keyHandler = EventType.bind(window, keydown, this::keyHandler);
         } else {
             logger.error("No toggle and/or menu defined for %s %o", componentType().name(), element());
         }
@@ -137,9 +130,6 @@ abstract class PopperMenuToggleMenu<B extends TypedBuilder<HTMLElement, B>> exte
 
     @Override
     public void detach(MutationRecord mutationRecord) {
-        if (keyHandler != null) {
-            keyHandler.removeHandler();
-        }
         failSafeRemoveFromParent(menu);
         popper.cleanup();
     }
@@ -299,20 +289,10 @@ abstract class PopperMenuToggleMenu<B extends TypedBuilder<HTMLElement, B>> exte
             boolean arrowDown = ArrowDown.match(event);
             if (arrowUp || arrowDown) {
                 event.preventDefault();
-                HTMLElement focusableElement;
-                JsArray<HTMLElement> listItems = JsArray.from(menu.element().querySelectorAll("li").values());
-                JsArray<HTMLElement> focusableElements = listItems
-                        .filter((li, __) -> isVisible(li))
-                        .map((li, __) -> ((HTMLElement) li.querySelector(
-                                "button:not(:disabled),input:not(:disabled),a:not([aria-disabled=\"true\"])")))
-                        .filter((li, __) -> li != null);
                 if (arrowDown) {
-                    focusableElement = focusableElements.at(0);
+                    menu.focusFirstItem();
                 } else {
-                    focusableElement = focusableElements.at(focusableElements.length - 1);
-                }
-                if (focusableElement != null) {
-                    focusableElement.focus();
+                    menu.focusLastItem();
                 }
             }
         }
@@ -33,6 +33,7 @@ import org.patternfly.component.AddItemHandler;
 import org.patternfly.component.AurHandler;
 import org.patternfly.component.HasIdentifier;
 import org.patternfly.component.HasItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 import org.patternfly.component.divider.Divider;
@@ -104,7 +105,9 @@ public class ExpandableNavigationGroup extends NavigationSubComponent<HTMLLIElem
     final List<ToggleHandler<ExpandableNavigationGroup>> toggleHandler;
     private final String identifier;
     private final Map<String, NavigationItem> items;
-    private final Map<String, ExpandableNavigationGroup> expandableGroups;
+    final Map<String, ExpandableNavigationGroup> expandableGroups;
+    ExpandableNavigationGroup parent; // the parent expandable group (if any)
+    NavigationIndex index; // set when this group is added to a navigation
     private final HTMLButtonElement buttonElement;
     private final HTMLElement linkTextElement;
     private final HTMLElement section;
@@ -268,14 +271,27 @@ public class ExpandableNavigationGroup extends NavigationSubComponent<HTMLLIElem
     public void updateItem(NavigationItem item) {
         replaceItemElement(item, (oldItem, newItem) -> {
             items.put(newItem.identifier(), newItem);
+            newItem.group = this;
+            if (index != null) {
+                index.remove(oldItem);
+                index.add(newItem);
+            }
             aur.updated(oldItem, newItem);
         });
     }
 
+    @Override
+    public void reorderItems(List<NavigationItem> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         NavigationItem item = items.remove(identifier);
         failSafeRemoveFromParent(item);
+        if (index != null) {
+            index.remove(item);
+        }
         aur.removed(item);
     }
 
@@ -286,6 +302,9 @@ public class ExpandableNavigationGroup extends NavigationSubComponent<HTMLLIElem
         while (iterator.hasNext()) {
             NavigationItem item = iterator.next();
             iterator.remove();
+            if (index != null) {
+                index.remove(item);
+            }
             aur.removed(item);
         }
     }
@@ -294,6 +313,10 @@ public class ExpandableNavigationGroup extends NavigationSubComponent<HTMLLIElem
 
     private void internalAddItem(NavigationItem item, Consumer<NavigationItem> dom) {
         items.put(item.identifier(), item);
+        item.group = this;
+        if (index != null) {
+            index.add(item);
+        }
         dom.accept(item);
         aur.added(item);
     }
@@ -301,39 +324,16 @@ public class ExpandableNavigationGroup extends NavigationSubComponent<HTMLLIElem
     private void internalAddGroup(ExpandableNavigationGroup group, Consumer<ExpandableNavigationGroup> dom) {
         group.collapse(); // all groups are collapsed by default
         expandableGroups.put(group.identifier, group);
-        expandableGroups.put(group.identifier, group);
+        group.parent = this;
+        if (index != null) {
+            index.add(group);
+        }
         if (toggleHandler != null) {
             group.toggleHandler.addAll(toggleHandler);
         }
         dom.accept(group);
     }
 
-    NavigationItem findItem(String id) {
-        NavigationItem item = items.get(id);
-        if (item == null) {
-            for (ExpandableNavigationGroup group : expandableGroups.values()) {
-                item = group.findItem(id);
-                if (item != null) {
-                    break;
-                }
-            }
-        }
-        return item;
-    }
-
-    ExpandableNavigationGroup findGroup(String id) {
-        ExpandableNavigationGroup group = expandableGroups.get(id);
-        if (group == null) {
-            for (ExpandableNavigationGroup nestedGroup : expandableGroups.values()) {
-                group = nestedGroup.findGroup(id);
-                if (group != null) {
-                    break;
-                }
-            }
-        }
-        return group;
-    }
-
     void toggle() {
         boolean expanded = element().classList.contains(modifier(Classes.expanded));
         if (expanded) {
@@ -353,6 +353,10 @@ public class ExpandableNavigationGroup extends NavigationSubComponent<HTMLLIElem
         section.removeAttribute("inert");
     }
 
+    void current(boolean current) {
+        element().classList.toggle(modifier(Classes.current), current);
+    }
+
     void collapse() {
         element().classList.remove(modifier("expanded"));
         buttonElement.setAttribute(Aria.expanded, false);
@@ -32,6 +32,7 @@ import org.patternfly.component.AurHandler;
 import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
 import org.patternfly.component.HasItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.ScrollButtons;
 import org.patternfly.component.UpdateItemHandler;
@@ -44,7 +45,6 @@ import org.patternfly.handler.SelectHandler;
 import org.patternfly.handler.ToggleHandler;
 import org.patternfly.style.Classes;
 
-import elemental2.dom.Element;
 import elemental2.dom.Event;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.MutationRecord;
@@ -68,9 +68,7 @@ import static org.patternfly.core.Aria.label;
 import static org.patternfly.core.Attributes.role;
 import static org.patternfly.style.Classes.button;
 import static org.patternfly.style.Classes.component;
-import static org.patternfly.style.Classes.current;
 import static org.patternfly.style.Classes.horizontal;
-import static org.patternfly.style.Classes.link;
 import static org.patternfly.style.Classes.list;
 import static org.patternfly.style.Classes.modifier;
 import static org.patternfly.style.Classes.nav;
@@ -101,27 +99,26 @@ public class Navigation extends BaseComponent<HTMLElement, Navigation> implement
     // ------------------------------------------------------ instance
 
     private static final Logger logger = Logger.getLogger(Navigation.class.getName());
-    private static final By A_NAV_LINK_CURRENT = By.element("a")
-            .and(By.classnames(component(nav, link), modifier(current)));
-    private static final By LI_NAV_ITEM_EXPANDABLE = By.element("li")
-            .and(By.classnames(component(nav, Classes.item), modifier(Classes.expandable)));
 
     private final NavigationType type;
     private final ScrollButtons scrollButtons;
     private final HTMLElement itemsContainer;
     private final Map<String, NavigationItem> items;
     private final Map<String, NavigationGroup> groups;
-    private final Map<String, ExpandableNavigationGroup> expandableGroups;
+    private final NavigationIndex index;
+    private final List<ExpandableNavigationGroup> selectedGroups;
     private final List<SelectHandler<NavigationItem>> selectHandler;
     private final List<ToggleHandler<ExpandableNavigationGroup>> toggleHandler;
     private final AurHandler<Navigation, NavigationItem> aur;
+    private NavigationItem selectedItem;
 
     Navigation(NavigationType type) {
         super(ComponentType.Navigation, nav().css(component(nav)).element());
         this.type = type;
         this.items = new LinkedHashMap<>();
         this.groups = new LinkedHashMap<>();
-        this.expandableGroups = new LinkedHashMap<>();
+        this.index = new NavigationIndex();
+        this.selectedGroups = new ArrayList<>();
         this.selectHandler = new ArrayList<>();
         this.toggleHandler = new ArrayList<>();
         this.aur = new AurHandler<>(this);
@@ -371,32 +368,37 @@ public class Navigation extends BaseComponent<HTMLElement, Navigation> implement
     // ------------------------------------------------------ api
 
     public void select(String itemId) {
-        select(findItem(itemId), true);
+        select(index.item(itemId), true);
     }
 
     public void select(String itemId, boolean fireEvent) {
-        select(findItem(itemId), fireEvent);
+        select(index.item(itemId), fireEvent);
     }
 
     public void select(NavigationItem item) {
         select(item, true);
     }
 
+    /**
+     * Selects the specified item. If the navigation is {@linkplain NavigationType.Vertical#expandable expandable}, the groups
+     * containing the item are marked as current and expanded. Only the previously selected item and groups and the newly
+     * selected item and groups are modified. Passing {@code null} unselects the current item.
+     */
     public void select(NavigationItem item, boolean fireEvent) {
+        if (selectedItem != null && selectedItem != item) {
+            selectedItem.unselect();
+        }
+        selectedItem = item;
         if (item != null) {
-            unselectAllItems();
             item.select();
             if (fireEvent) {
                 selectHandler.forEach(sh -> sh.onSelect(new Event(""), item, true));
             }
-
             if (type == expandable) {
-                unselectAllExpandableGroups();
-                selectGroup(item.anchorElement, fireEvent);
+                selectGroups(item, fireEvent);
             }
         } else {
-            unselectAllItems();
-            unselectAllExpandableGroups();
+            unselectGroups();
         }
     }
 
@@ -429,14 +431,28 @@ public class Navigation extends BaseComponent<HTMLElement, Navigation> implement
     public void updateItem(NavigationItem item) {
         replaceItemElement(item, (oldItem, newItem) -> {
             items.put(newItem.identifier(), newItem);
+            index.remove(oldItem);
+            index.add(newItem);
+            if (selectedItem == oldItem) {
+                selectedItem = null;
+            }
             aur.updated(oldItem, newItem);
         });
     }
 
+    @Override
+    public void reorderItems(List<NavigationItem> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         NavigationItem item = items.remove(identifier);
         failSafeRemoveFromParent(item);
+        index.remove(item);
+        if (selectedItem == item) {
+            selectedItem = null;
+        }
         aur.removed(item);
     }
 
@@ -447,6 +463,10 @@ public class Navigation extends BaseComponent<HTMLElement, Navigation> implement
         while (iterator.hasNext()) {
             NavigationItem item = iterator.next();
             iterator.remove();
+            index.remove(item);
+            if (selectedItem == item) {
+                selectedItem = null;
+            }
             aur.removed(item);
         }
     }
@@ -461,6 +481,7 @@ public class Navigation extends BaseComponent<HTMLElement, Navigation> implement
 
     private void internalAddItem(NavigationItem item, Consumer<NavigationItem> dom) {
         items.put(item.identifier(), item);
+        index.add(item);
         dom.accept(item);
         if (scrollButtons != null && isAttached(element())) {
             scrollButtons.updateScrollState();
@@ -470,88 +491,44 @@ public class Navigation extends BaseComponent<HTMLElement, Navigation> implement
 
     private void internalAddGroup(NavigationGroup group, Consumer<NavigationGroup> dom) {
         groups.put(group.identifier(), group);
+        index.add(group);
         dom.accept(group);
     }
 
     private void internalAddGroup(ExpandableNavigationGroup group, Consumer<ExpandableNavigationGroup> dom) {
         group.collapse(); // all groups are collapsed by default
-        expandableGroups.put(group.identifier(), group);
+        index.add(group);
         if (toggleHandler != null) {
             group.toggleHandler.addAll(toggleHandler);
         }
         dom.accept(group);
     }
 
-    private void unselectAllItems() {
-        // remove the current modifier from all navigation item <a/> elements
-        for (HTMLElement element : querySelectorAll(A_NAV_LINK_CURRENT)) {
-            element.classList.remove(modifier(current));
-            element.removeAttribute(Aria.current);
+    private void selectGroups(NavigationItem item, boolean fireEvent) {
+        List<ExpandableNavigationGroup> groups = new ArrayList<>();
+        for (ExpandableNavigationGroup group = item.group; group != null; group = group.parent) {
+            groups.add(group);
         }
-    }
-
-    private void unselectAllExpandableGroups() {
-        // remove the current modifier from all expandable group <li/> elements
-        for (HTMLElement element : querySelectorAll(LI_NAV_ITEM_EXPANDABLE.and(By.classname(modifier(current))))) {
-            element.classList.remove(modifier(current));
-        }
-    }
-
-    private void selectGroup(HTMLElement element, boolean fireEvent) {
-        HTMLElement li = Elements.closest(element, LI_NAV_ITEM_EXPANDABLE);
-        if (li != null) {
-            li.classList.add(modifier(current));
-            String groupId = li.dataset.get(Dataset.identifier);
-            ExpandableNavigationGroup group = findGroup(groupId);
-            if (group != null) {
-                group.expand();
-                if (fireEvent) {
-                    toggleHandler.forEach(sh -> sh.onToggle(new Event(""), group, true));
-                }
-            }
-            // select the parent group (if any)
-            Element parent = li.parentElement;
-            if (parent instanceof HTMLElement) {
-                selectGroup((HTMLElement) parent, fireEvent);
+        for (ExpandableNavigationGroup group : selectedGroups) {
+            if (!groups.contains(group)) {
+                group.current(false);
             }
         }
-    }
-
-    private NavigationItem findItem(String id) {
-        NavigationItem item = items.get(id);
-        if (item == null) {
-            for (NavigationGroup group : groups.values()) {
-                item = group.findItem(id);
-                if (item != null) {
-                    return item;
-                }
-            }
-            for (ExpandableNavigationGroup group : expandableGroups.values()) {
-                item = group.findItem(id);
-                if (item != null) {
-                    return item;
-                }
+        selectedGroups.clear();
+        selectedGroups.addAll(groups);
+        for (ExpandableNavigationGroup group : groups) {
+            group.current(true);
+            group.expand();
+            if (fireEvent) {
+                toggleHandler.forEach(th -> th.onToggle(new Event(""), group, true));
             }
         }
-        return item;
     }
 
-    private ExpandableNavigationGroup findGroup(String id) {
-        ExpandableNavigationGroup group = expandableGroups.get(id);
-        if (group == null) {
-            for (NavigationGroup section : groups.values()) {
-                group = section.findGroup(id);
-                if (group != null) {
-                    return group;
-                }
-            }
-            for (ExpandableNavigationGroup nestedGroup : expandableGroups.values()) {
-                group = nestedGroup.findGroup(id);
-                if (group != null) {
-                    break;
-                }
-            }
+    private void unselectGroups() {
+        for (ExpandableNavigationGroup group : selectedGroups) {
+            group.current(false);
         }
-        return group;
+        selectedGroups.clear();
     }
 }
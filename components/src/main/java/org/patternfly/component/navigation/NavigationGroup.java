@@ -17,6 +17,7 @@ package org.patternfly.component.navigation;
 
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
@@ -29,6 +30,7 @@ import org.patternfly.component.AddItemHandler;
 import org.patternfly.component.AurHandler;
 import org.patternfly.component.HasIdentifier;
 import org.patternfly.component.HasItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 import org.patternfly.component.divider.Divider;
@@ -81,7 +83,8 @@ public class NavigationGroup extends NavigationSubComponent<HTMLElement, Navigat
 
     private final String identifier;
     private final Map<String, NavigationItem> items;
-    private final Map<String, ExpandableNavigationGroup> expandableGroups;
+    final Map<String, ExpandableNavigationGroup> expandableGroups;
+    NavigationIndex index; // set when this group is added to a navigation
     private final HTMLHeadingElement headingElement;
     private final HTMLUListElement ul;
     private final AurHandler<NavigationGroup, NavigationItem> aur;
@@ -135,6 +138,9 @@ public class NavigationGroup extends NavigationSubComponent<HTMLElement, Navigat
     public NavigationGroup addGroup(ExpandableNavigationGroup group) {
         group.collapse();
         expandableGroups.put(group.identifier(), group);
+        if (index != null) {
+            index.add(group);
+        }
         ul.appendChild(group.element());
         return this;
     }
@@ -222,16 +228,27 @@ public class NavigationGroup extends NavigationSubComponent<HTMLElement, Navigat
     public void updateItem(NavigationItem item) {
         replaceItemElement(item, (oldItem, newItem) -> {
             items.put(newItem.identifier(), newItem);
+            if (index != null) {
+                index.remove(oldItem);
+                index.add(newItem);
+            }
             aur.updated(oldItem, newItem);
         });
     }
 
+    @Override
+    public void reorderItems(List<NavigationItem> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         NavigationItem item = items.remove(identifier);
         failSafeRemoveFromParent(item);
+        if (index != null) {
+            index.remove(item);
+        }
         aur.removed(item);
-
     }
 
     @Override
@@ -241,6 +258,9 @@ public class NavigationGroup extends NavigationSubComponent<HTMLElement, Navigat
         while (iterator.hasNext()) {
             NavigationItem item = iterator.next();
             iterator.remove();
+            if (index != null) {
+                index.remove(item);
+            }
             aur.removed(item);
         }
     }
@@ -249,33 +269,10 @@ public class NavigationGroup extends NavigationSubComponent<HTMLElement, Navigat
 
     private void internalAddItem(NavigationItem item, Consumer<NavigationItem> dom) {
         items.put(item.identifier(), item);
+        if (index != null) {
+            index.add(item);
+        }
         dom.accept(item);
         aur.added(item);
     }
-
-    NavigationItem findItem(String id) {
-        NavigationItem item = items.get(id);
-        if (item == null) {
-            for (ExpandableNavigationGroup group : expandableGroups.values()) {
-                item = group.findItem(id);
-                if (item != null) {
-                    break;
-                }
-            }
-        }
-        return item;
-    }
-
-    ExpandableNavigationGroup findGroup(String id) {
-        ExpandableNavigationGroup group = expandableGroups.get(id);
-        if (group == null) {
-            for (ExpandableNavigationGroup nestedGroup : expandableGroups.values()) {
-                group = nestedGroup.findGroup(id);
-                if (group != null) {
-                    break;
-                }
-            }
-        }
-        return group;
-    }
 }
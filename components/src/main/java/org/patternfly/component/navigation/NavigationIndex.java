@@ -0,0 +1,67 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component.navigation;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Internal index of all navigation items of a {@link Navigation}, including the items of nested groups. Groups which are
+ * added to a navigation share the index of the navigation and keep it up to date when items are added or removed. This
+ * makes lookups by identifier O(1) without walking the groups or querying the DOM.
+ */
+class NavigationIndex {
+
+    private final Map<String, NavigationItem> items;
+
+    NavigationIndex() {
+        this.items = new HashMap<>();
+    }
+
+    void add(NavigationItem item) {
+        items.put(item.identifier(), item);
+    }
+
+    void add(NavigationGroup group) {
+        group.index = this;
+        for (NavigationItem item : group) {
+            add(item);
+        }
+        for (ExpandableNavigationGroup nested : group.expandableGroups.values()) {
+            add(nested);
+        }
+    }
+
+    void add(ExpandableNavigationGroup group) {
+        group.index = this;
+        for (NavigationItem item : group) {
+            add(item);
+        }
+        for (ExpandableNavigationGroup nested : group.expandableGroups.values()) {
+            add(nested);
+        }
+    }
+
+    void remove(NavigationItem item) {
+        if (item != null && items.get(item.identifier()) == item) {
+            items.remove(item.identifier());
+        }
+    }
+
+    NavigationItem item(String identifier) {
+        return items.get(identifier);
+    }
+}
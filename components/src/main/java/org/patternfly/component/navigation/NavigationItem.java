@@ -77,6 +77,7 @@ public class NavigationItem extends NavigationSubComponent<HTMLLIElement, Naviga
     public static final String SUB_COMPONENT_NAME = "NavigationItem";
 
     final HTMLAnchorElement anchorElement;
+    ExpandableNavigationGroup group; // the expandable group this item belongs to (if any)
     private final String identifier;
     private final Map<String, Object> data;
     private HTMLElement textElement;
@@ -178,6 +179,11 @@ public class NavigationItem extends NavigationSubComponent<HTMLLIElement, Naviga
         anchorElement.scrollIntoView(options);
     }
 
+    void unselect() {
+        anchorElement.classList.remove(modifier(current));
+        anchorElement.removeAttribute(Aria.current);
+    }
+
     private HTMLElement failSafeTextElement() {
         if (textElement == null) {
             anchorElement.appendChild(textElement = span().css(component(nav, link, text)).element());
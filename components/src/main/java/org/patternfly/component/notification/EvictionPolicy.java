@@ -0,0 +1,34 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component.notification;
+
+/**
+ * Defines which notification is removed from a {@link NotificationDrawerList} when the list has reached its
+ * {@linkplain NotificationDrawerList#capacity(int) capacity}.
+ */
+public enum EvictionPolicy {
+
+    /**
+     * Removes the read notification which arrived first, regardless of when it has been marked as read. If no notification
+     * has been read, the oldest notification is removed.
+     */
+    oldestRead,
+
+    /**
+     * Removes the oldest notification regardless of its read state.
+     */
+    oldest
+}
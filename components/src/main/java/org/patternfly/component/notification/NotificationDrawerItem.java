@@ -24,6 +24,7 @@ import org.jboss.elemento.Id;
 import org.patternfly.component.ComponentType;
 import org.patternfly.component.HasIdentifier;
 import org.patternfly.component.Severity;
+import org.patternfly.component.badge.Badge;
 import org.patternfly.component.menu.Dropdown;
 import org.patternfly.core.ComponentContext;
 import org.patternfly.core.Dataset;
@@ -39,6 +40,7 @@ import static org.jboss.elemento.Elements.li;
 import static org.jboss.elemento.Elements.span;
 import static org.jboss.elemento.EventType.bind;
 import static org.jboss.elemento.EventType.click;
+import static org.patternfly.component.badge.Badge.badge;
 import static org.patternfly.core.Attributes.tabindex;
 import static org.patternfly.style.Classes.action;
 import static org.patternfly.style.Classes.component;
@@ -48,6 +50,7 @@ import static org.patternfly.style.Classes.list;
 import static org.patternfly.style.Classes.notificationDrawer;
 import static org.patternfly.style.Classes.screenReader;
 import static org.patternfly.style.Classes.timestamp;
+import static org.patternfly.style.Classes.util;
 import static org.patternfly.style.Modifiers.toggleModifier;
 
 /** An individual notification entry within a {@link NotificationDrawer}. */
@@ -70,13 +73,20 @@ public class NotificationDrawerItem extends NotificationDrawerSubComponent<HTMLE
 
     public static final String SUB_COMPONENT_ID = "ndi";
     public static final String SUB_COMPONENT_NAME = "NotificationDrawerItem";
+    final Severity severity;
+    final String title;
+    NotificationDrawerList drawerList;
     private final String identifier;
     private final Map<String, Object> data;
     private final HTMLElement screenReaderElement;
     private final HTMLElement headerElement;
+    private final HTMLElement titleElement;
     private final List<ComponentHandler<NotificationDrawerItem>> handler;
     private HTMLElement actionElement;
     private HTMLElement timestampElement;
+    private Badge countBadge;
+    private boolean read;
+    private int count;
 
     NotificationDrawerItem(Severity severity, String identifier, String title) {
         super(SUB_COMPONENT_ID, SUB_COMPONENT_NAME,
@@ -84,7 +94,10 @@ public class NotificationDrawerItem extends NotificationDrawerSubComponent<HTMLE
                 .attr(tabindex, 0)
                 .data(Dataset.identifier, identifier)
                 .element());
+        this.severity = severity;
+        this.title = title;
         this.identifier = identifier;
+        this.count = 1;
         this.data = new HashMap<>();
         this.handler = new ArrayList<>();
 
@@ -93,9 +106,10 @@ public class NotificationDrawerItem extends NotificationDrawerSubComponent<HTMLE
         add(headerElement = div().css(component(notificationDrawer, list, item, header))
                 .add(span().css(component(notificationDrawer, list, item, header, Classes.icon))
                         .add(severity.icon().element()))
-                .add(h(2).css(component(notificationDrawer, list, item, header, Classes.title))
+                .add(titleElement = h(2).css(component(notificationDrawer, list, item, header, Classes.title))
                         .add(span().css(screenReader).text(severity.name() + " notification:"))
-                        .add(title))
+                        .add(title)
+                        .element())
                 .element());
     }
 
@@ -133,8 +147,14 @@ public class NotificationDrawerItem extends NotificationDrawerSubComponent<HTMLE
 
     /** Adds/removes {@linkplain Classes#modifier(String) modifier(read)} */
     public NotificationDrawerItem read(boolean read) {
+        boolean changed = this.read != read;
+        this.read = read;
         screenReaderElement.textContent = read ? "read" : "unread";
-        return toggleModifier(that(), element(), Classes.read, read);
+        toggleModifier(that(), element(), Classes.read, read);
+        if (changed && drawerList != null) {
+            drawerList.readChanged(this);
+        }
+        return this;
     }
 
     @Override
@@ -180,8 +200,34 @@ public class NotificationDrawerItem extends NotificationDrawerSubComponent<HTMLE
         return identifier;
     }
 
+    public boolean isRead() {
+        return read;
+    }
+
+    /**
+     * Returns the number of notifications represented by this item. The count is greater than one if similar notifications
+     * have been {@linkplain NotificationDrawerList#coalesce(int) coalesced} into this item.
+     */
+    public int count() {
+        return count;
+    }
+
     // ------------------------------------------------------ internal
 
+    void coalesce(NotificationDrawerItem item) {
+        count++;
+        if (countBadge == null) {
+            countBadge = badge(count).unread().css(util("ml-sm"));
+            titleElement.appendChild(countBadge.element());
+        } else {
+            countBadge.count(count);
+        }
+        if (item.timestampElement != null) {
+            timestamp(item.timestampElement.textContent);
+        }
+        read(false);
+    }
+
     private HTMLElement failSafeActionElement() {
         if (actionElement == null) {
             insertAfter(actionElement = div().css(component(notificationDrawer, list, item, action)).element(), headerElement);
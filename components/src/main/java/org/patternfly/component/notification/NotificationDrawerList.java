@@ -16,30 +16,53 @@
 package org.patternfly.component.notification;
 
 import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.List;
+import java.util.function.Function;
 
+import org.jboss.elemento.Attachable;
 import org.jboss.elemento.Elements;
 import org.patternfly.component.AddItemHandler;
 import org.patternfly.component.AurHandler;
 import org.patternfly.component.HasItems;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
+import org.patternfly.core.Aria;
+import org.patternfly.core.ObservableValue;
 import org.patternfly.style.Classes;
 
 import elemental2.dom.HTMLElement;
+import elemental2.dom.IntersectionObserver;
+import elemental2.dom.MutationRecord;
 
+import static elemental2.dom.DomGlobal.performance;
 import static org.jboss.elemento.Elements.failSafeRemoveFromParent;
-import static org.jboss.elemento.Elements.insertFirst;
+import static org.jboss.elemento.Elements.insertBefore;
+import static org.jboss.elemento.Elements.li;
 import static org.jboss.elemento.Elements.ul;
+import static org.patternfly.core.ObservableValue.ov;
 import static org.patternfly.core.Roles.list;
 import static org.patternfly.style.Classes.component;
 import static org.patternfly.style.Classes.notificationDrawer;
 
-/** A list of notification items within a {@link NotificationDrawer}. */
-/** A notification drawer list within a {@link NotificationDrawer} component. */
+/**
+ * A list of notification items within a {@link NotificationDrawer}.
+ * <p>
+ * By default, the list keeps and renders all notifications. For event-driven applications, which may push lots of
+ * notifications in a short time, the list can be
+ * <ul>
+ *     <li>bounded using {@link #capacity(int)}: If the capacity is reached, notifications are removed according to the
+ *     {@link EvictionPolicy}.</li>
+ *     <li>coalescing using {@link #coalesce(int)}: Similar notifications which arrive within a time window are merged into
+ *     one item with a counter.</li>
+ *     <li>windowed using {@link #renderWindow(int)}: Only the newest notifications are rendered. Older notifications are
+ *     rendered when the user scrolls to the end of the list.</li>
+ * </ul>
+ * The number of unread notifications is tracked when items are added, removed, or marked as (un)read. Use
+ * {@link #unreadCount()} to bind it to a {@link NotificationBadge}.
+ */
 public class NotificationDrawerList extends NotificationDrawerSubComponent<HTMLElement, NotificationDrawerList> implements
-        HasItems<HTMLElement, NotificationDrawerList, NotificationDrawerItem> {
+        HasItems<HTMLElement, NotificationDrawerList, NotificationDrawerItem>,
+        Attachable {
 
     // ------------------------------------------------------ factory
 
@@ -51,41 +74,155 @@ public class NotificationDrawerList extends NotificationDrawerSubComponent<HTMLE
 
     public static final String SUB_COMPONENT_ID = "ndl";
     public static final String SUB_COMPONENT_NAME = "NotificationDrawerList";
-    final Map<String, NotificationDrawerItem> items;
+    private static final Function<NotificationDrawerItem, String> DEFAULT_COALESCE_KEY = item ->
+            item.severity.name() + ":" + item.title;
+
+    private final NotificationQueue<NotificationDrawerItem> queue;
     private final AurHandler<NotificationDrawerList, NotificationDrawerItem> aur;
+    private final ObservableValue<Integer> unreadCount;
+    private Function<NotificationDrawerItem, String> coalesceKey;
+    private HTMLElement sentinel;
+    private IntersectionObserver observer;
 
     NotificationDrawerList() {
         super(SUB_COMPONENT_ID, SUB_COMPONENT_NAME, ul().css(component(notificationDrawer, Classes.list))
                 .role(list)
                 .element());
-        this.items = new LinkedHashMap<>();
+        this.queue = new NotificationQueue<>(NotificationDrawerItem::identifier, NotificationDrawerItem::isRead,
+                new NotificationQueue.View<NotificationDrawerItem>() {
+                    @Override
+                    public void insertFirst(NotificationDrawerItem item) {
+                        Elements.insertFirst(element(), item.element());
+                    }
+
+                    @Override
+                    public void insertAfter(NotificationDrawerItem item, NotificationDrawerItem after) {
+                        Elements.insertAfter(item.element(), after.element());
+                    }
+
+                    @Override
+                    public void append(NotificationDrawerItem item) {
+                        insertBefore(item.element(), sentinel);
+                    }
+
+                    @Override
+                    public void remove(NotificationDrawerItem item) {
+                        failSafeRemoveFromParent(item);
+                    }
+                });
         this.aur = new AurHandler<>(this);
+        this.unreadCount = ov(0);
+        Attachable.register(this, this);
+    }
+
+    @Override
+    public void attach(MutationRecord mutationRecord) {
+        if (sentinel != null && observer == null) {
+            observer = new IntersectionObserver((entries, o) -> {
+                for (int i = 0; i < entries.length; i++) {
+                    if (entries.getAt(i).isIntersecting) {
+                        // re-observe to get notified again if the sentinel is still visible,
+                        // but only if something has been rendered and older items are left
+                        if (queue.renderMore()) {
+                            observer.unobserve(sentinel);
+                            observer.observe(sentinel);
+                        }
+                        break;
+                    }
+                }
+            });
+            observer.observe(sentinel);
+        }
+    }
+
+    @Override
+    public void detach(MutationRecord mutationRecord) {
+        if (observer != null) {
+            observer.disconnect();
+            observer = null;
+        }
     }
 
     // ------------------------------------------------------ add
 
     /**
      * Unlike other add methods, this method doesn't append the item to the list but inserts it as the first child.
+     * <p>
+     * If {@linkplain #coalesce(int) coalescing} is enabled and a similar item has been added within the time window, the
+     * item is not added. Instead, the counter of the similar item is incremented, the similar item is moved to the top, and
+     * an update event is fired for the similar item.
      */
     @Override
     public NotificationDrawerList add(NotificationDrawerItem item) {
-        items.put(item.identifier(), item);
-        insertFirst(element(), item.element());
-        return aur.added(item);
+        double now = performance.now();
+        String key = coalesceKey != null ? coalesceKey.apply(item) : null;
+        NotificationDrawerItem similar = queue.coalesce(key, now);
+        if (similar != null) {
+            similar.coalesce(item);
+            return aur.updated(similar, similar);
+        }
+        return added(item, queue.add(item, key, now));
     }
 
     public NotificationDrawerList insertAfter(NotificationDrawerItem newItem, NotificationDrawerItem afterItem) {
-        items.put(newItem.identifier(), newItem);
-        if (afterItem == null) {
-            insertFirst(element(), newItem.element());
-        } else {
-            Elements.insertAfter(newItem.element(), afterItem.element());
+        if (afterItem == null || !queue.contains(afterItem.identifier())) {
+            return add(newItem);
         }
-        return aur.added(newItem);
+        return added(newItem, queue.insertAfter(newItem, afterItem, performance.now()));
     }
 
     // ------------------------------------------------------ builder
 
+    /**
+     * Limits the number of notifications kept by this list. If the capacity is reached, notifications are removed according
+     * to the {@linkplain #evictionPolicy(EvictionPolicy) eviction policy}. Defaults to {@code 0} (no limit).
+     */
+    public NotificationDrawerList capacity(int capacity) {
+        queue.capacity(capacity);
+        return this;
+    }
+
+    /**
+     * Defines which notifications are removed if the {@linkplain #capacity(int) capacity} is reached. Defaults to
+     * {@link EvictionPolicy#oldestRead}.
+     */
+    public NotificationDrawerList evictionPolicy(EvictionPolicy evictionPolicy) {
+        queue.evictionPolicy(evictionPolicy);
+        return this;
+    }
+
+    /**
+     * Same as {@linkplain #coalesce(int, Function) coalesce(window, item -> severity + title)}: Notifications with the same
+     * severity and title are considered similar.
+     */
+    public NotificationDrawerList coalesce(int window) {
+        return coalesce(window, DEFAULT_COALESCE_KEY);
+    }
+
+    /**
+     * Merges similar notifications which are added within the specified time window (in milliseconds) into one item with a
+     * counter. Two notifications are similar if the key function returns the same key.
+     */
+    public NotificationDrawerList coalesce(int window, Function<NotificationDrawerItem, String> key) {
+        queue.coalesceWindow(window);
+        this.coalesceKey = key;
+        return this;
+    }
+
+    /**
+     * Renders only the newest {@code size} notifications. When the user scrolls to the end of the list, the next
+     * {@code size} notifications are rendered. The remaining notifications are kept by the list, but not added to the DOM.
+     * Must be called before items are added.
+     */
+    public NotificationDrawerList renderWindow(int size) {
+        if (size > 0 && sentinel == null) {
+            sentinel = li().aria(Aria.hidden, true).element();
+            element().appendChild(sentinel);
+        }
+        queue.renderWindow(size);
+        return this;
+    }
+
     @Override
     public NotificationDrawerList that() {
         return this;
@@ -110,54 +247,96 @@ public class NotificationDrawerList extends NotificationDrawerSubComponent<HTMLE
 
     // ------------------------------------------------------ api
 
+    /**
+     * Returns the number of unread notifications as an observable value. Use {@link NotificationBadge#bind(ObservableValue)}
+     * to keep a notification badge in sync. The value must not be modified.
+     */
+    public ObservableValue<Integer> unreadCount() {
+        return unreadCount;
+    }
+
+    /** Marks all notifications as read. */
+    public void markAllRead() {
+        for (NotificationDrawerItem item : queue) {
+            item.read(true);
+        }
+    }
+
     @Override
     public Iterator<NotificationDrawerItem> iterator() {
-        return items.values().iterator();
+        return queue.iterator();
     }
 
     @Override
     public int size() {
-        return items.size();
+        return queue.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return items.isEmpty();
+        return queue.size() == 0;
     }
 
     @Override
     public boolean contains(String identifier) {
-        return items.containsKey(identifier);
+        return queue.contains(identifier);
     }
 
     @Override
     public NotificationDrawerItem item(String identifier) {
-        return items.get(identifier);
+        return queue.get(identifier);
     }
 
     @Override
     public void updateItem(NotificationDrawerItem item) {
         replaceItemElement(item, (oldItem, newItem) -> {
-            items.put(newItem.identifier(), newItem);
+            queue.replace(newItem);
+            oldItem.drawerList = null;
+            newItem.drawerList = this;
+            unreadCount.set(queue.unread());
             aur.updated(oldItem, newItem);
         });
     }
 
+    @Override
+    public void reorderItems(List<NotificationDrawerItem> items) {
+        queue.reorder(items);
+    }
+
     @Override
     public void removeItem(String identifier) {
-        NotificationDrawerItem item = items.remove(identifier);
-        failSafeRemoveFromParent(item);
-        aur.removed(item);
+        NotificationDrawerItem item = queue.remove(identifier);
+        if (item != null) {
+            removed(item);
+        }
     }
 
     @Override
     public void clear() {
-        Iterator<NotificationDrawerItem> iterator = items.values().iterator();
-        while (iterator.hasNext()) {
-            NotificationDrawerItem item = iterator.next();
-            failSafeRemoveFromParent(item);
-            iterator.remove();
-            aur.removed(item);
+        for (NotificationDrawerItem item : queue.clear()) {
+            removed(item);
         }
     }
+
+    // ------------------------------------------------------ internal
+
+    void readChanged(NotificationDrawerItem item) {
+        queue.readChanged(item);
+        unreadCount.set(queue.unread());
+    }
+
+    private NotificationDrawerList added(NotificationDrawerItem item, List<NotificationDrawerItem> evicted) {
+        for (NotificationDrawerItem e : evicted) {
+            removed(e);
+        }
+        item.drawerList = this;
+        unreadCount.set(queue.unread());
+        return aur.added(item);
+    }
+
+    private void removed(NotificationDrawerItem item) {
+        item.drawerList = null;
+        unreadCount.set(queue.unread());
+        aur.removed(item);
+    }
 }
@@ -0,0 +1,498 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component.notification;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static java.util.Collections.emptyList;
+import static org.patternfly.component.notification.EvictionPolicy.oldestRead;
+
+/**
+ * Keeps the bookkeeping of a {@link NotificationDrawerList}: the items ordered by age (unless they have been
+ * {@linkplain #reorder(List) reordered}), the read items in the order they have been marked as read, the coalescing keys,
+ * and the range of rendered items. The DOM is changed through a {@link View}.
+ * <p>
+ * Rendered items are always a contiguous range from the newest item to the last rendered item.
+ */
+final class NotificationQueue<T> implements Iterable<T> {
+
+    interface View<T> {
+
+        void insertFirst(T item);
+
+        void insertAfter(T item, T after);
+
+        /** Renders an older item at the end of the list. */
+        void append(T item);
+
+        void remove(T item);
+    }
+
+    private static final class Entry<T> {
+
+        final String id;
+        T item;
+        boolean read;
+        boolean rendered;
+        double arrived;
+        String coalesceKey;
+        Entry<T> newer;
+        Entry<T> older;
+
+        Entry(String id, T item) {
+            this.id = id;
+            this.item = item;
+        }
+    }
+
+    private final Function<T, String> identifier;
+    private final Predicate<T> read;
+    private final View<T> view;
+    private final Map<String, Entry<T>> entries;
+    // read entries in the order they have been marked as read (not by age)
+    private final Map<String, Entry<T>> readEntries;
+    private final Map<String, Entry<T>> coalesced;
+    private int unread;
+    private int capacity;
+    private EvictionPolicy evictionPolicy;
+    private double coalesceWindow;
+    private int windowSize;
+    private int renderLimit;
+    private int renderedCount;
+    // entries ordered by age: newest -> ... -> oldest
+    private Entry<T> newest;
+    private Entry<T> oldest;
+    private Entry<T> lastRendered;
+
+    NotificationQueue(Function<T, String> identifier, Predicate<T> read, View<T> view) {
+        this.identifier = identifier;
+        this.read = read;
+        this.view = view;
+        this.entries = new LinkedHashMap<>();
+        this.readEntries = new LinkedHashMap<>();
+        this.coalesced = new HashMap<>();
+        this.evictionPolicy = oldestRead;
+    }
+
+    // ------------------------------------------------------ config
+
+    void capacity(int capacity) {
+        this.capacity = Math.max(0, capacity);
+    }
+
+    void evictionPolicy(EvictionPolicy evictionPolicy) {
+        this.evictionPolicy = evictionPolicy;
+    }
+
+    void coalesceWindow(double window) {
+        this.coalesceWindow = Math.max(0, window);
+    }
+
+    void renderWindow(int size) {
+        this.windowSize = Math.max(0, size);
+        this.renderLimit = windowSize;
+    }
+
+    // ------------------------------------------------------ add
+
+    /**
+     * Looks for a similar item which has been added within the coalesce window. If found, the item is moved to the top and
+     * returned. Otherwise {@code null} is returned.
+     */
+    T coalesce(String key, double now) {
+        if (coalesceWindow > 0 && key != null) {
+            Entry<T> similar = coalesced.get(key);
+            if (similar != null && now - similar.arrived <= coalesceWindow) {
+                similar.arrived = now;
+                unlink(similar);
+                linkNewest(similar);
+                if (similar.rendered) {
+                    view.insertFirst(similar.item);
+                    if (lastRendered == null) {
+                        lastRendered = similar;
+                    }
+                } else {
+                    render(similar, null);
+                }
+                return similar.item;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the item as the newest item. Returns the items which have been evicted to stay within the capacity.
+     */
+    List<T> add(T item, String coalesceKey, double now) {
+        List<T> evicted = evict();
+        Entry<T> entry = register(item, coalesceKey, now);
+        linkNewest(entry);
+        render(entry, null);
+        return evicted;
+    }
+
+    /**
+     * Adds the item after the specified item. If the specified item is not part of this queue, the item is added as the
+     * newest item. Returns the items which have been evicted to stay within the capacity.
+     */
+    List<T> insertAfter(T item, T after, double now) {
+        List<T> evicted = evict();
+        Entry<T> afterEntry = entries.get(identifier.apply(after));
+        Entry<T> entry = register(item, null, now);
+        if (afterEntry == null) {
+            linkNewest(entry);
+            render(entry, null);
+        } else {
+            linkOlder(entry, afterEntry);
+            if (afterEntry.rendered) {
+                render(entry, afterEntry);
+            }
+        }
+        return evicted;
+    }
+
+    // ------------------------------------------------------ api
+
+    /** Returns the items from newest to oldest, which is the order of the items in the DOM. */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Entry<T> next = newest;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public T next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                T item = next.item;
+                next = next.older;
+                return item;
+            }
+        };
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    boolean contains(String id) {
+        return entries.containsKey(id);
+    }
+
+    T get(String id) {
+        Entry<T> entry = entries.get(id);
+        return entry != null ? entry.item : null;
+    }
+
+    int unread() {
+        return unread;
+    }
+
+    int rendered() {
+        return renderedCount;
+    }
+
+    /** Returns the items from newest to oldest. */
+    List<T> byAge() {
+        List<T> items = new ArrayList<>();
+        for (Entry<T> entry = newest; entry != null; entry = entry.older) {
+            items.add(entry.item);
+        }
+        return items;
+    }
+
+    boolean isRendered(String id) {
+        Entry<T> entry = entries.get(id);
+        return entry != null && entry.rendered;
+    }
+
+    /**
+     * Renders the next {@code size} older items if there are any. Returns {@code true} if items have been rendered and older
+     * items are still not rendered.
+     */
+    boolean renderMore() {
+        if (windowSize > 0 && next() != null) {
+            int before = renderedCount;
+            renderLimit = renderedCount + windowSize;
+            fill();
+            return renderedCount > before && next() != null;
+        }
+        return false;
+    }
+
+    /** Removes the item with the specified identifier and returns it, or {@code null} if there's no such item. */
+    T remove(String id) {
+        Entry<T> entry = entries.get(id);
+        if (entry != null) {
+            unregister(entry);
+            unlink(entry);
+            unrender(entry);
+            fill();
+            return entry.item;
+        }
+        return null;
+    }
+
+    /**
+     * Replaces the item with the same identifier, keeping its position, age, and render state. Returns the old item, or
+     * {@code null} if there's no such item.
+     */
+    T replace(T item) {
+        Entry<T> entry = entries.get(identifier.apply(item));
+        if (entry != null) {
+            T oldItem = entry.item;
+            entry.item = item;
+            readChanged(item);
+            return oldItem;
+        }
+        return null;
+    }
+
+    void readChanged(T item) {
+        Entry<T> entry = entries.get(identifier.apply(item));
+        if (entry != null && entry.read != read.test(item)) {
+            entry.read = !entry.read;
+            if (entry.read) {
+                readEntries.put(entry.id, entry);
+                unread--;
+            } else {
+                readEntries.remove(entry.id);
+                unread++;
+            }
+        }
+    }
+
+    /**
+     * Brings the items into the specified order, from top to bottom. Items which are not part of {@code items} are kept after
+     * the ordered items. The number of rendered items stays the same, rendered items are moved into place.
+     */
+    void reorder(List<T> items) {
+        List<Entry<T>> ordered = new ArrayList<>();
+        Map<String, Entry<T>> remaining = new LinkedHashMap<>();
+        for (Entry<T> entry = newest; entry != null; entry = entry.older) {
+            remaining.put(entry.id, entry);
+        }
+        for (T item : items) {
+            Entry<T> entry = remaining.remove(identifier.apply(item));
+            if (entry != null) {
+                ordered.add(entry);
+            }
+        }
+        ordered.addAll(remaining.values());
+
+        // relink and render the same number of items from the top
+        int count = renderedCount;
+        newest = null;
+        oldest = null;
+        lastRendered = null;
+        renderedCount = 0;
+        for (int i = ordered.size() - 1; i >= 0; i--) {
+            linkNewest(ordered.get(i));
+        }
+        for (Entry<T> entry = newest; entry != null; entry = entry.older) {
+            if (renderedCount < count) {
+                if (lastRendered == null) {
+                    view.insertFirst(entry.item);
+                } else {
+                    view.insertAfter(entry.item, lastRendered.item);
+                }
+                entry.rendered = true;
+                renderedCount++;
+                lastRendered = entry;
+            } else if (entry.rendered) {
+                view.remove(entry.item);
+                entry.rendered = false;
+            }
+        }
+    }
+
+    /** Removes all items and returns them. */
+    List<T> clear() {
+        List<T> removed = new ArrayList<>();
+        for (Entry<T> entry : entries.values()) {
+            if (entry.rendered) {
+                view.remove(entry.item);
+            }
+            removed.add(entry.item);
+        }
+        entries.clear();
+        readEntries.clear();
+        coalesced.clear();
+        unread = 0;
+        newest = null;
+        oldest = null;
+        lastRendered = null;
+        renderedCount = 0;
+        renderLimit = windowSize;
+        return removed;
+    }
+
+    // ------------------------------------------------------ internal
+
+    private Entry<T> register(T item, String coalesceKey, double now) {
+        Entry<T> entry = new Entry<>(identifier.apply(item), item);
+        entry.arrived = now;
+        entry.read = read.test(item);
+        entries.put(entry.id, entry);
+        if (entry.read) {
+            readEntries.put(entry.id, entry);
+        } else {
+            unread++;
+        }
+        if (coalesceWindow > 0 && coalesceKey != null) {
+            entry.coalesceKey = coalesceKey;
+            coalesced.put(coalesceKey, entry);
+        }
+        return entry;
+    }
+
+    private void unregister(Entry<T> entry) {
+        entries.remove(entry.id);
+        if (entry.read) {
+            readEntries.remove(entry.id);
+        } else {
+            unread--;
+        }
+        if (entry.coalesceKey != null && coalesced.get(entry.coalesceKey) == entry) {
+            coalesced.remove(entry.coalesceKey);
+        }
+    }
+
+    private List<T> evict() {
+        if (capacity > 0 && entries.size() >= capacity) {
+            List<T> evicted = new ArrayList<>();
+            while (entries.size() >= capacity) {
+                Entry<T> victim = null;
+                if (evictionPolicy == oldestRead) {
+                    for (Entry<T> entry : readEntries.values()) {
+                        if (victim == null || entry.arrived < victim.arrived) {
+                            victim = entry;
+                        }
+                    }
+                }
+                if (victim == null) {
+                    victim = oldest;
+                }
+                evicted.add(remove(victim.id));
+            }
+            return evicted;
+        }
+        return emptyList();
+    }
+
+    // ------------------------------------------------------ linked list (by age)
+
+    private void linkNewest(Entry<T> entry) {
+        entry.newer = null;
+        entry.older = newest;
+        if (newest != null) {
+            newest.newer = entry;
+        }
+        newest = entry;
+        if (oldest == null) {
+            oldest = entry;
+        }
+    }
+
+    private void linkOlder(Entry<T> entry, Entry<T> newer) {
+        entry.newer = newer;
+        entry.older = newer.older;
+        if (newer.older != null) {
+            newer.older.newer = entry;
+        } else {
+            oldest = entry;
+        }
+        newer.older = entry;
+    }
+
+    private void unlink(Entry<T> entry) {
+        if (lastRendered == entry) {
+            lastRendered = entry.newer;
+        }
+        if (entry.newer != null) {
+            entry.newer.older = entry.older;
+        } else {
+            newest = entry.older;
+        }
+        if (entry.older != null) {
+            entry.older.newer = entry.newer;
+        } else {
+            oldest = entry.newer;
+        }
+        entry.newer = null;
+        entry.older = null;
+    }
+
+    // ------------------------------------------------------ rendering
+
+    private Entry<T> next() {
+        return lastRendered != null ? lastRendered.older : newest;
+    }
+
+    private void render(Entry<T> entry, Entry<T> after) {
+        if (after == null) {
+            view.insertFirst(entry.item);
+        } else {
+            view.insertAfter(entry.item, after.item);
+        }
+        entry.rendered = true;
+        renderedCount++;
+        if (lastRendered == null || lastRendered == after) {
+            lastRendered = entry;
+        }
+        if (windowSize > 0) {
+            while (renderedCount > renderLimit && lastRendered != null) {
+                Entry<T> last = lastRendered;
+                lastRendered = last.newer;
+                unrender(last);
+            }
+        }
+    }
+
+    private void unrender(Entry<T> entry) {
+        if (entry.rendered) {
+            view.remove(entry.item);
+            entry.rendered = false;
+            renderedCount--;
+        }
+    }
+
+    private void fill() {
+        if (windowSize > 0) {
+            Entry<T> next = next();
+            while (next != null && renderedCount < renderLimit) {
+                view.append(next.item);
+                next.rendered = true;
+                renderedCount++;
+                lastRendered = next;
+                next = next.older;
+            }
+        }
+    }
+}
@@ -19,10 +19,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 
+import org.gwtproject.event.shared.HandlerRegistration;
 import org.jboss.elemento.Attachable;
-import org.jboss.elemento.Callback;
-import org.jboss.elemento.ResizeObserverCleanup;
-import org.jboss.elemento.Scheduler;
 import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
 import org.patternfly.component.drawer.Drawer;
@@ -32,6 +30,7 @@ import org.patternfly.component.skiptocontent.SkipToContent;
 import org.patternfly.core.ObservableValue;
 import org.patternfly.handler.ResizeHandler;
 import org.patternfly.style.Breakpoint;
+import org.patternfly.style.BreakpointObserver;
 import org.patternfly.style.Classes;
 import org.patternfly.style.Rect;
 
@@ -43,7 +42,6 @@ import static org.jboss.elemento.Elements.failSafeRemoveFromParent;
 import static org.jboss.elemento.Elements.insertAfter;
 import static org.jboss.elemento.Elements.insertBefore;
 import static org.jboss.elemento.Elements.insertFirst;
-import static org.jboss.elemento.Elements.resizeObserver;
 import static org.patternfly.component.drawer.DrawerContent.drawerContent;
 import static org.patternfly.component.drawer.DrawerPanel.drawerPanel;
 import static org.patternfly.core.ObservableValue.ov;
@@ -91,7 +89,7 @@ public class Page extends BaseComponent<HTMLDivElement, Page> implements Attacha
     private PageMain main;
     private Drawer drawer;
     private NotificationDrawer notificationDrawer;
-    private ResizeObserverCleanup cleanup;
+    private HandlerRegistration sizeRegistration;
     private Function<Integer, Breakpoint> breakpointFn;
     private Function<Integer, Breakpoint> verticalBreakpointFn;
 
@@ -104,18 +102,22 @@ public class Page extends BaseComponent<HTMLDivElement, Page> implements Attacha
 
     @Override
     public void attach(MutationRecord mutationRecord) {
-        Callback resizeCallback = Scheduler.debounce(250, this::onResize);
-        cleanup = resizeObserver(element(), () -> {
+        // size changes are delivered once per animation frame, the breakpoint modifiers
+        // and the (sub) components are only updated if a breakpoint has changed
+        sizeRegistration = BreakpointObserver.observeSize(element(), (current, previous) -> {
             resizeHandler.forEach(rh -> rh.onResize(this));
-            resizeCallback.call();
+            if (breakpointChanged(rect.get(), current)) {
+                rect.set(current); // triggers onChangedRect()
+            }
         });
-        onResize();
+        rect.set(new Rect(element().clientWidth, element().clientHeight));
     }
 
     @Override
     public void detach(MutationRecord mutationRecord) {
-        if (cleanup != null) {
-            cleanup.cleanup();
+        if (sizeRegistration != null) {
+            sizeRegistration.removeHandler();
+            sizeRegistration = null;
         }
     }
 
@@ -304,32 +306,37 @@ public class Page extends BaseComponent<HTMLDivElement, Page> implements Attacha
     // ------------------------------------------------------ internal
 
     boolean belowXl() {
-        return element().clientWidth < Breakpoint.xl.widthValue;
+        return rect.get().width < Breakpoint.xl.widthValue;
+    }
+
+    private boolean breakpointChanged(Rect previous, Rect current) {
+        return Breakpoint.breakpoint(previous.width) != Breakpoint.breakpoint(current.width)
+                || pageBreakpoint(previous) != pageBreakpoint(current)
+                || pageVerticalBreakpoint(previous) != pageVerticalBreakpoint(current);
+    }
+
+    private Breakpoint pageBreakpoint(Rect rect) {
+        return breakpointFn != null ? breakpointFn.apply(rect.width) : Breakpoint.breakpoint(rect.width);
     }
 
-    private void onResize() {
-        int width = element().clientWidth;
-        int height = element().clientHeight;
-        rect.set(new Rect(width, height)); // triggers onChangedRect()
+    private Breakpoint pageVerticalBreakpoint(Rect rect) {
+        return verticalBreakpointFn != null ? verticalBreakpointFn.apply(rect.height)
+                : Breakpoint.verticalBreakpoint(rect.height);
     }
 
     private void onChangedRect(Rect current, Rect previous) {
         // if it's already present, it won't be added again
         css(modifier(Classes.resizeObserver));
 
-        Breakpoint previousBreakpoint = breakpointFn != null ? breakpointFn.apply(previous.width)
-                : Breakpoint.breakpoint(previous.width);
-        Breakpoint currentBreakpoint = breakpointFn != null ? breakpointFn.apply(current.width)
-                : Breakpoint.breakpoint(current.width);
+        Breakpoint previousBreakpoint = pageBreakpoint(previous);
+        Breakpoint currentBreakpoint = pageBreakpoint(current);
         if (previousBreakpoint != currentBreakpoint) {
             classList().remove(modifier("breakpoint-" + previousBreakpoint.value));
             classList().add(modifier("breakpoint-" + currentBreakpoint.value));
         }
 
-        Breakpoint previousVerticalBreakpoint = breakpointFn != null ? verticalBreakpointFn.apply(previous.height)
-                : Breakpoint.verticalBreakpoint(previous.height);
-        Breakpoint currentVerticalBreakpoint = breakpointFn != null ? verticalBreakpointFn.apply(current.height)
-                : Breakpoint.verticalBreakpoint(current.height);
+        Breakpoint previousVerticalBreakpoint = pageVerticalBreakpoint(previous);
+        Breakpoint currentVerticalBreakpoint = pageVerticalBreakpoint(current);
         if (previousVerticalBreakpoint != currentVerticalBreakpoint) {
             classList().remove(modifier("height-breakpoint-" + previousVerticalBreakpoint.value));
             classList().add(modifier("height-breakpoint-" + currentVerticalBreakpoint.value));
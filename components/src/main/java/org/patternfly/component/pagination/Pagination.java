@@ -0,0 +1,260 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component.pagination;
+
+import org.jboss.elemento.Id;
+import org.patternfly.component.BaseComponent;
+import org.patternfly.component.ComponentType;
+import org.patternfly.component.button.Button;
+import org.patternfly.component.form.TextInput;
+import org.patternfly.component.menu.Dropdown;
+import org.patternfly.component.menu.MenuToggle;
+import org.patternfly.dataprovider.DataProvider;
+import org.patternfly.dataprovider.Display;
+import org.patternfly.dataprovider.PageInfo;
+import org.patternfly.dataprovider.SelectionInfo;
+import org.patternfly.dataprovider.SortInfo;
+import org.patternfly.icon.PredefinedIcon;
+import org.patternfly.style.Modifiers.Compact;
+
+import elemental2.dom.HTMLDivElement;
+import elemental2.dom.HTMLElement;
+import elemental2.dom.KeyboardEvent;
+
+import static org.jboss.elemento.Elements.b;
+import static org.jboss.elemento.Elements.div;
+import static org.jboss.elemento.Elements.nav;
+import static org.jboss.elemento.Elements.span;
+import static org.jboss.elemento.EventType.change;
+import static org.jboss.elemento.EventType.keydown;
+import static org.jboss.elemento.Key.Enter;
+import static org.patternfly.component.button.Button.button;
+import static org.patternfly.component.form.TextInput.textInput;
+import static org.patternfly.component.form.TextInputType.number;
+import static org.patternfly.component.menu.Dropdown.dropdown;
+import static org.patternfly.component.menu.MenuItem.menuItem;
+import static org.patternfly.component.menu.MenuToggle.menuToggle;
+import static org.patternfly.component.menu.MenuToggleType.plainText;
+import static org.patternfly.core.Aria.hidden;
+import static org.patternfly.core.Aria.label;
+import static org.patternfly.icon.IconSets.fas.angleLeft;
+import static org.patternfly.icon.IconSets.fas.angleRight;
+import static org.patternfly.icon.IconSets.fas.anglesLeft;
+import static org.patternfly.icon.IconSets.fas.anglesRight;
+import static org.patternfly.style.Classes.component;
+import static org.patternfly.style.Classes.first;
+import static org.patternfly.style.Classes.last;
+import static org.patternfly.style.Classes.modifier;
+import static org.patternfly.style.Classes.nav;
+import static org.patternfly.style.Classes.navControl;
+import static org.patternfly.style.Classes.navPageSelect;
+import static org.patternfly.style.Classes.next;
+import static org.patternfly.style.Classes.pageMenu;
+import static org.patternfly.style.Classes.pagination;
+import static org.patternfly.style.Classes.prev;
+import static org.patternfly.style.Classes.totalItems;
+
+/**
+ * A pagination component gives users more navigational capability on pages with content views.
+ * <p>
+ * The pagination is bound to a {@link DataProvider} as a {@link Display}. The buttons, the page input and the per page menu
+ * call the paging API of the data provider. When the page info changes, the pagination only updates its counters and the
+ * state of its buttons.
+ * {@snippet :
+ * DataProvider<User> dataProvider = new DataProvider<>(User::id);
+ * Pagination pagination = pagination().dataProvider(dataProvider);
+ * }
+ *
+ * @see <a href= "https://www.patternfly.org/components/pagination">https://www.patternfly.org/components/pagination</a>
+ */
+public class Pagination extends BaseComponent<HTMLDivElement, Pagination> implements
+        Compact<HTMLDivElement, Pagination> {
+
+    // ------------------------------------------------------ factory
+
+    public static Pagination pagination() {
+        return new Pagination();
+    }
+
+    // ------------------------------------------------------ instance
+
+    private static final int[] DEFAULT_PER_PAGE_OPTIONS = new int[]{10, 20, 50, 100};
+
+    private final HTMLElement fromToElement;
+    private final HTMLElement totalElement;
+    private final MenuToggle perPageToggle;
+    private final Dropdown perPageDropdown;
+    private final Button firstButton;
+    private final Button previousButton;
+    private final Button nextButton;
+    private final Button lastButton;
+    private final TextInput pageInput;
+    private final HTMLElement pagesElement;
+    private DataProvider<?> dataProvider;
+    private int page;
+    private int pages;
+    private int from;
+    private int to;
+    private int total;
+
+    Pagination() {
+        super(ComponentType.Pagination, div().css(component(pagination)).element());
+        this.page = -1;
+        this.pages = -1;
+        this.from = -1;
+        this.to = -1;
+        this.total = -1;
+
+        add(div().css(component(pagination, totalItems))
+                .add(fromToElement = b().element())
+                .add(" of ") // TODO i18n
+                .add(totalElement = b().element()));
+        add(div().css(component(pagination, pageMenu))
+                .add(perPageDropdown = dropdown(perPageToggle = menuToggle(plainText)
+                        .ariaLabel("Items per page")))); // TODO i18n
+        add(nav().css(component(pagination, nav))
+                .aria(label, "Pagination") // TODO i18n
+                .add(div().css(component(pagination, navControl), modifier(first))
+                        .add(firstButton = navButton(anglesLeft(), "Go to first page")
+                                .onClick((e, b) -> gotoPage(0))))
+                .add(div().css(component(pagination, navControl), modifier(prev))
+                        .add(previousButton = navButton(angleLeft(), "Go to previous page")
+                                .onClick((e, b) -> gotoPage(page - 1))))
+                .add(div().css(component(pagination, navPageSelect))
+                        .add(pageInput = textInput(number, Id.unique(componentType().id, "page"))
+                                .aria(label, "Current page")) // TODO i18n
+                        .add(span().aria(hidden, true)
+                                .add(pagesElement = span().element())))
+                .add(div().css(component(pagination, navControl), modifier(next))
+                        .add(nextButton = navButton(angleRight(), "Go to next page")
+                                .onClick((e, b) -> gotoPage(page + 1))))
+                .add(div().css(component(pagination, navControl), modifier(last))
+                        .add(lastButton = navButton(anglesRight(), "Go to last page")
+                                .onClick((e, b) -> gotoPage(pages - 1)))));
+
+        pageInput.input().attr("min", 1);
+        pageInput.input().on(change, e -> gotoInputPage());
+        pageInput.input().on(keydown, e -> {
+            if (Enter.match((KeyboardEvent) e)) {
+                gotoInputPage();
+            }
+        });
+        perPageOptions(DEFAULT_PER_PAGE_OPTIONS);
+        update(0, 0, 0, 1, 0);
+        storeComponent();
+    }
+
+    // ------------------------------------------------------ builder
+
+    /**
+     * Binds this pagination to the given data provider. The pagination is registered as a {@link Display} and reflects the
+     * {@linkplain DataProvider#getPageInfo() page info} of the data provider.
+     */
+    public <T> Pagination dataProvider(DataProvider<T> dataProvider) {
+        this.dataProvider = dataProvider;
+        dataProvider.bindDisplay(new Display<T>() {
+            @Override
+            public void showItems(Iterable<T> items, PageInfo pageInfo) {
+                update(pageInfo);
+            }
+
+            @Override
+            public void updateSelection(SelectionInfo<T> selectionInfo) {
+                // not relevant for pagination
+            }
+
+            @Override
+            public void updateSortInfo(SortInfo<T> sortInfo) {
+                // not relevant for pagination
+            }
+        });
+        update(dataProvider.getPageInfo());
+        return this;
+    }
+
+    /** Sets the options of the per page menu. Defaults to 10, 20, 50 and 100 items per page. */
+    public Pagination perPageOptions(int... options) {
+        perPageDropdown.applyToMenuList(list -> {
+            list.clear();
+            for (int option : options) {
+                list.addItem(menuItem("per-page-" + option, option + " per page") // TODO i18n
+                        .onClick((e, item) -> {
+                            if (dataProvider != null) {
+                                dataProvider.setPageSize(option);
+                            }
+                        }));
+            }
+        });
+        return this;
+    }
+
+    @Override
+    public Pagination that() {
+        return this;
+    }
+
+    // ------------------------------------------------------ internal
+
+    private Button navButton(PredefinedIcon icon, String ariaLabel) {
+        return button().plain().icon(icon).aria(label, ariaLabel); // TODO i18n
+    }
+
+    private void gotoPage(int page) {
+        if (dataProvider != null) {
+            dataProvider.gotoPage(page);
+        }
+    }
+
+    private void gotoInputPage() {
+        try {
+            gotoPage(Integer.parseInt(pageInput.value()) - 1);
+        } catch (NumberFormatException e) {
+            // ignore invalid input
+        }
+        // the data provider might have clamped the page
+        pageInput.value(String.valueOf(page + 1));
+    }
+
+    private void update(PageInfo pageInfo) {
+        update(pageInfo.getFrom(), pageInfo.getTo(), pageInfo.getPage(), pageInfo.getPages(), pageInfo.getTotal());
+    }
+
+    // Only touches the elements whose values have changed.
+    private void update(int from, int to, int page, int pages, int total) {
+        if (from != this.from || to != this.to || total != this.total) {
+            this.from = from;
+            this.to = to;
+            this.total = total;
+            String fromTo = from + " - " + to;
+            fromToElement.textContent = fromTo;
+            totalElement.textContent = String.valueOf(total);
+            perPageToggle.text(fromTo + " of " + total); // TODO i18n
+        }
+        if (page != this.page || pages != this.pages) {
+            this.page = page;
+            this.pages = pages;
+            pageInput.value(String.valueOf(page + 1));
+            pageInput.input().attr("max", pages);
+            pagesElement.textContent = "of " + pages; // TODO i18n
+            boolean atFirst = page <= 0;
+            boolean atLast = page >= pages - 1;
+            firstButton.disabled(atFirst);
+            previousButton.disabled(atFirst);
+            nextButton.disabled(atLast);
+            lastButton.disabled(atLast);
+        }
+    }
+}
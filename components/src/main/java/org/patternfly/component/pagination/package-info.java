@@ -0,0 +1,36 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+/**
+ * Provides the PatternFly pagination component for navigating the pages of a content view.
+ * <p>
+ * The pagination is bound to a {@link org.patternfly.dataprovider.DataProvider} and calls its paging API. Changing the
+ * page only slices the filtered items of the data provider and updates the counters of the pagination.
+ *
+ * <h2>Usage</h2>
+ *
+ * {@snippet :
+ * import static org.patternfly.component.pagination.Pagination.pagination;
+ *
+ * DataProvider<User> dataProvider = new DataProvider<>(User::id);
+ * pagination()
+ *         .perPageOptions(10, 25, 50)
+ *         .dataProvider(dataProvider);
+ * }
+ *
+ * @see Pagination
+ * @see <a href="https://www.patternfly.org/components/pagination">PatternFly Pagination</a>
+ */
+package org.patternfly.component.pagination;
@@ -30,6 +30,7 @@ import org.patternfly.component.AurHandler;
 import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
 import org.patternfly.component.HasItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 import org.patternfly.core.Aria;
@@ -377,6 +378,11 @@ public class ProgressStepper extends BaseComponent<HTMLOListElement, ProgressSte
         });
     }
 
+    @Override
+    public void reorderItems(List<ProgressStep> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         ProgressStep item = items.remove(identifier);
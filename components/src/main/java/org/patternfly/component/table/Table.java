@@ -25,6 +25,7 @@ import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
 import org.patternfly.component.SelectionMode;
 import org.patternfly.core.Aria;
+import org.patternfly.core.TaskScheduler;
 import org.patternfly.handler.MultiSelectHandler;
 import org.patternfly.handler.SelectHandler;
 import org.patternfly.style.Classes;
@@ -104,17 +105,18 @@ public class Table extends BaseComponent<HTMLTableElement, Table> implements
     @Override
     public void attach(MutationRecord mutationRecord) {
         if (type == TableType.treeTable) {
+            // the top level rows are already visible: finish the child rows in chunks and assign the grid cell roles
+            // when the browser is idle
             if (tbody != null) {
-                for (Tr tr : tbody.items.values()) {
-                    tr.aria(Aria.level, 1);
-                    tr.finishChildren();
+                List<Tr> rows = new ArrayList<>(tbody.items.values());
+                for (Tr tr : rows) {
+                    tr.unfinished = true;
                 }
-            }
-            By selector = By.classname(component(table))
-                    .and(By.classname(modifier(treeView)))
-                    .desc(By.element("td"));
-            for (HTMLElement td : querySelectorAll(selector)) {
-                td.setAttribute(role, gridcell);
+                TaskScheduler.chunked(rows, Tr::finishTreeRow)
+                        .onDone(() -> TaskScheduler.idle(this::assignGridCellRoles))
+                        .start();
+            } else {
+                TaskScheduler.idle(this::assignGridCellRoles);
             }
         }
     }
@@ -380,4 +382,13 @@ public class Table extends BaseComponent<HTMLTableElement, Table> implements
             }
         }
     }
+
+    private void assignGridCellRoles() {
+        By selector = By.classname(component(table))
+                .and(By.classname(modifier(treeView)))
+                .desc(By.element("td"));
+        for (HTMLElement td : querySelectorAll(selector)) {
+            td.setAttribute(role, gridcell);
+        }
+    }
 }
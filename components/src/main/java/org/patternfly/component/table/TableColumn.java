@@ -0,0 +1,112 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component.table;
+
+import java.util.function.Function;
+
+import org.gwtproject.safehtml.shared.SafeHtml;
+import org.patternfly.core.Dataset;
+
+import elemental2.dom.HTMLTableCellElement;
+
+import static org.patternfly.style.Classes.component;
+import static org.patternfly.style.Classes.table;
+import static org.patternfly.style.Classes.td;
+
+/**
+ * A column definition used to render read-only rows with {@link Tbody#renderRows(Iterable, java.util.List)}. A column
+ * defines the label (used as {@code data-label} in responsive layouts) and how to get the cell content from a row. The
+ * content is either plain text or {@link SafeHtml}.
+ * {@snippet :
+ * List<TableColumn<User>> columns = asList(
+ *         column("Name", User::name),
+ *         column("Email", User::email),
+ *         htmlColumn("Status", user -> fromSafeConstant(user.active() ? "<b>active</b>" : "inactive")));
+ * tbody().renderRows(users, columns);
+ * }
+ *
+ * @param <T> the type of the rows
+ */
+public class TableColumn<T> {
+
+    // ------------------------------------------------------ factory
+
+    /** Creates a column which renders the text returned by the given function. */
+    public static <T> TableColumn<T> column(String label, Function<T, String> text) {
+        return new TableColumn<>(label, text, null);
+    }
+
+    /** Creates a column which renders the safe HTML returned by the given function. */
+    public static <T> TableColumn<T> htmlColumn(String label, Function<T, SafeHtml> html) {
+        return new TableColumn<>(label, null, html);
+    }
+
+    // ------------------------------------------------------ instance
+
+    private final String label;
+    private final Function<T, String> text;
+    private final Function<T, SafeHtml> html;
+    private String css;
+
+    TableColumn(String label, Function<T, String> text, Function<T, SafeHtml> html) {
+        this.label = label;
+        this.text = text;
+        this.html = html;
+        this.css = component(table, td);
+    }
+
+    // ------------------------------------------------------ builder
+
+    /** Adds CSS classes (e.g. modifiers) to all cells of this column. */
+    public TableColumn<T> css(String... classes) {
+        if (classes != null) {
+            StringBuilder builder = new StringBuilder(css);
+            for (String c : classes) {
+                if (c != null && !c.isEmpty()) {
+                    builder.append(' ').append(c);
+                }
+            }
+            css = builder.toString();
+        }
+        return this;
+    }
+
+    // ------------------------------------------------------ api
+
+    public String label() {
+        return label;
+    }
+
+    // ------------------------------------------------------ internal
+
+    void render(HTMLTableCellElement cell, T row) {
+        cell.className = css;
+        if (label != null) {
+            cell.dataset.set(Dataset.label, label);
+        }
+        if (html != null) {
+            SafeHtml safeHtml = html.apply(row);
+            if (safeHtml != null) {
+                cell.innerHTML = safeHtml.asString();
+            }
+        } else if (text != null) {
+            String value = text.apply(row);
+            if (value != null) {
+                cell.textContent = value;
+            }
+        }
+    }
+}
@@ -15,9 +15,12 @@
  */
 package org.patternfly.component.table;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -26,26 +29,47 @@ import org.jboss.elemento.Id;
 import org.patternfly.component.AddItemHandler;
 import org.patternfly.component.AurHandler;
 import org.patternfly.component.HasIdentifier;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.Ordered;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 import org.patternfly.component.emptystate.EmptyState;
-
+import org.patternfly.core.ChunkedTask;
+import org.patternfly.core.TaskPriority;
+import org.patternfly.core.TaskScheduler;
+import org.patternfly.handler.ProgressHandler;
+
+import elemental2.dom.DocumentFragment;
+import elemental2.dom.Element;
+import elemental2.dom.HTMLTableCellElement;
+import elemental2.dom.HTMLTableRowElement;
 import elemental2.dom.HTMLTableSectionElement;
+import elemental2.dom.Node;
 
+import static elemental2.dom.DomGlobal.document;
+import static java.util.Collections.emptyList;
 import static org.jboss.elemento.Elements.failSafeRemoveFromParent;
 import static org.jboss.elemento.Elements.removeChildrenFrom;
 import static org.patternfly.component.table.Td.td;
 import static org.patternfly.component.table.Tr.tr;
 import static org.patternfly.core.Attributes.role;
+import static org.patternfly.core.Roles.cell;
+import static org.patternfly.core.Roles.row;
 import static org.patternfly.core.Roles.rowgroup;
 import static org.patternfly.layout.bullseye.Bullseye.bullseye;
 import static org.patternfly.style.Classes.component;
 import static org.patternfly.style.Classes.table;
 import static org.patternfly.style.Classes.tbody;
-
-/** A table body section within a {@link Table} component. */
-/** A table body within a {@link Table} component. */
+import static org.patternfly.style.Classes.tr;
+
+/**
+ * A table body within a {@link Table} component.
+ * <p>
+ * Besides {@link Tr} rows, the body supports a lightweight <em>render-only</em> mode for large, read-only tables: Rows
+ * added with {@link #renderRows(Iterable, List)} are rendered straight into {@code <tr/>} and {@code <td/>} elements
+ * with the PatternFly classes and ARIA roles, but without any {@link Tr} or {@link Td} components. The rows are built in
+ * a {@link DocumentFragment} and appended in time-sliced chunks. Render-only rows are not part of the items of this body.
+ */
 public class Tbody extends TableSubComponent<HTMLTableSectionElement, Tbody> implements
         Ordered<HTMLTableSectionElement, Tbody, Tr> {
 
@@ -62,10 +86,16 @@ public class Tbody extends TableSubComponent<HTMLTableSectionElement, Tbody> imp
 
     public static final String SUB_COMPONENT_ID = "tbd";
     public static final String SUB_COMPONENT_NAME = "Tbody";
+    private static final int DEFAULT_FIRST_CHUNK = 50;
+    private static final String ROW_CSS = component(table, tr);
     final Map<String, Tr> items;
     private final AurHandler<Tbody, Tr> aur;
+    private final List<ProgressHandler<Tbody>> renderProgressHandler;
     private Tr emptyRow;
     private Comparator<Tr> comparator;
+    private int firstChunk;
+    private int renderedRows;
+    private ChunkedTask<?> renderTask;
 
     Tbody() {
         super(SUB_COMPONENT_ID, SUB_COMPONENT_NAME, Elements.tbody().css(component(table, tbody))
@@ -73,6 +103,9 @@ public class Tbody extends TableSubComponent<HTMLTableSectionElement, Tbody> imp
                 .element());
         this.items = new LinkedHashMap<>();
         this.aur = new AurHandler<>(this);
+        this.renderProgressHandler = new ArrayList<>();
+        this.firstChunk = DEFAULT_FIRST_CHUNK;
+        this.renderedRows = 0;
     }
 
     // ------------------------------------------------------ add
@@ -94,8 +127,43 @@ public class Tbody extends TableSubComponent<HTMLTableSectionElement, Tbody> imp
         return aur.added(row);
     }
 
+    /**
+     * Renders the given items as read-only rows using the given column definitions. Each item is rendered as one
+     * {@code <tr/>} element with one {@code <td/>} element per column. No {@link Tr} or {@link Td} components are created,
+     * which saves memory and time for large tables without any interactivity.
+     * <p>
+     * The first chunk of rows (see {@link #firstChunk(int)}) is rendered synchronously, the remaining rows are rendered in
+     * time-sliced chunks. Each chunk is built in a {@link DocumentFragment} and appended to this body in one DOM operation.
+     * The rows are appended after the existing rows. Use {@link #clear()} to remove all rows and to cancel pending chunks.
+     */
+    public <T> Tbody renderRows(Iterable<T> items, List<TableColumn<T>> columns) {
+        cancelRendering();
+        DocumentFragment fragment = document.createDocumentFragment();
+        renderTask = TaskScheduler.chunked(items, item -> fragment.appendChild(renderRow(item, columns)))
+                .priority(TaskPriority.frame)
+                .eager(firstChunk)
+                .onProgress((processed, total) -> {
+                    // appending a fragment moves its children and leaves the fragment empty for the next chunk
+                    element().appendChild(fragment);
+                    renderedRows = processed;
+                    renderProgressHandler.forEach(handler -> handler.onProgress(this, processed, total));
+                })
+                .onDone(() -> renderTask = null)
+                .start();
+        return this;
+    }
+
     // ------------------------------------------------------ builder
 
+    /**
+     * Sets the number of rows which are rendered synchronously by {@link #renderRows(Iterable, List)}. Defaults to
+     * {@value DEFAULT_FIRST_CHUNK}.
+     */
+    public Tbody firstChunk(int firstChunk) {
+        this.firstChunk = Math.max(0, firstChunk);
+        return this;
+    }
+
     @Override
     public Tbody ordered(Comparator<Tr> comparator) {
         this.comparator = comparator;
@@ -109,6 +177,12 @@ public class Tbody extends TableSubComponent<HTMLTableSectionElement, Tbody> imp
 
     // ------------------------------------------------------ events
 
+    /** Registers a handler which is called after each chunk of rows rendered by {@link #renderRows(Iterable, List)}. */
+    public Tbody onRenderProgress(ProgressHandler<Tbody> progressHandler) {
+        renderProgressHandler.add(progressHandler);
+        return this;
+    }
+
     @Override
     public Tbody onAdd(AddItemHandler<Tbody, Tr> onAdd) {
         return aur.onAdd(onAdd);
@@ -147,6 +221,24 @@ public class Tbody extends TableSubComponent<HTMLTableSectionElement, Tbody> imp
         failSafeRemoveFromParent(emptyRow);
     }
 
+    /** Returns the number of rows rendered by {@link #renderRows(Iterable, List)} so far. */
+    public int renderedRows() {
+        return renderedRows;
+    }
+
+    /** Returns {@code true} if there are rows left to be rendered by {@link #renderRows(Iterable, List)}. */
+    public boolean rendering() {
+        return renderTask != null && !renderTask.done();
+    }
+
+    /** Cancels the pending chunks of {@link #renderRows(Iterable, List)} (if any). Rendered rows are not removed. */
+    public void cancelRendering() {
+        if (renderTask != null) {
+            renderTask.cancel();
+            renderTask = null;
+        }
+    }
+
     @Override
     public Iterator<Tr> iterator() {
         return items.values().iterator();
@@ -180,6 +272,57 @@ public class Tbody extends TableSubComponent<HTMLTableSectionElement, Tbody> imp
         });
     }
 
+    @Override
+    public void reorderItems(List<Tr> items) {
+        Map<Tr, List<Tr>> descendants = new HashMap<>();
+        for (Tr row : this.items.values()) {
+            List<Tr> rows = new ArrayList<>();
+            row.collectAllChildren(rows);
+            if (!rows.isEmpty()) {
+                descendants.put(row, rows);
+            }
+        }
+        if (descendants.isEmpty()) {
+            KeyedDiff.reorder(this.items, items);
+            return;
+        }
+
+        // tree table: the child rows are siblings after their parent row, move each row together with its descendants
+        Map<Node, Integer> positions = new HashMap<>();
+        int index = 0;
+        for (Node child = element().firstChild; child != null; child = child.nextSibling) {
+            positions.put(child, index++);
+        }
+        Map<String, Tr> remaining = new LinkedHashMap<>(this.items);
+        this.items.clear();
+        for (Tr row : items) {
+            if (remaining.remove(row.identifier()) != null) {
+                this.items.put(row.identifier(), row);
+            }
+        }
+        this.items.putAll(remaining);
+        List<Element> elements = new ArrayList<>();
+        for (Tr row : this.items.values()) {
+            elements.add(row.element());
+            List<Element> block = new ArrayList<>();
+            for (Tr child : descendants.getOrDefault(row, emptyList())) {
+                if (positions.containsKey(child.element())) {
+                    block.add(child.element());
+                }
+            }
+            block.sort(Comparator.comparing(positions::get));
+            elements.addAll(block);
+        }
+        Node expected = element().firstChild;
+        for (Element element : elements) {
+            if (element != expected) {
+                element().insertBefore(element, expected);
+            } else {
+                expected = expected.nextSibling;
+            }
+        }
+    }
+
     @Override
     public void removeItem(String identifier) {
         Tr item = items.remove(identifier);
@@ -189,6 +332,8 @@ public class Tbody extends TableSubComponent<HTMLTableSectionElement, Tbody> imp
 
     @Override
     public void clear() {
+        cancelRendering();
+        renderedRows = 0;
         removeChildrenFrom(element());
         Iterator<Tr> iterator = items.values().iterator();
         while (iterator.hasNext()) {
@@ -197,4 +342,19 @@ public class Tbody extends TableSubComponent<HTMLTableSectionElement, Tbody> imp
             aur.removed(item);
         }
     }
+
+    // ------------------------------------------------------ internal
+
+    private <T> HTMLTableRowElement renderRow(T item, List<TableColumn<T>> columns) {
+        HTMLTableRowElement tr = (HTMLTableRowElement) document.createElement("tr");
+        tr.className = ROW_CSS;
+        tr.setAttribute(role, row);
+        for (TableColumn<T> column : columns) {
+            HTMLTableCellElement td = (HTMLTableCellElement) document.createElement("td");
+            td.setAttribute(role, cell);
+            column.render(td, item);
+            tr.appendChild(td);
+        }
+        return tr;
+    }
 }
@@ -36,6 +36,7 @@ import org.patternfly.component.ComponentType;
 import org.patternfly.component.Expandable;
 import org.patternfly.component.HasIdentifier;
 import org.patternfly.component.HasItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 import org.patternfly.component.tree.TreeViewItem;
@@ -122,6 +123,7 @@ public class Tr extends TableSubComponent<HTMLTableRowElement, Tr> implements
                     .text("Error"));
 
     Tbody tbody;
+    boolean unfinished;
     private final String identifier;
     private final Map<String, Cell<?>> items;
     private final Map<String, Object> data;
@@ -293,6 +295,7 @@ public class Tr extends TableSubComponent<HTMLTableRowElement, Tr> implements
 
     @Override
     public void expand(boolean fireEvent) {
+        finishTreeRow();
         if (!expanded()) {
             Expandable.expand(element(), element(), null);
             List<Tr> allChildren = new ArrayList<>();
@@ -403,6 +406,11 @@ public class Tr extends TableSubComponent<HTMLTableRowElement, Tr> implements
         });
     }
 
+    @Override
+    public void reorderItems(List<Cell<?>> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         Cell<?> item = items.remove(identifier);
@@ -465,6 +473,19 @@ public class Tr extends TableSubComponent<HTMLTableRowElement, Tr> implements
         }
     }
 
+    /**
+     * Finishes a top level row of a tree table. The table finishes its rows in chunks after it has been attached. This method
+     * is also called when the row is expanded, to make sure the children are in place before the chunk of this row has been
+     * processed.
+     */
+    void finishTreeRow() {
+        if (unfinished) {
+            unfinished = false;
+            aria(Aria.level, 1);
+            finishChildren();
+        }
+    }
+
     void finishChildren() {
         if (!children.isEmpty()) {
             for (Tr child : children) {
@@ -481,7 +502,7 @@ public class Tr extends TableSubComponent<HTMLTableRowElement, Tr> implements
         }
     }
 
-    private void collectAllChildren(List<Tr> allChildren) {
+    void collectAllChildren(List<Tr> allChildren) {
         allChildren.addAll(children);
         for (Tr child : children) {
             child.collectAllChildren(allChildren);
@@ -26,6 +26,7 @@
  *     <li>{@link org.patternfly.component.table.Cell} - Base class for table cells (Th and Td)</li>
  *     <li>{@link org.patternfly.component.table.Table} - Main table component</li>
  *     <li>{@link org.patternfly.component.table.TableCaption} - Table caption</li>
+ *     <li>{@link org.patternfly.component.table.TableColumn} - Column definition for read-only rows rendered without row and cell components</li>
  *     <li>{@link org.patternfly.component.table.TableText} - Wrapped/truncated cell text</li>
  *     <li>{@link org.patternfly.component.table.TableType} - Enumeration of table types (table, tree table)</li>
  *     <li>{@link org.patternfly.component.table.Tbody} - Table body section</li>
@@ -399,9 +399,9 @@ public class Tab extends TabSubComponent<HTMLElement, Tab> implements
                     asyncContent.apply(tabs)
                             .then(c -> {
                                 content = c;
-                                asyncContent = null;
                                 tabs.addTabContent(this);
-                                content.element().hidden = false;
+                                // the user might have selected another tab in the meantime
+                                showContent(tabs.currentTab() == this);
                                 return null;
                             })
                             .catch_(error -> {
@@ -413,12 +413,32 @@ public class Tab extends TabSubComponent<HTMLElement, Tab> implements
                     logger.error("No content defined for tab %o", element());
                 }
             } else {
-                content.element().hidden = false;
+                if (content.element().parentElement == null) {
+                    tabs().addTabContent(this);
+                }
+                showContent(true);
             }
         } else {
             classList().remove(modifier(current));
-            if (content != null) {
-                content.element().hidden = true;
+            showContent(false);
+        }
+    }
+
+    void showContent(boolean show) {
+        if (content != null) {
+            content.element().hidden = !show;
+            content.pause(!show);
+        }
+    }
+
+    /** Removes the content from the DOM. Async content is released and loaded again on the next activation. */
+    void unmountContent() {
+        if (content != null) {
+            content.pause(true);
+            failSafeRemoveFromParent(content);
+            button.element().removeAttribute(Aria.controls);
+            if (asyncContent != null) {
+                content = null;
             }
         }
     }
@@ -15,11 +15,14 @@
  */
 package org.patternfly.component.tabs;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.jboss.elemento.ElementTextMethods;
 import org.patternfly.core.ComponentContext;
+import org.patternfly.handler.PauseHandler;
 import org.patternfly.style.Modifiers.Disabled;
 
 import elemental2.dom.HTMLElement;
@@ -47,6 +50,8 @@ public class TabContent extends TabSubComponent<HTMLElement, TabContent> impleme
     public static final String SUB_COMPONENT_ID = "tc";
     public static final String SUB_COMPONENT_NAME = "TabContent";
     private final Map<String, Object> data;
+    private final List<PauseHandler<TabContent>> pauseHandler;
+    private boolean paused;
 
     TabContent() {
         super(SUB_COMPONENT_ID, SUB_COMPONENT_NAME, section().css(component(tabContent))
@@ -54,6 +59,8 @@ public class TabContent extends TabSubComponent<HTMLElement, TabContent> impleme
                 .attr(role, tabpanel)
                 .element());
         this.data = new HashMap<>();
+        this.pauseHandler = new ArrayList<>();
+        this.paused = true;
     }
 
     // ------------------------------------------------------ add
@@ -75,6 +82,18 @@ public class TabContent extends TabSubComponent<HTMLElement, TabContent> impleme
         return this;
     }
 
+    // ------------------------------------------------------ events
+
+    /**
+     * Registers a handler which is called when this tab content is hidden ({@code paused == true}) or shown again
+     * ({@code paused == false}). The handler is also called with {@code paused == false} when the tab content is shown for
+     * the first time.
+     */
+    public TabContent onPause(PauseHandler<TabContent> pauseHandler) {
+        this.pauseHandler.add(pauseHandler);
+        return this;
+    }
+
     // ------------------------------------------------------ api
 
     @Override
@@ -89,4 +108,18 @@ public class TabContent extends TabSubComponent<HTMLElement, TabContent> impleme
         }
         return null;
     }
+
+    /** Returns {@code true} if this tab content is hidden or has not been shown yet. */
+    public boolean paused() {
+        return paused;
+    }
+
+    // ------------------------------------------------------ internal
+
+    void pause(boolean paused) {
+        if (this.paused != paused) {
+            this.paused = paused;
+            pauseHandler.forEach(ph -> ph.onPause(this, paused));
+        }
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component.tabs;
+
+/**
+ * Defines when the {@link TabContent} of a {@link Tab} is added to and removed from the DOM. Use
+ * {@link Tabs#contentPolicy(TabContentPolicy)} or {@link Tabs#keepAlive(int)} to set the policy.
+ * <p>
+ * Hidden tab contents are paused and visible tab contents are resumed regardless of the policy. Register a
+ * {@linkplain TabContent#onPause(org.patternfly.handler.PauseHandler) pause handler} to stop background work of hidden tab
+ * contents.
+ */
+public enum TabContentPolicy {
+
+    /**
+     * Adds static tab contents to the DOM when the tab is added. Async tab contents are loaded on first activation. Tab
+     * contents are never removed. This is the default.
+     */
+    eager,
+
+    /**
+     * Adds tab contents to the DOM on first activation and never removes them.
+     */
+    lazy,
+
+    /**
+     * Adds tab contents to the DOM on activation and removes them when another tab is selected. Async tab contents are
+     * loaded again on the next activation.
+     */
+    unmount,
+
+    /**
+     * Adds tab contents to the DOM on activation and keeps the most recently used tab contents. If the number of tab
+     * contents exceeds the limit set by {@link Tabs#keepAlive(int)}, the least recently used tab content is removed.
+     */
+    keepAlive
+}
@@ -34,6 +34,7 @@ import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
 import org.patternfly.component.Expandable;
 import org.patternfly.component.HasItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.ScrollButtons;
 import org.patternfly.component.UpdateItemHandler;
@@ -43,6 +44,7 @@ import org.patternfly.handler.CloseHandler;
 import org.patternfly.handler.SelectHandler;
 import org.patternfly.handler.ToggleHandler;
 import org.patternfly.icon.IconSets;
+import org.patternfly.style.BreakpointObserver;
 import org.patternfly.style.Breakpoints;
 import org.patternfly.style.Classes;
 import org.patternfly.style.ExpandableModifier;
@@ -58,7 +60,6 @@ import elemental2.dom.HTMLElement;
 import elemental2.dom.HTMLUListElement;
 import elemental2.dom.MutationRecord;
 
-import static elemental2.dom.DomGlobal.window;
 import static java.util.Collections.reverse;
 import static org.jboss.elemento.Elements.div;
 import static org.jboss.elemento.Elements.failSafeRemoveFromParent;
@@ -71,9 +72,7 @@ import static org.jboss.elemento.Elements.isVisible;
 import static org.jboss.elemento.Elements.setVisible;
 import static org.jboss.elemento.Elements.span;
 import static org.jboss.elemento.Elements.ul;
-import static org.jboss.elemento.EventType.bind;
 import static org.jboss.elemento.EventType.click;
-import static org.jboss.elemento.EventType.resize;
 import static org.patternfly.component.tabs.OverflowTab.overflowTab;
 import static org.patternfly.component.tabs.TabsToggle.tabsToggle;
 import static org.patternfly.core.Aria.label;
@@ -91,6 +90,11 @@ import static org.patternfly.style.Modifiers.toggleModifier;
 
 /**
  * Tabs allow users to navigate between views within the same page or context.
+ * <p>
+ * The {@linkplain #contentPolicy(TabContentPolicy) content policy} defines when tab contents are added to and removed from
+ * the DOM. Pages with many heavy tabs can mount tab contents on first activation, unmount hidden tab contents or keep
+ * only the most recently used tab contents (see {@link #keepAlive(int)}). Hidden tab contents are
+ * {@linkplain TabContent#onPause(org.patternfly.handler.PauseHandler) paused}.
  *
  * @see <a href= "https://www.patternfly.org/components/tabs">https://www.patternfly.org/components/tabs</a>
  */
@@ -119,6 +123,7 @@ public class Tabs extends BaseComponent<HTMLElement, Tabs> implements
     private static final Logger logger = Logger.getLogger(Tabs.class.getName());
 
     private final Map<String, Tab> items;
+    private final LinkedHashMap<String, Tab> mounted; // in access order: least recently used first
     private final HTMLContainerBuilder<? extends HTMLElement> mainContainer;
     private final HTMLContainerBuilder<HTMLUListElement> tabsContainer;
     private final ScrollButtons scrollButtons;
@@ -132,6 +137,8 @@ public class Tabs extends BaseComponent<HTMLElement, Tabs> implements
 
     private String initialSelection;
     private Tab currentTab;
+    private TabContentPolicy contentPolicy;
+    private int keepAlive;
     private OverflowTab overflowTab;
     private TabsToggle tabsToggle;
     private Button addButton;
@@ -146,6 +153,9 @@ public class Tabs extends BaseComponent<HTMLElement, Tabs> implements
     <E extends HTMLElement> Tabs(HTMLContainerBuilder<E> builder) {
         super(ComponentType.Tabs, div().element());
         this.items = new LinkedHashMap<>();
+        this.mounted = new LinkedHashMap<>(16, 0.75f, true);
+        this.contentPolicy = TabContentPolicy.eager;
+        this.keepAlive = 1;
         this.toggleHandler = new ArrayList<>();
         this.closeHandler = new ArrayList<>();
         this.selectHandler = new ArrayList<>();
@@ -186,7 +196,7 @@ public class Tabs extends BaseComponent<HTMLElement, Tabs> implements
             } else {
                 attachHorizontal();
             }
-            resizeHandler = bind(window, resize.name, e -> updateState());
+            resizeHandler = BreakpointObserver.observeSize(tabsContainer.element(), (current, previous) -> updateState());
         }
 
         if (items.isEmpty()) {
@@ -284,6 +294,21 @@ public class Tabs extends BaseComponent<HTMLElement, Tabs> implements
 
     // ------------------------------------------------------ builder
 
+    /** Defines when tab contents are added to and removed from the DOM. Defaults to {@link TabContentPolicy#eager}. */
+    public Tabs contentPolicy(TabContentPolicy contentPolicy) {
+        this.contentPolicy = contentPolicy;
+        return this;
+    }
+
+    /**
+     * Keeps the {@code count} most recently used tab contents in the DOM and removes the least recently used tab contents.
+     * Sets the content policy to {@link TabContentPolicy#keepAlive}.
+     */
+    public Tabs keepAlive(int count) {
+        this.keepAlive = Math.max(1, count);
+        return contentPolicy(TabContentPolicy.keepAlive);
+    }
+
     @Override
     public Tabs box(boolean box) {
         return toggleModifier(this, mainContainer.element(), Classes.box, box);
@@ -627,6 +652,9 @@ public class Tabs extends BaseComponent<HTMLElement, Tabs> implements
                     t.select(false);
                 }
             }
+            // mark as most recently used
+            mounted.get(tab.identifier());
+            unmountContents();
             if (overflowHorizontal && isVisible(tab)) {
                 overflowTab.unselect();
             }
@@ -679,6 +707,11 @@ public class Tabs extends BaseComponent<HTMLElement, Tabs> implements
         });
     }
 
+    @Override
+    public void reorderItems(List<Tab> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         Tab item = items.remove(identifier);
@@ -704,7 +737,7 @@ public class Tabs extends BaseComponent<HTMLElement, Tabs> implements
 
     private void addTabToDOM(Tab tab) {
         addTabHandle(tab);
-        if (tab.content != null) {
+        if (tab.content != null && contentPolicy == TabContentPolicy.eager) {
             addTabContent(tab);
         }
     }
@@ -729,10 +762,28 @@ public class Tabs extends BaseComponent<HTMLElement, Tabs> implements
         }
         element().appendChild(tab.content.element());
         tab.content.element().hidden = true;
+        mounted.put(tab.identifier(), tab);
+        unmountContents();
+    }
+
+    // Applies the content policy: Removes tab contents which must not be kept in the DOM.
+    private void unmountContents() {
+        if (contentPolicy == TabContentPolicy.unmount || contentPolicy == TabContentPolicy.keepAlive) {
+            boolean unmountAll = contentPolicy == TabContentPolicy.unmount;
+            Iterator<Tab> iterator = mounted.values().iterator();
+            while ((unmountAll || mounted.size() > keepAlive) && iterator.hasNext()) {
+                Tab tab = iterator.next();
+                if (tab != currentTab) {
+                    iterator.remove();
+                    tab.unmountContent();
+                }
+            }
+        }
     }
 
     private void internalClose(Tab tab) {
         items.remove(tab.identifier());
+        mounted.remove(tab.identifier());
         failSafeRemoveFromParent(tab.content);
         failSafeRemoveFromParent(tab);
     }
@@ -27,6 +27,7 @@
  *     <li>{@link org.patternfly.component.tabs.Tab} - Individual tab with label and content</li>
  *     <li>{@link org.patternfly.component.tabs.TabContent} - Content panel for a tab</li>
  *     <li>{@link org.patternfly.component.tabs.TabContentBody} - Body within tab content</li>
+ *     <li>{@link org.patternfly.component.tabs.TabContentPolicy} - Defines when tab contents are added to and removed from the DOM</li>
  *     <li>{@link org.patternfly.component.tabs.OverflowTab} - Overflow tab for responsive handling</li>
  * </ul>
  *
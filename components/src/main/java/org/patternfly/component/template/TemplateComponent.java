@@ -26,6 +26,7 @@ import org.patternfly.component.AddItemHandler;
 import org.patternfly.component.AurHandler;
 import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.Ordered;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
@@ -212,6 +213,11 @@ public class TemplateComponent extends BaseComponent<HTMLElement, TemplateCompon
         });
     }
 
+    @Override
+    public void reorderItems(List<TemplateItem> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         TemplateItem item = items.remove(identifier);
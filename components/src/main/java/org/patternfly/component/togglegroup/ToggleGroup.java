@@ -30,6 +30,7 @@ import org.patternfly.component.AurHandler;
 import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
 import org.patternfly.component.HasItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.SelectionMode;
 import org.patternfly.component.UpdateItemHandler;
@@ -253,6 +254,11 @@ public class ToggleGroup extends BaseComponent<HTMLElement, ToggleGroup> impleme
         });
     }
 
+    @Override
+    public void reorderItems(List<ToggleGroupItem> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         ToggleGroupItem item = items.remove(identifier);
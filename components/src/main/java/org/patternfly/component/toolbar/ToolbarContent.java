@@ -17,12 +17,14 @@ package org.patternfly.component.toolbar;
 
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.jboss.elemento.ElementContainerDelegate;
 import org.patternfly.component.AddItemHandler;
 import org.patternfly.component.AurHandler;
 import org.patternfly.component.HasItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 import org.patternfly.style.Breakpoints;
@@ -194,6 +196,11 @@ public class ToolbarContent extends ToolbarSubComponent<HTMLDivElement, ToolbarC
         });
     }
 
+    @Override
+    public void reorderItems(List<ToolbarItem> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         ToolbarItem item = items.remove(identifier);
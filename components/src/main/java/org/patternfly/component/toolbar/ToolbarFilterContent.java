@@ -24,6 +24,7 @@ import java.util.Map;
 import org.patternfly.component.AddItemHandler;
 import org.patternfly.component.AurHandler;
 import org.patternfly.component.HasItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 import org.patternfly.filter.Filter;
@@ -170,6 +171,11 @@ public class ToolbarFilterContent extends ToolbarSubComponent<HTMLDivElement, To
         });
     }
 
+    @Override
+    public void reorderItems(List<ToolbarItem> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         ToolbarItem item = items.remove(identifier);
@@ -17,11 +17,13 @@ package org.patternfly.component.toolbar;
 
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.patternfly.component.AddItemHandler;
 import org.patternfly.component.AurHandler;
 import org.patternfly.component.HasItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 
@@ -156,6 +158,11 @@ public class ToolbarToggleGroup extends ToolbarSubComponent<HTMLDivElement, Tool
         });
     }
 
+    @Override
+    public void reorderItems(List<ToolbarItem> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         ToolbarItem item = items.remove(identifier);
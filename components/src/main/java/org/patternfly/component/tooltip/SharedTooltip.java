@@ -0,0 +1,363 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component.tooltip;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.gwtproject.event.shared.HandlerRegistration;
+import org.jboss.elemento.Attachable;
+import org.jboss.elemento.Id;
+import org.patternfly.component.BaseComponent;
+import org.patternfly.component.ComponentType;
+import org.patternfly.core.Dataset;
+import org.patternfly.core.Roles;
+import org.patternfly.overlay.Overlay;
+import org.patternfly.style.Classes;
+import org.patternfly.style.Placement;
+
+import elemental2.core.JsWeakMap;
+import elemental2.dom.Element;
+import elemental2.dom.Event;
+import elemental2.dom.EventTarget;
+import elemental2.dom.HTMLDivElement;
+import elemental2.dom.HTMLElement;
+import elemental2.dom.MouseEvent;
+import elemental2.dom.MutationRecord;
+import elemental2.dom.Node;
+import jsinterop.base.Js;
+
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.document;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static org.gwtproject.event.shared.HandlerRegistrations.compose;
+import static org.jboss.elemento.Elements.div;
+import static org.jboss.elemento.Elements.removeChildrenFrom;
+import static org.jboss.elemento.EventType.bind;
+import static org.jboss.elemento.EventType.focusin;
+import static org.jboss.elemento.EventType.focusout;
+import static org.jboss.elemento.EventType.mouseenter;
+import static org.jboss.elemento.EventType.mouseleave;
+import static org.patternfly.component.tooltip.TriggerAria.describedBy;
+import static org.patternfly.component.tooltip.TriggerAria.none;
+import static org.patternfly.core.Aria.live;
+import static org.patternfly.core.Attributes.role;
+import static org.patternfly.overlay.CssPositioning.containerTypeAnchoredSupported;
+import static org.patternfly.overlay.Overlay.overlay;
+import static org.patternfly.overlay.TriggerMode.manual;
+import static org.patternfly.style.Classes.arrow;
+import static org.patternfly.style.Classes.component;
+import static org.patternfly.style.Classes.content;
+import static org.patternfly.style.Classes.modifier;
+import static org.patternfly.style.Classes.textAlignLeft;
+import static org.patternfly.style.Classes.tooltip;
+import static org.patternfly.style.Placement.top;
+
+/**
+ * A shared tooltip is one tooltip element which is reused for any number of triggers inside a container. Use it for dense
+ * UIs, e.g., icons or truncated cells in every row of a table, where creating one {@link Tooltip} per trigger is too
+ * expensive.
+ * <p>
+ * Triggers only declare their content. Either set the {@code data-shared-tooltip} attribute of the trigger to the tooltip
+ * text or register a supplier with {@link #register(HTMLElement, Supplier)} or
+ * {@link #registerElement(HTMLElement, Supplier)}. Suppliers are held weakly, so removed triggers can be garbage collected.
+ * <p>
+ * The shared tooltip registers one delegated {@code pointerover}/{@code pointerout} and {@code focusin}/{@code focusout}
+ * listener pair on the container. When the user hovers or focuses a trigger, the tooltip is filled and moved to the trigger
+ * after the entry delay. Moving from one trigger to another while the tooltip is visible switches the tooltip without delay.
+ * The shared tooltip element must be added to the DOM like a regular tooltip.
+ *
+ * {@snippet :
+ * SharedTooltip sharedTooltip = sharedTooltip(table.element());
+ * body().add(sharedTooltip);
+ *
+ * // declare the content using a data attribute
+ * icon.element().dataset.set(Dataset.sharedTooltip, "Running");
+ *
+ * // or register a supplier
+ * sharedTooltip.register(cell.element(), () -> cell.element().textContent);
+ * }
+ */
+public class SharedTooltip extends BaseComponent<HTMLDivElement, SharedTooltip> implements Attachable {
+
+    // ------------------------------------------------------ factory
+
+    /** Creates a shared tooltip for all triggers in the document body. */
+    public static SharedTooltip sharedTooltip() {
+        return new SharedTooltip(null);
+    }
+
+    /** Creates a shared tooltip for all triggers inside the given container. */
+    public static SharedTooltip sharedTooltip(HTMLElement container) {
+        return new SharedTooltip(container);
+    }
+
+    // ------------------------------------------------------ instance
+
+    private static final String POINTER_OVER = "pointerover";
+    private static final String POINTER_OUT = "pointerout";
+    private static final String TRIGGER = "[data-shared-tooltip]";
+
+    private final String id;
+    private final HTMLElement container;
+    private final Overlay overlay;
+    private final HTMLElement contentElement;
+    private final JsWeakMap<HTMLElement, Consumer<HTMLElement>> content;
+    private int entryDelay;
+    private int exitDelay;
+    private TriggerAria aria;
+    private HTMLElement current;
+    private String currentAttribute; // the aria attribute modified on the current trigger
+    private String originalAria; // the original value of that attribute
+    private double showTimeout;
+    private double hideTimeout;
+    private HandlerRegistration handlerRegistration;
+
+    SharedTooltip(HTMLElement container) {
+        super(ComponentType.Tooltip, div().css(component(Classes.tooltip))
+                .attr(role, Roles.tooltip)
+                .aria(live, "polite")
+                .element());
+        this.id = Id.unique(componentType().id, "shared");
+        this.container = container;
+        this.overlay = overlay(element(), top)
+                .triggerMode(manual)
+                .distance(Tooltip.DISTANCE)
+                .cssPositioning(containerTypeAnchoredSupported());
+        this.content = new JsWeakMap<>();
+        this.entryDelay = Tooltip.ENTRY_DELAY;
+        this.exitDelay = Tooltip.EXIT_DELAY;
+        this.aria = describedBy;
+
+        id(id);
+        element().appendChild(div().css(component(tooltip, arrow)).element());
+        element().appendChild(contentElement = div().css(component(tooltip, content)).element());
+        Attachable.register(this, this);
+    }
+
+    @Override
+    public void attach(MutationRecord mutationRecord) {
+        HTMLElement root = container != null ? container : document.body;
+        handlerRegistration = compose(
+                bind(root, POINTER_OVER, this::onEnter),
+                bind(root, focusin, this::onEnter),
+                bind(root, POINTER_OUT, e -> onLeave(e, ((MouseEvent) e).relatedTarget)),
+                bind(root, focusout, e -> onLeave(e, e.relatedTarget)),
+                bind(element(), mouseenter, e -> cancelTimers()),
+                bind(element(), mouseleave, e -> scheduleHide()));
+    }
+
+    @Override
+    public void detach(MutationRecord mutationRecord) {
+        cancelTimers();
+        hide();
+        if (handlerRegistration != null) {
+            handlerRegistration.removeHandler();
+            handlerRegistration = null;
+        }
+    }
+
+    // ------------------------------------------------------ builder
+
+    public SharedTooltip distance(int distance) {
+        overlay.distance(distance);
+        return this;
+    }
+
+    public SharedTooltip entryDelay(int delay) {
+        this.entryDelay = delay;
+        return this;
+    }
+
+    public SharedTooltip exitDelay(int delay) {
+        this.exitDelay = delay;
+        return this;
+    }
+
+    public SharedTooltip leftAligned() {
+        contentElement.classList.add(modifier(textAlignLeft));
+        return this;
+    }
+
+    public SharedTooltip placement(Placement placement) {
+        overlay.placement(placement);
+        return this;
+    }
+
+    @Override
+    public SharedTooltip that() {
+        return this;
+    }
+
+    // ------------------------------------------------------ aria
+
+    public SharedTooltip aria(TriggerAria aria) {
+        this.aria = aria;
+        return this;
+    }
+
+    // ------------------------------------------------------ api
+
+    /** Registers a trigger with a static text. Same as setting the {@code data-shared-tooltip} attribute. */
+    public SharedTooltip register(HTMLElement trigger, String text) {
+        if (trigger != null) {
+            content.delete(trigger);
+            trigger.dataset.set(Dataset.sharedTooltip, text);
+        }
+        return this;
+    }
+
+    /** Registers a trigger whose text is provided by the given supplier when the tooltip is shown. */
+    public SharedTooltip register(HTMLElement trigger, Supplier<String> text) {
+        return internalRegister(trigger, contentElement -> contentElement.textContent = text.get());
+    }
+
+    /** Registers a trigger whose content is provided by the given supplier when the tooltip is shown. */
+    public SharedTooltip registerElement(HTMLElement trigger, Supplier<HTMLElement> element) {
+        return internalRegister(trigger, contentElement -> {
+            removeChildrenFrom(contentElement);
+            HTMLElement e = element.get();
+            if (e != null) {
+                contentElement.appendChild(e);
+            }
+        });
+    }
+
+    /** Removes the trigger. If the tooltip is currently shown for the trigger, it is hidden. */
+    public SharedTooltip unregister(HTMLElement trigger) {
+        if (trigger != null) {
+            if (trigger == current) {
+                hide();
+            }
+            content.delete(trigger);
+            trigger.dataset.delete(Dataset.sharedTooltip);
+        }
+        return this;
+    }
+
+    /** Hides the tooltip. */
+    public void hide() {
+        cancelTimers();
+        if (current != null) {
+            if (currentAttribute != null) {
+                if (originalAria != null) {
+                    current.setAttribute(currentAttribute, originalAria);
+                } else {
+                    current.removeAttribute(currentAttribute);
+                }
+                currentAttribute = null;
+                originalAria = null;
+            }
+            current = null;
+            overlay.detach();
+        }
+    }
+
+    /** Returns the trigger the tooltip is currently shown for or {@code null} if the tooltip is hidden. */
+    public HTMLElement trigger() {
+        return current;
+    }
+
+    // ------------------------------------------------------ internal
+
+    private SharedTooltip internalRegister(HTMLElement trigger, Consumer<HTMLElement> fill) {
+        if (trigger != null) {
+            content.set(trigger, fill);
+            trigger.dataset.set(Dataset.sharedTooltip, "");
+        }
+        return this;
+    }
+
+    private void onEnter(Event event) {
+        HTMLElement trigger = findTrigger(event.target);
+        if (trigger != null) {
+            cancelTimers();
+            if (trigger != current) {
+                if (current != null) {
+                    // already visible: switch to the new trigger without delay
+                    show(trigger);
+                } else {
+                    showTimeout = setTimeout(__ -> show(trigger), entryDelay);
+                }
+            }
+        }
+    }
+
+    private void onLeave(Event event, EventTarget relatedTarget) {
+        HTMLElement trigger = findTrigger(event.target);
+        if (trigger != null) {
+            if (relatedTarget != null && trigger.contains((Node) relatedTarget)) {
+                return; // still inside the trigger
+            }
+            if (trigger == current) {
+                scheduleHide();
+            } else {
+                cancelTimers();
+            }
+        }
+    }
+
+    private HTMLElement findTrigger(EventTarget target) {
+        // accept any element: both the target and the trigger might be SVG elements (e.g. an icon)
+        if (target instanceof Element) {
+            Element trigger = ((Element) target).closest(TRIGGER);
+            HTMLElement root = container != null ? container : document.body;
+            if (trigger != null && root.contains(trigger)) {
+                // SVG elements support the dataset, style, and geometry APIs used for triggers
+                return Js.uncheckedCast(trigger);
+            }
+        }
+        return null;
+    }
+
+    private void show(HTMLElement trigger) {
+        hide();
+        Consumer<HTMLElement> fill = content.get(trigger);
+        if (fill != null) {
+            fill.accept(contentElement);
+        } else {
+            contentElement.textContent = trigger.dataset.get(Dataset.sharedTooltip);
+        }
+        String text = contentElement.textContent;
+        if (contentElement.childElementCount == 0 && (text == null || text.isEmpty())) {
+            return;
+        }
+        current = trigger;
+        if (aria != none) {
+            currentAttribute = aria.attribute;
+            originalAria = trigger.hasAttribute(currentAttribute) ? trigger.getAttribute(currentAttribute) : null;
+            if (aria == describedBy && originalAria != null && !originalAria.isEmpty()) {
+                // keep the existing descriptions
+                trigger.setAttribute(currentAttribute, originalAria + " " + id);
+            } else {
+                trigger.setAttribute(currentAttribute, id);
+            }
+        }
+        overlay.trigger(trigger);
+        overlay.attach();
+        overlay.show();
+    }
+
+    private void scheduleHide() {
+        cancelTimers();
+        hideTimeout = setTimeout(__ -> hide(), exitDelay);
+    }
+
+    private void cancelTimers() {
+        clearTimeout(showTimeout);
+        clearTimeout(hideTimeout);
+    }
+}
@@ -24,6 +24,7 @@
  *
  * <ul>
  *     <li>{@link org.patternfly.component.tooltip.Tooltip} - Main tooltip component</li>
+ *     <li>{@link org.patternfly.component.tooltip.SharedTooltip} - One tooltip element shared by many triggers</li>
  *     <li>{@link org.patternfly.component.tooltip.TriggerAria} - ARIA configuration for trigger elements</li>
  * </ul>
  *
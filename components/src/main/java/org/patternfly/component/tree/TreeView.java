@@ -31,6 +31,7 @@ import org.patternfly.component.AurHandler;
 import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
 import org.patternfly.component.HasItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 import org.patternfly.core.Aria;
@@ -352,6 +353,11 @@ public class TreeView extends BaseComponent<HTMLElement, TreeView> implements
         });
     }
 
+    @Override
+    public void reorderItems(List<TreeViewItem> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         TreeViewItem item = items.remove(identifier);
@@ -29,6 +29,7 @@ import org.jboss.elemento.Id;
 import org.jboss.elemento.logger.Logger;
 import org.patternfly.component.AddItemHandler;
 import org.patternfly.component.AsyncItems;
+import org.patternfly.component.AsyncItemsRenderer;
 import org.patternfly.component.AurHandler;
 import org.patternfly.component.ComponentIcon;
 import org.patternfly.component.ComponentType;
@@ -36,11 +37,13 @@ import org.patternfly.component.Expandable;
 import org.patternfly.component.HasAsyncItems;
 import org.patternfly.component.HasIdentifier;
 import org.patternfly.component.HasItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 import org.patternfly.core.AsyncStatus;
 import org.patternfly.core.ComponentContext;
 import org.patternfly.core.Dataset;
+import org.patternfly.handler.ProgressHandler;
 import org.patternfly.handler.ToggleHandler;
 import org.patternfly.icon.PredefinedIcon;
 import org.patternfly.style.Classes;
@@ -82,6 +85,7 @@ import static org.patternfly.core.Aria.expanded;
 import static org.patternfly.core.Aria.labelledBy;
 import static org.patternfly.core.AsyncStatus.pending;
 import static org.patternfly.core.AsyncStatus.rejected;
+import static org.patternfly.core.AsyncStatus.rendering;
 import static org.patternfly.core.AsyncStatus.resolved;
 import static org.patternfly.core.AsyncStatus.static_;
 import static org.patternfly.core.Attributes.role;
@@ -166,6 +170,7 @@ public class TreeViewItem extends TreeViewSubComponent<HTMLLIElement, TreeViewIt
     private final List<ToggleHandler<TreeViewItem>> toggleHandler;
     private AsyncItems<TreeViewItem, TreeViewItem> asyncItems;
     private final AurHandler<TreeViewItem, TreeViewItem> aur;
+    private final AsyncItemsRenderer<TreeViewItem, TreeViewItem> renderer;
 
     TreeViewItem(String identifier) {
         super(SUB_COMPONENT_ID, SUB_COMPONENT_NAME, li().css(component(treeView, list, item))
@@ -183,6 +188,7 @@ public class TreeViewItem extends TreeViewSubComponent<HTMLLIElement, TreeViewIt
         this.inputElements = new ArrayList<>();
         this.toggleHandler = new ArrayList<>();
         this.aur = new AurHandler<>(this);
+        this.renderer = new AsyncItemsRenderer<>(this);
 
         add(contentElement = div().css(component(treeView, content)).element());
         containerElement = span().css(component(treeView, node, container)).element();
@@ -262,6 +268,11 @@ public class TreeViewItem extends TreeViewSubComponent<HTMLLIElement, TreeViewIt
         return this;
     }
 
+    @Override
+    public TreeViewItem renderInChunks(int firstChunk) {
+        return renderer.chunked(firstChunk);
+    }
+
     @Override
     public <T> TreeViewItem store(String key, T value) {
         data.put(key, value);
@@ -290,6 +301,11 @@ public class TreeViewItem extends TreeViewSubComponent<HTMLLIElement, TreeViewIt
         return aur.onRemove(onRemove);
     }
 
+    @Override
+    public TreeViewItem onRenderProgress(ProgressHandler<TreeViewItem> progressHandler) {
+        return renderer.onProgress(progressHandler);
+    }
+
     public TreeViewItem onToggle(ToggleHandler<TreeViewItem> toggleHandler) {
         this.toggleHandler.add(toggleHandler);
         return this;
@@ -359,15 +375,19 @@ public class TreeViewItem extends TreeViewSubComponent<HTMLLIElement, TreeViewIt
             // load items
             return asyncItems.apply(this)
                     .then(items -> {
-                        status = resolved;
+                        status = rendering;
                         clearTimeout(handle);
                         failSafeRemoveFromParent(loadingItem[0]);
-                        for (TreeViewItem child : items) {
-                            addItem(child);
-                        }
-                        if (this.items.isEmpty()) {
-                            failSafeRemoveFromParent(toggleElement);
-                            collapse(false);
+                        return renderer.render(items, this::addItem);
+                    })
+                    .then(items -> {
+                        // the status is no longer 'rendering' if the item has been reset in the meantime
+                        if (status == rendering) {
+                            status = resolved;
+                            if (this.items.isEmpty()) {
+                                failSafeRemoveFromParent(toggleElement);
+                                collapse(false);
+                            }
                         }
                         return Promise.resolve(items);
                     })
@@ -404,7 +424,8 @@ public class TreeViewItem extends TreeViewSubComponent<HTMLLIElement, TreeViewIt
 
     @Override
     public void reset() {
-        if (status == resolved || status == rejected) {
+        if (status == resolved || status == rejected || status == rendering) {
+            renderer.cancel();
             status = pending;
             internalClear();
             collapse(false);
@@ -465,6 +486,11 @@ public class TreeViewItem extends TreeViewSubComponent<HTMLLIElement, TreeViewIt
         });
     }
 
+    @Override
+    public void reorderItems(List<TreeViewItem> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         TreeViewItem item = items.remove(identifier);
@@ -476,7 +502,7 @@ public class TreeViewItem extends TreeViewSubComponent<HTMLLIElement, TreeViewIt
     public void clear() {
         if (status == static_) {
             internalClear();
-        } else if (status == resolved || status == rejected || status == pending) {
+        } else if (status == resolved || status == rejected || status == rendering || status == pending) {
             reset();
         }
     }
@@ -25,6 +25,7 @@ import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
 import org.patternfly.component.tooltip.Tooltip;
 import org.patternfly.core.ObservableValue;
+import org.patternfly.core.TaskScheduler;
 import org.patternfly.style.Classes;
 
 import elemental2.dom.HTMLElement;
@@ -63,10 +64,10 @@ public class Truncate extends BaseComponent<HTMLElement, Truncate> implements
     // ------------------------------------------------------ instance
 
     private static final int MIN_WIDTH_CHARACTERS = 12;
-    private final Tooltip tooltip;
     private final ObservableValue<TruncatePosition> position;
     private String text;
     private int trailingNumChars;
+    private Tooltip tooltip;
     private HTMLContainerBuilder<HTMLElement> primaryTextElement;
     private HTMLContainerBuilder<HTMLElement> secondaryTextElement;
 
@@ -75,10 +76,9 @@ public class Truncate extends BaseComponent<HTMLElement, Truncate> implements
         this.text = text;
         this.trailingNumChars = 7;
         this.position = ov(position).subscribe(this::internalUpdate);
-        this.tooltip = tooltip(element());
-
-        element().appendChild(tooltip.element());
         internalUpdate(position, null);
+        // the tooltip is only needed on hover: build it when the browser is idle
+        TaskScheduler.idle(this::failSafeTooltip);
     }
 
     // ------------------------------------------------------ builder
@@ -131,7 +131,9 @@ public class Truncate extends BaseComponent<HTMLElement, Truncate> implements
                 updateMiddleText(text);
                 break;
         }
-        tooltip.text(text);
+        if (tooltip != null) {
+            tooltip.text(text);
+        }
     }
 
     private void updateText(String text) {
@@ -146,7 +148,9 @@ public class Truncate extends BaseComponent<HTMLElement, Truncate> implements
                     failSafePrimaryTextElement().text(text);
                     break;
             }
-            tooltip.text(text);
+            if (tooltip != null) {
+                tooltip.text(text);
+            }
         }
     }
 
@@ -185,6 +189,13 @@ public class Truncate extends BaseComponent<HTMLElement, Truncate> implements
         secondaryTextElement = null;
     }
 
+    private void failSafeTooltip() {
+        if (tooltip == null) {
+            tooltip = tooltip(element(), text);
+            element().appendChild(tooltip.element());
+        }
+    }
+
     private HTMLContainerBuilder<HTMLElement> failSafePrimaryTextElement() {
         if (primaryTextElement == null) {
             primaryTextElement = span();
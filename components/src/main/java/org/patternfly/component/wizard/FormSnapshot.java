@@ -0,0 +1,109 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component.wizard;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import elemental2.dom.Element;
+import elemental2.dom.HTMLInputElement;
+import elemental2.dom.HTMLSelectElement;
+import elemental2.dom.HTMLTextAreaElement;
+import elemental2.dom.NodeList;
+
+/**
+ * Lightweight snapshot of the form controls in an element. The snapshot stores the values of all {@code <input/>},
+ * {@code <select/>} and {@code <textarea/>} elements which have a {@code name} or {@code id} attribute. For checkboxes and
+ * radio buttons, the checked state is stored. Used to restore the state of a discarded {@link WizardStep} after its content
+ * has been rendered again.
+ */
+final class FormSnapshot {
+
+    private static final String CONTROLS = "input,select,textarea";
+
+    static FormSnapshot take(Element root) {
+        FormSnapshot snapshot = new FormSnapshot();
+        NodeList<Element> controls = root.querySelectorAll(CONTROLS);
+        for (int i = 0; i < controls.length; i++) {
+            Element control = controls.item(i);
+            String key = key(control);
+            if (key != null) {
+                if ("INPUT".equalsIgnoreCase(control.tagName)) {
+                    HTMLInputElement input = (HTMLInputElement) control;
+                    if (checkable(input)) {
+                        snapshot.values.put(key, String.valueOf(input.checked));
+                    } else if (!"file".equalsIgnoreCase(input.type) && !"password".equalsIgnoreCase(input.type)) {
+                        snapshot.values.put(key, input.value);
+                    }
+                } else if ("SELECT".equalsIgnoreCase(control.tagName)) {
+                    snapshot.values.put(key, ((HTMLSelectElement) control).value);
+                } else if ("TEXTAREA".equalsIgnoreCase(control.tagName)) {
+                    snapshot.values.put(key, ((HTMLTextAreaElement) control).value);
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private final Map<String, String> values;
+
+    private FormSnapshot() {
+        this.values = new HashMap<>();
+    }
+
+    void restore(Element root) {
+        NodeList<Element> controls = root.querySelectorAll(CONTROLS);
+        for (int i = 0; i < controls.length; i++) {
+            Element control = controls.item(i);
+            String key = key(control);
+            if (key != null && values.containsKey(key)) {
+                String value = values.get(key);
+                if ("INPUT".equalsIgnoreCase(control.tagName)) {
+                    HTMLInputElement input = (HTMLInputElement) control;
+                    if (checkable(input)) {
+                        input.checked = Boolean.parseBoolean(value);
+                    } else {
+                        input.value = value;
+                    }
+                } else if ("SELECT".equalsIgnoreCase(control.tagName)) {
+                    ((HTMLSelectElement) control).value = value;
+                } else if ("TEXTAREA".equalsIgnoreCase(control.tagName)) {
+                    ((HTMLTextAreaElement) control).value = value;
+                }
+            }
+        }
+    }
+
+    private static String key(Element control) {
+        // prefer the name: IDs are often generated and differ when the content is rendered again
+        String key = control.getAttribute("name");
+        if (key == null || key.isEmpty()) {
+            key = control.id;
+        }
+        if (key == null || key.isEmpty()) {
+            return null;
+        }
+        // radio buttons share the same name
+        if ("INPUT".equalsIgnoreCase(control.tagName) && "radio".equalsIgnoreCase(((HTMLInputElement) control).type)) {
+            key += "=" + ((HTMLInputElement) control).value;
+        }
+        return key;
+    }
+
+    private static boolean checkable(HTMLInputElement input) {
+        return "checkbox".equalsIgnoreCase(input.type) || "radio".equalsIgnoreCase(input.type);
+    }
+}
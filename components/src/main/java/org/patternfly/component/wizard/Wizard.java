@@ -29,6 +29,7 @@ import org.patternfly.component.AurHandler;
 import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
 import org.patternfly.component.HasItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 import org.patternfly.handler.ComponentHandler;
@@ -89,6 +90,7 @@ public class Wizard extends BaseComponent<HTMLElement, Wizard> implements
     private final HTMLContainerBuilder<HTMLButtonElement> toggleButton;
     private boolean progressive;
     private boolean visitRequired;
+    private boolean discardInactiveSteps;
     private WizardStep head;
     private WizardStep current;
     private WizardStep tail;
@@ -198,6 +200,21 @@ public class Wizard extends BaseComponent<HTMLElement, Wizard> implements
         return this;
     }
 
+    /** Same as {@linkplain #discardInactiveSteps(boolean) discardInactiveSteps(true)} */
+    public Wizard discardInactiveSteps() {
+        return discardInactiveSteps(true);
+    }
+
+    /**
+     * Discards the content of a step when the step is left. Defaults to false. Applies only to steps with deferred content
+     * (see {@link WizardStep#addContent(java.util.function.Consumer)} and {@link WizardStep#addContentPromised(WizardStepContentPromise)}). The
+     * values of the form controls are kept in a snapshot and restored when the step is rendered again.
+     */
+    public Wizard discardInactiveSteps(boolean discardInactiveSteps) {
+        this.discardInactiveSteps = discardInactiveSteps;
+        return this;
+    }
+
     @Override
     public Wizard that() {
         return this;
@@ -270,6 +287,51 @@ public class Wizard extends BaseComponent<HTMLElement, Wizard> implements
         });
     }
 
+    @Override
+    public void reorderItems(List<WizardStep> items) {
+        KeyedDiff.reorder(this.items, items);
+
+        // relink the steps
+        head = tail = null;
+        for (WizardStep item : this.items.values()) {
+            item.previous = tail;
+            item.next = null;
+            if (tail == null) {
+                head = item;
+            } else {
+                tail.next = item;
+            }
+            tail = item;
+        }
+
+        // a progressive wizard shows the nav items up to the current step
+        if (progressive && current != null) {
+            boolean beforeCurrent = true;
+            for (WizardStep item : this.items.values()) {
+                if (beforeCurrent && !nav.contains(item.identifier())) {
+                    nav.add(new WizardNavItem(item.identifier(), item.title));
+                } else if (!beforeCurrent && nav.contains(item.identifier())) {
+                    nav.removeItem(item.identifier());
+                }
+                if (item == current) {
+                    beforeCurrent = false;
+                }
+            }
+        }
+        List<WizardNavItem> navItems = new ArrayList<>();
+        for (WizardStep item : this.items.values()) {
+            WizardNavItem navItem = nav.item(item.identifier());
+            if (navItem != null) {
+                navItems.add(navItem);
+            }
+        }
+        nav.reorderItems(navItems);
+        if (current != null) {
+            nav.select(current.identifier());
+            footer.updateButtons(size(), head, current, tail);
+        }
+    }
+
     @Override
     public void removeItem(String identifier) {
         nav.removeItem(identifier);
@@ -460,6 +522,9 @@ public class Wizard extends BaseComponent<HTMLElement, Wizard> implements
             if (current != null && current.leaveHandler != null) {
                 current.leaveHandler.onLeave(this, current);
             }
+            if (discardInactiveSteps && current != null) {
+                current.discard();
+            }
             current = step;
             current.visited = true;
             toggle(modifier(finished), step.type == progress || step.type == summary);
@@ -468,6 +533,7 @@ public class Wizard extends BaseComponent<HTMLElement, Wizard> implements
             }
             nav.select(current.identifier());
             footer.updateButtons(size(), head, current, tail);
+            current.render(this);
             if (current.enterHandler != null) {
                 current.enterHandler.onEnter(this, current);
             }
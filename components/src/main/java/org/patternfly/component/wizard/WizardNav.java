@@ -17,12 +17,14 @@ package org.patternfly.component.wizard;
 
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.jboss.elemento.HTMLContainerBuilder;
 import org.patternfly.component.AddItemHandler;
 import org.patternfly.component.AurHandler;
 import org.patternfly.component.HasItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 import org.patternfly.core.Aria;
@@ -142,6 +144,11 @@ public class WizardNav extends WizardSubComponent<HTMLElement, WizardNav> implem
         });
     }
 
+    @Override
+    public void reorderItems(List<WizardNavItem> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         WizardNavItem item = items.remove(identifier);
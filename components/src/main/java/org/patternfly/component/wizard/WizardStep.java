@@ -31,20 +31,30 @@ import elemental2.dom.Element;
 import elemental2.dom.HTMLElement;
 
 import static org.jboss.elemento.Elements.div;
+import static org.jboss.elemento.Elements.failSafeRemoveFromParent;
+import static org.jboss.elemento.Elements.removeChildrenFrom;
 import static org.jboss.elemento.Elements.setVisible;
 import static org.patternfly.component.ValidationStatus.error;
 import static org.patternfly.component.ValidationStatus.success;
 import static org.patternfly.component.ValidationStatus.warning;
+import static org.patternfly.component.spinner.Spinner.spinner;
 import static org.patternfly.component.wizard.WizardStepType.step;
 import static org.patternfly.core.Attributes.tabindex;
 import static org.patternfly.core.Validation.verifyEnum;
+import static org.patternfly.layout.bullseye.Bullseye.bullseye;
 import static org.patternfly.style.Classes.body;
 import static org.patternfly.style.Classes.component;
 import static org.patternfly.style.Classes.main;
 import static org.patternfly.style.Classes.wizard;
-
-/** An individual step within a {@link Wizard} component. */
-/** A wizard step within a {@link Wizard} component. */
+import static org.patternfly.style.Size.lg;
+
+/**
+ * A wizard step within a {@link Wizard} component.
+ * <p>
+ * The content of a step can be added right away or deferred using {@link #addContent(Consumer)} or
+ * {@link #addContentPromised(WizardStepContentPromise)}. Deferred content is rendered when the step is entered for the
+ * first time.
+ */
 public class WizardStep extends WizardSubComponent<HTMLElement, WizardStep> implements
         ComponentContext<HTMLElement, WizardStep>,
         Disabled<HTMLElement, WizardStep>,
@@ -84,6 +94,13 @@ public class WizardStep extends WizardSubComponent<HTMLElement, WizardStep> impl
     WizardStepNextPromise nextPromise;
     WizardStepEnterHandler enterHandler;
     WizardStepLeaveHandler leaveHandler;
+    Consumer<WizardStep> deferredContent;
+    WizardStepContentPromise deferredContentPromise;
+    boolean rendered;
+    private int generation;
+    // receives the content of a pending content promise
+    private HTMLElement staging;
+    private FormSnapshot snapshot;
 
     WizardStep(String identifier, String title, WizardStepType type) {
         super(SUB_COMPONENT_ID, SUB_COMPONENT_NAME, div().css(component(wizard, main)).element());
@@ -91,6 +108,7 @@ public class WizardStep extends WizardSubComponent<HTMLElement, WizardStep> impl
         this.title = title;
         this.type = type;
         this.visited = false;
+        this.rendered = true;
         this.data = new HashMap<>();
         this.customButtonNames = new EnumMap<>(WizardFooterButtons.class);
         element().appendChild(bodyElement = div().css(component(wizard, main, body)).element());
@@ -98,7 +116,31 @@ public class WizardStep extends WizardSubComponent<HTMLElement, WizardStep> impl
 
     @Override
     public Element containerDelegate() {
-        return bodyElement;
+        return staging != null ? staging : bodyElement;
+    }
+
+    // ------------------------------------------------------ add
+
+    /**
+     * Defers the content of this step. The consumer is called when the step is entered for the first time and should add the
+     * content to the step.
+     */
+    public WizardStep addContent(Consumer<WizardStep> content) {
+        this.deferredContent = content;
+        this.deferredContentPromise = null;
+        this.rendered = false;
+        return this;
+    }
+
+    /**
+     * Defers the content of this step. The promise is created when the step is entered for the first time and should add the
+     * content to the step.
+     */
+    public WizardStep addContentPromised(WizardStepContentPromise content) {
+        this.deferredContentPromise = content;
+        this.deferredContent = null;
+        this.rendered = false;
+        return this;
     }
 
     // ------------------------------------------------------ builder
@@ -273,6 +315,74 @@ public class WizardStep extends WizardSubComponent<HTMLElement, WizardStep> impl
 
     // ------------------------------------------------------ internal
 
+    /** Returns {@code true} if this step has deferred content, which can be discarded and rendered again. */
+    boolean deferred() {
+        return deferredContent != null || deferredContentPromise != null;
+    }
+
+    void render(Wizard wizard) {
+        if (!rendered && deferred()) {
+            rendered = true;
+            if (deferredContent != null) {
+                deferredContent.accept(this);
+                restoreSnapshot();
+            } else {
+                // the content is added to a staging element and moved to the body once the promise resolves.
+                // if the step is discarded in the meantime, the result is stale and the staging element is dropped.
+                int current = ++generation;
+                HTMLElement loading = bullseye().add(spinner(lg)).element();
+                bodyElement.appendChild(loading);
+                staging = div().element();
+                HTMLElement content = staging;
+                deferredContentPromise.onRender(wizard, this)
+                        .then(step -> {
+                            if (current == generation) {
+                                staging = null;
+                                failSafeRemoveFromParent(loading);
+                                while (content.firstChild != null) {
+                                    bodyElement.appendChild(content.firstChild);
+                                }
+                                restoreSnapshot();
+                            }
+                            return null;
+                        })
+                        .catch_(error -> {
+                            if (current == generation) {
+                                staging = null;
+                                failSafeRemoveFromParent(loading);
+                                logger.error("Unable to render content of wizard step %s: %s", identifier, error);
+                                rendered = false;
+                            }
+                            return null;
+                        });
+            }
+        }
+    }
+
+    /**
+     * Discards the content of this step and keeps the state of the form controls in a snapshot. A pending content promise
+     * becomes stale, and its content is dropped once it resolves.
+     */
+    void discard() {
+        if (rendered && deferred()) {
+            generation++;
+            if (staging == null) {
+                snapshot = FormSnapshot.take(bodyElement);
+            }
+            // else: the content is still pending, keep the snapshot for the next render
+            staging = null;
+            removeChildrenFrom(bodyElement);
+            rendered = false;
+        }
+    }
+
+    private void restoreSnapshot() {
+        if (snapshot != null) {
+            snapshot.restore(bodyElement);
+            snapshot = null;
+        }
+    }
+
     void select(boolean selected) {
         setVisible(element(), selected);
         classList().toggle(component(wizard, main), selected);
@@ -0,0 +1,39 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component.wizard;
+
+import elemental2.promise.Promise;
+
+/**
+ * Interface to render the content of a {@link WizardStep} asynchronously.
+ * <p>
+ * The content is rendered when the step is entered for the first time (or again, if the step content has been
+ * {@linkplain Wizard#discardInactiveSteps(boolean) discarded}).
+ */
+@FunctionalInterface
+public interface WizardStepContentPromise {
+
+    /**
+     * Called when the content of the step needs to be rendered. Add the content to the step and resolve the promise once
+     * the content has been added. The content is shown when the promise resolves. If the step is discarded before, the
+     * content is dropped.
+     *
+     * @param wizard the wizard instance
+     * @param step   the step to render
+     * @return a {@code Promise} that resolves to the step once its content has been added
+     */
+    Promise<WizardStep> onRender(Wizard wizard, WizardStep step);
+}
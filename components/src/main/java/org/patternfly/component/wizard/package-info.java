@@ -31,6 +31,7 @@
  *     <li>{@link org.patternfly.component.wizard.WizardFooter} - Custom wizard footer with buttons</li>
  *     <li>{@link org.patternfly.component.wizard.WizardNav} - Navigation sidebar</li>
  *     <li>{@link org.patternfly.component.wizard.WizardNavItem} - Navigation item for a step</li>
+ *     <li>{@link org.patternfly.component.wizard.WizardStepContentPromise} - Promise to render the deferred content of a step</li>
  *     <li>{@link org.patternfly.component.wizard.WizardStepType} - Step type variants (default, review, summary)</li>
  *     <li>{@link org.patternfly.component.wizard.WizardContext} - Shared context across wizard steps</li>
  * </ul>
@@ -54,6 +55,14 @@
  *                 .add(p().text("Review your selections")));
  * }
  *
+ * <p>Defer the content of a step until the step is entered for the first time:
+ *
+ * {@snippet :
+ * Wizard wizard = wizard().discardInactiveSteps()
+ *         .addItem(wizardStep("step-0", "Step 1")
+ *                 .addContent(step -> step.add(p().text("Step 1 content"))));
+ * }
+ *
  * @see org.patternfly.component.wizard.Wizard
  * @see org.patternfly.component.wizard.WizardStep
  * @see <a href="https://www.patternfly.org/components/wizard">PatternFly Wizard</a>
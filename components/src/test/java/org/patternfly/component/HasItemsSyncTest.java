@@ -0,0 +1,234 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import elemental2.dom.HTMLElement;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class HasItemsSyncTest {
+
+    static class Item implements HasIdentifier<HTMLElement, Item> {
+
+        final String id;
+        String value;
+
+        Item(String id, String value) {
+            this.id = id;
+            this.value = value;
+        }
+
+        @Override
+        public String identifier() {
+            return id;
+        }
+
+        @Override
+        public HTMLElement element() {
+            return null;
+        }
+
+        @Override
+        public Item that() {
+            return this;
+        }
+    }
+
+    static class Items implements HasItems<HTMLElement, Items, Item> {
+
+        final Map<String, Item> items = new LinkedHashMap<>();
+        final AurHandler<Items, Item> aur = new AurHandler<>(this);
+        int reordered;
+
+        @Override
+        public Items add(Item item) {
+            items.put(item.identifier(), item);
+            return aur.added(item);
+        }
+
+        @Override
+        public void reorderItems(List<Item> items) {
+            reordered++;
+            this.items.clear();
+            for (Item item : items) {
+                this.items.put(item.identifier(), item);
+            }
+        }
+
+        @Override
+        public void removeItem(String identifier) {
+            Item item = items.remove(identifier);
+            if (item != null) {
+                aur.removed(item);
+            }
+        }
+
+        @Override
+        public void updateItem(Item item) {
+            items.put(item.identifier(), item);
+        }
+
+        @Override
+        public void clear() {
+            new ArrayList<>(items.keySet()).forEach(this::removeItem);
+        }
+
+        @Override
+        public Items onAdd(AddItemHandler<Items, Item> onAdd) {
+            return aur.onAdd(onAdd);
+        }
+
+        @Override
+        public Items onUpdate(UpdateItemHandler<Items, Item> onUpdate) {
+            return aur.onUpdate(onUpdate);
+        }
+
+        @Override
+        public Items onRemove(RemoveItemHandler<Items, Item> onRemove) {
+            return aur.onRemove(onRemove);
+        }
+
+        @Override
+        public Iterator<Item> iterator() {
+            return items.values().iterator();
+        }
+
+        @Override
+        public int size() {
+            return items.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return items.isEmpty();
+        }
+
+        @Override
+        public boolean contains(String identifier) {
+            return items.containsKey(identifier);
+        }
+
+        @Override
+        public Item item(String identifier) {
+            return items.get(identifier);
+        }
+
+        @Override
+        public HTMLElement element() {
+            return null;
+        }
+
+        @Override
+        public Items that() {
+            return this;
+        }
+    }
+
+    private Items items;
+    private List<String> events;
+
+    @BeforeEach
+    void setUp() {
+        items = new Items();
+        events = new ArrayList<>();
+        // the size at the time of the event shows whether the events have been delivered after the sync
+        items.onAdd((c, item) -> events.add("add " + item.id + " " + c.size()));
+        items.onRemove((c, item) -> events.add("remove " + item.id + " " + c.size()));
+    }
+
+    @Test
+    void create() {
+        sync("a=1", "b=2", "c=3");
+        assertEquals(asList("a=1", "b=2", "c=3"), state());
+        assertEquals(asList("add a 3", "add b 3", "add c 3"), events);
+        assertEquals(0, items.reordered);
+    }
+
+    @Test
+    void removePatchCreate() {
+        sync("a=1", "b=2", "c=3");
+        Item a = items.item("a");
+        events.clear();
+
+        sync("a=10", "c=3", "d=4");
+        assertEquals(asList("a=10", "c=3", "d=4"), state());
+        assertSame(a, items.item("a"));
+        assertEquals(asList("remove b 3", "add d 3"), events);
+        assertEquals(0, items.reordered);
+    }
+
+    @Test
+    void reorder() {
+        sync("a=1", "b=2", "c=3");
+        Item b = items.item("b");
+        events.clear();
+
+        sync("c=3", "b=2", "a=1");
+        assertEquals(asList("c=3", "b=2", "a=1"), state());
+        assertSame(b, items.item("b"));
+        assertEquals(1, items.reordered);
+        assertEquals(new ArrayList<>(), events);
+    }
+
+    @Test
+    void reorderNewItems() {
+        sync("a=1", "b=2");
+        sync("x=0", "a=1", "b=2");
+        assertEquals(asList("x=0", "a=1", "b=2"), state());
+        assertEquals(1, items.reordered);
+    }
+
+    @Test
+    void removeAll() {
+        sync("a=1", "b=2");
+        events.clear();
+        sync();
+        assertEquals(new ArrayList<>(), state());
+        assertEquals(asList("remove a 0", "remove b 0"), events);
+    }
+
+    @Test
+    void duplicateKeys() {
+        sync("a=1", "b=2", "a=3");
+        assertEquals(asList("a=1", "b=2"), state());
+    }
+
+    // ------------------------------------------------------ helper
+
+    private void sync(String... data) {
+        items.sync(asList(data), d -> d.split("=")[0], d -> new Item(d.split("=")[0], d.split("=")[1]),
+                (item, d) -> item.value = d.split("=")[1]);
+    }
+
+    private List<String> state() {
+        List<String> state = new ArrayList<>();
+        for (Item item : items) {
+            state.add(item.id + "=" + item.value);
+        }
+        return state;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class KeyedDiffTest {
+
+    @Test
+    void empty() {
+        assertArrayEquals(new boolean[0], KeyedDiff.stable(new int[0]));
+    }
+
+    @Test
+    void sorted() {
+        assertArrayEquals(new boolean[]{true, true, true, true}, KeyedDiff.stable(new int[]{0, 1, 2, 3}));
+    }
+
+    @Test
+    void reversed() {
+        boolean[] stable = KeyedDiff.stable(new int[]{3, 2, 1, 0});
+        assertArrayEquals(new boolean[]{false, false, false, true}, stable);
+    }
+
+    @Test
+    void moveOne() {
+        // item at position 4 moved to the front: only this item must be moved
+        assertArrayEquals(new boolean[]{false, true, true, true, true}, KeyedDiff.stable(new int[]{4, 0, 1, 2, 3}));
+        // item at position 0 moved to the end
+        assertArrayEquals(new boolean[]{true, true, true, true, false}, KeyedDiff.stable(new int[]{1, 2, 3, 4, 0}));
+    }
+
+    @Test
+    void gaps() {
+        // positions don't need to be consecutive (e.g. dividers between items)
+        assertArrayEquals(new boolean[]{true, false, true, true}, KeyedDiff.stable(new int[]{2, 9, 5, 7}));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component.codeblock;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LineIndexTest {
+
+    @Test
+    void blank() {
+        assertEquals(0, new LineIndex(null).count());
+        assertEquals(0, new LineIndex("").count());
+        assertEquals(0, new LineIndex(" \n  \n").count());
+    }
+
+    @Test
+    void sameAsSplit() {
+        String[] texts = {"a", "a\nb", "a\nb\n", "a\n\nb", "a\nb\n\n\n", "\na\nb", "a\n \n"};
+        for (String text : texts) {
+            String[] lines = text.split("\n");
+            LineIndex index = new LineIndex(text);
+            assertEquals(lines.length, index.count(), text);
+            for (int i = 0; i < lines.length; i++) {
+                assertEquals(lines[i], index.line(i), text);
+            }
+        }
+    }
+
+    @Test
+    void lines() {
+        LineIndex index = new LineIndex("one\ntwo\nthree\nfour\n");
+        assertEquals(4, index.count());
+        assertEquals("one\ntwo", index.lines(0, 2));
+        assertEquals("three\nfour", index.lines(2, 4));
+        assertEquals("three\nfour", index.lines(2, 42));
+        assertEquals("", index.lines(3, 3));
+    }
+
+    @Test
+    void lineAt() {
+        LineIndex index = new LineIndex("one\ntwo\nthree");
+        assertEquals(0, index.lineAt(0));
+        assertEquals(0, index.lineAt(3));
+        assertEquals(1, index.lineAt(4));
+        assertEquals(1, index.lineAt(7));
+        assertEquals(2, index.lineAt(8));
+        assertEquals(2, index.lineAt(12));
+    }
+
+    @Test
+    void find() {
+        LineIndex index = new LineIndex("Error: foo\ninfo: bar\nERROR: baz");
+        assertArrayEquals(new int[]{0, 21}, index.find("error"));
+        assertArrayEquals(new int[0], index.find("qux"));
+        assertArrayEquals(new int[0], index.find(""));
+        assertArrayEquals(new int[0], index.find(null));
+    }
+
+    @Test
+    void append() {
+        LineIndex index = new LineIndex("one\ntw");
+        index.append("o\nthree\n");
+        index.append("four");
+        assertEquals(4, index.count());
+        assertEquals("two", index.line(1));
+        assertEquals("four", index.line(3));
+        assertEquals(new LineIndex("one\ntwo\nthree\nfour").lines(0, 4), index.lines(0, 4));
+    }
+
+    @Test
+    void dropFirst() {
+        LineIndex index = new LineIndex("one\ntwo\nthree\nfour");
+        assertEquals(8, index.dropFirst(2));
+        assertEquals(2, index.count());
+        assertEquals("three", index.line(0));
+        assertEquals("four", index.line(1));
+        assertEquals(1, index.lineAt(7));
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.component.notification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.patternfly.component.notification.EvictionPolicy.oldest;
+
+class NotificationQueueTest {
+
+    static class Note {
+
+        final String id;
+        boolean read;
+
+        Note(String id) {
+            this.id = id;
+        }
+    }
+
+    // simulates the DOM of the list
+    private List<String> dom;
+    private NotificationQueue<Note> queue;
+
+    @BeforeEach
+    void setUp() {
+        dom = new ArrayList<>();
+        queue = new NotificationQueue<>(note -> note.id, note -> note.read, new NotificationQueue.View<Note>() {
+            @Override
+            public void insertFirst(Note item) {
+                dom.remove(item.id);
+                dom.add(0, item.id);
+            }
+
+            @Override
+            public void insertAfter(Note item, Note after) {
+                dom.remove(item.id);
+                dom.add(dom.indexOf(after.id) + 1, item.id);
+            }
+
+            @Override
+            public void append(Note item) {
+                dom.add(item.id);
+            }
+
+            @Override
+            public void remove(Note item) {
+                dom.remove(item.id);
+            }
+        });
+    }
+
+    // ------------------------------------------------------ linked list
+
+    @Test
+    void addNewestFirst() {
+        add("a", "b", "c");
+        assertEquals(ids("c", "b", "a"), byAge());
+        assertEquals(asList("c", "b", "a"), dom);
+        assertEquals(3, queue.unread());
+    }
+
+    @Test
+    void insertAfter() {
+        Note a = note("a");
+        queue.add(a, null, 0);
+        add("b");
+        queue.insertAfter(note("x"), a, 0);
+        assertEquals(ids("b", "a", "x"), byAge());
+        assertEquals(asList("b", "a", "x"), dom);
+    }
+
+    @Test
+    void remove() {
+        add("a", "b", "c");
+        assertEquals("b", queue.remove("b").id);
+        assertNull(queue.remove("b"));
+        assertEquals(ids("c", "a"), byAge());
+        assertEquals(asList("c", "a"), dom);
+        assertEquals(2, queue.unread());
+    }
+
+    @Test
+    void replace() {
+        add("a", "b", "c");
+        Note b = note("b");
+        b.read = true;
+        queue.replace(b);
+        assertSame(b, queue.get("b"));
+        assertEquals(ids("c", "b", "a"), byAge());
+        assertEquals(2, queue.unread());
+    }
+
+    @Test
+    void readChanged() {
+        add("a", "b");
+        Note a = queue.get("a");
+        a.read = true;
+        queue.readChanged(a);
+        queue.readChanged(a);
+        assertEquals(1, queue.unread());
+        a.read = false;
+        queue.readChanged(a);
+        assertEquals(2, queue.unread());
+    }
+
+    @Test
+    void clear() {
+        add("a", "b");
+        assertEquals(2, queue.clear().size());
+        assertEquals(0, queue.size());
+        assertEquals(0, queue.unread());
+        assertTrue(dom.isEmpty());
+    }
+
+    // ------------------------------------------------------ eviction
+
+    @Test
+    void evictOldestRead() {
+        queue.capacity(3);
+        add("a", "b", "c");
+        Note b = queue.get("b");
+        b.read = true;
+        queue.readChanged(b);
+
+        List<Note> evicted = queue.add(note("d"), null, 0);
+        assertEquals(ids("b"), idsOf(evicted));
+        assertEquals(ids("d", "c", "a"), byAge());
+        assertEquals(asList("d", "c", "a"), dom);
+    }
+
+    @Test
+    void evictOldestReadByArrival() {
+        queue.capacity(3);
+        queue.add(note("a"), null, 10);
+        queue.add(note("b"), null, 20);
+        queue.add(note("c"), null, 30);
+        // mark 'c' as read before 'a'
+        for (String id : ids("c", "a")) {
+            Note note = queue.get(id);
+            note.read = true;
+            queue.readChanged(note);
+        }
+
+        assertEquals(ids("a"), idsOf(queue.add(note("d"), null, 40)));
+        assertEquals(ids("d", "c", "b"), byAge());
+    }
+
+    @Test
+    void evictOldestIfNothingRead() {
+        queue.capacity(3);
+        add("a", "b", "c");
+        assertEquals(ids("a"), idsOf(queue.add(note("d"), null, 0)));
+        assertEquals(ids("d", "c", "b"), byAge());
+    }
+
+    @Test
+    void evictOldest() {
+        queue.capacity(2);
+        queue.evictionPolicy(oldest);
+        add("a", "b");
+        Note b = queue.get("b");
+        b.read = true;
+        queue.readChanged(b);
+        assertEquals(ids("a"), idsOf(queue.add(note("c"), null, 0)));
+        assertEquals(ids("c", "b"), byAge());
+    }
+
+    @Test
+    void insertAfterEvicted() {
+        queue.capacity(2);
+        Note a = note("a");
+        queue.add(a, null, 0);
+        add("b");
+        // 'a' is evicted, 'x' becomes the newest item
+        queue.insertAfter(note("x"), a, 0);
+        assertEquals(ids("x", "b"), byAge());
+        assertEquals(asList("x", "b"), dom);
+    }
+
+    // ------------------------------------------------------ coalescing
+
+    @Test
+    void coalesceWithinWindow() {
+        queue.coalesceWindow(100);
+        queue.add(note("a"), "k", 0);
+        queue.add(note("b"), null, 10);
+        Note similar = queue.coalesce("k", 50);
+        assertEquals("a", similar.id);
+        assertEquals(ids("a", "b"), byAge());
+        assertEquals(asList("a", "b"), dom);
+    }
+
+    @Test
+    void coalesceWindowSlides() {
+        queue.coalesceWindow(100);
+        queue.add(note("a"), "k", 0);
+        assertEquals("a", queue.coalesce("k", 80).id);
+        // the window is measured from the last coalesced notification
+        assertEquals("a", queue.coalesce("k", 160).id);
+        assertNull(queue.coalesce("k", 300));
+    }
+
+    @Test
+    void noCoalesceWithoutWindow() {
+        queue.add(note("a"), "k", 0);
+        assertNull(queue.coalesce("k", 1));
+    }
+
+    @Test
+    void noCoalesceAfterRemove() {
+        queue.coalesceWindow(100);
+        queue.add(note("a"), "k", 0);
+        queue.remove("a");
+        assertNull(queue.coalesce("k", 1));
+    }
+
+    // ------------------------------------------------------ render window
+
+    @Test
+    void renderWindow() {
+        queue.renderWindow(2);
+        add("a", "b", "c", "d");
+        assertEquals(asList("d", "c"), dom);
+        assertEquals(2, queue.rendered());
+        assertFalse(queue.isRendered("b"));
+    }
+
+    @Test
+    void renderMore() {
+        queue.renderWindow(2);
+        add("a", "b", "c", "d", "e");
+        assertTrue(queue.renderMore());
+        assertEquals(asList("e", "d", "c", "b"), dom);
+        // renders the last item, nothing left afterwards
+        assertFalse(queue.renderMore());
+        assertEquals(asList("e", "d", "c", "b", "a"), dom);
+        // nothing to render: the limit must not grow
+        assertFalse(queue.renderMore());
+        assertEquals(5, queue.rendered());
+        add("f");
+        assertEquals(asList("f", "e", "d", "c", "b", "a"), dom);
+    }
+
+    @Test
+    void renderMoreWithoutWindow() {
+        add("a", "b");
+        assertFalse(queue.renderMore());
+    }
+
+    @Test
+    void fillAfterRemove() {
+        queue.renderWindow(2);
+        add("a", "b", "c");
+        queue.remove("c");
+        assertEquals(asList("b", "a"), dom);
+    }
+
+    @Test
+    void coalesceUnrendered() {
+        queue.coalesceWindow(100);
+        queue.renderWindow(2);
+        queue.add(note("a"), "k", 0);
+        add("b", "c");
+        assertFalse(queue.isRendered("a"));
+        queue.coalesce("k", 10);
+        assertEquals(asList("a", "c"), dom);
+        assertEquals(ids("a", "c", "b"), byAge());
+    }
+
+    // ------------------------------------------------------ reorder
+
+    @Test
+    void iteratesNewestFirst() {
+        add("a", "b", "c");
+        List<String> ids = new ArrayList<>();
+        for (Note note : queue) {
+            ids.add(note.id);
+        }
+        assertEquals(ids("c", "b", "a"), ids);
+    }
+
+    @Test
+    void reorder() {
+        add("a", "b", "c");
+        queue.reorder(asList(queue.get("a"), queue.get("c"), queue.get("b")));
+        assertEquals(ids("a", "c", "b"), byAge());
+        assertEquals(asList("a", "c", "b"), dom);
+        add("d");
+        assertEquals(asList("d", "a", "c", "b"), dom);
+    }
+
+    @Test
+    void reorderKeepsMissingItems() {
+        add("a", "b", "c");
+        queue.reorder(asList(queue.get("a")));
+        assertEquals(ids("a", "c", "b"), byAge());
+        assertEquals(asList("a", "c", "b"), dom);
+    }
+
+    @Test
+    void reorderRenderWindow() {
+        queue.renderWindow(2);
+        add("a", "b", "c", "d");
+        queue.reorder(asList(queue.get("a"), queue.get("b"), queue.get("c"), queue.get("d")));
+        assertEquals(asList("a", "b"), dom);
+        assertFalse(queue.renderMore());
+        assertEquals(asList("a", "b", "c", "d"), dom);
+    }
+
+    // ------------------------------------------------------ helper
+
+    private void add(String... ids) {
+        for (String id : ids) {
+            queue.add(note(id), null, 0);
+        }
+    }
+
+    private Note note(String id) {
+        return new Note(id);
+    }
+
+    private List<String> ids(String... ids) {
+        return asList(ids);
+    }
+
+    private List<String> byAge() {
+        return idsOf(queue.byAge());
+    }
+
+    private List<String> idsOf(List<Note> notes) {
+        List<String> ids = new ArrayList<>();
+        for (Note note : notes) {
+            ids.add(note.id);
+        }
+        return ids;
+    }
+}
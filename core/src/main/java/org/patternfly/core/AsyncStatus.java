@@ -22,6 +22,12 @@ public enum AsyncStatus {
 
     pending,
 
+    /**
+     * The asynchronous operation has finished, and the result is being rendered in chunks. Used by containers with chunked
+     * rendering of async items.
+     */
+    rendering,
+
     resolved,
 
     rejected
@@ -0,0 +1,188 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * A task that processes a (potentially large) number of items in time-boxed slices. Each slice processes items until the
+ * budget of the {@linkplain TaskPriority priority lane} is used up and then yields to the browser. Chunked tasks are created
+ * using {@link TaskScheduler#chunked(Iterable, Consumer)} and must be started explicitly:
+ * {@snippet :
+ * TaskScheduler.chunked(rows, row -> tbody.add(row))
+ *         .priority(TaskPriority.frame)
+ *         .eager(50)
+ *         .onProgress((processed, total) -> console.log("Processed " + processed + " of " + total))
+ *         .onDone(() -> console.log("Done"))
+ *         .onFailure(error -> console.error("Failed: " + error))
+ *         .start();
+ * }
+ *
+ * @param <T> the type of the items
+ */
+public class ChunkedTask<T> extends ScheduledTask {
+
+    private final Iterator<T> iterator;
+    private final Consumer<T> consumer;
+    private final int total;
+    private final List<BiConsumer<Integer, Integer>> progressHandler;
+    private final List<Runnable> doneHandler;
+    private TaskPriority priority;
+    private int eager;
+    private int processed;
+    private boolean started;
+
+    ChunkedTask(Iterable<T> items, Consumer<T> consumer) {
+        super(null);
+        this.iterator = items.iterator();
+        this.consumer = consumer;
+        this.total = items instanceof Collection ? ((Collection<?>) items).size() : -1;
+        this.progressHandler = new ArrayList<>();
+        this.doneHandler = new ArrayList<>();
+        this.priority = TaskPriority.frame;
+        this.eager = 0;
+        this.processed = 0;
+        this.started = false;
+    }
+
+    // ------------------------------------------------------ builder
+
+    /** Sets the priority lane used to process the items. Defaults to {@link TaskPriority#frame}. */
+    public ChunkedTask<T> priority(TaskPriority priority) {
+        this.priority = priority;
+        return this;
+    }
+
+    /**
+     * Sets the number of items which are processed synchronously when the task is started. Use this to render the first
+     * screenful of items right away.
+     */
+    public ChunkedTask<T> eager(int count) {
+        this.eager = count;
+        return this;
+    }
+
+    // ------------------------------------------------------ events
+
+    /**
+     * Registers a handler which is called after each slice with the number of processed items and the total number of items
+     * (or {@code -1} if the total number is unknown).
+     */
+    public ChunkedTask<T> onProgress(BiConsumer<Integer, Integer> progressHandler) {
+        this.progressHandler.add(progressHandler);
+        return this;
+    }
+
+    /**
+     * Registers a handler which is called after all items have been processed. Not called if the task is cancelled or has
+     * failed.
+     */
+    public ChunkedTask<T> onDone(Runnable doneHandler) {
+        this.doneHandler.add(doneHandler);
+        return this;
+    }
+
+    /**
+     * Registers a handler which is called if the consumer throws an exception. The remaining items are not processed.
+     */
+    @Override
+    public ChunkedTask<T> onFailure(Consumer<Throwable> failureHandler) {
+        super.onFailure(failureHandler);
+        return this;
+    }
+
+    // ------------------------------------------------------ api
+
+    /** Starts processing the items. Calling this method more than once has no effect. */
+    public ChunkedTask<T> start() {
+        if (!started) {
+            started = true;
+            for (int i = 0; i < eager && iterator.hasNext() && !stopped(); i++) {
+                process(iterator.next());
+            }
+            if (stopped()) {
+                return this;
+            }
+            if (iterator.hasNext()) {
+                if (eager > 0) {
+                    progress();
+                }
+                TaskScheduler.enqueue(priority, this);
+            } else {
+                finish();
+            }
+        }
+        return this;
+    }
+
+    /** Returns the number of items processed so far. */
+    public int processed() {
+        return processed;
+    }
+
+    /** Returns the total number of items or {@code -1} if the total number is unknown. */
+    public int total() {
+        return total;
+    }
+
+    // ------------------------------------------------------ internal
+
+    @Override
+    boolean execute(double deadline) {
+        if (stopped()) {
+            return true;
+        }
+        // process at least one item per slice to guarantee progress
+        do {
+            process(iterator.next());
+        } while (iterator.hasNext() && !stopped() && TaskScheduler.environment().now() < deadline);
+
+        if (stopped()) {
+            return true;
+        } else if (iterator.hasNext()) {
+            progress();
+            return false;
+        } else {
+            finish();
+            return true;
+        }
+    }
+
+    private void process(T item) {
+        try {
+            consumer.accept(item);
+            processed++;
+        } catch (Throwable t) {
+            TaskScheduler.environment().error("Error processing item %d of chunked task: %s", processed, t);
+            fail(t);
+        }
+    }
+
+    private void progress() {
+        progressHandler.forEach(ph -> ph.accept(processed, total));
+    }
+
+    private void finish() {
+        done = true;
+        progress();
+        doneHandler.forEach(Runnable::run);
+    }
+}
@@ -22,4 +22,5 @@ public interface Dataset {
     String label = "label";
     String placeholder = "placeholder";
     String sliderStepValue = "sliderStepValue";
+    String sharedTooltip = "sharedTooltip";
 }
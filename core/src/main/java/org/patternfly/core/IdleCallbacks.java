@@ -0,0 +1,49 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.core;
+
+import jsinterop.annotations.JsFunction;
+import jsinterop.annotations.JsType;
+
+import static jsinterop.annotations.JsPackage.GLOBAL;
+
+/** Native binding for {@code window.requestIdleCallback()}. */
+@JsType(isNative = true, namespace = GLOBAL, name = "window")
+class IdleCallbacks {
+
+    static native double requestIdleCallback(IdleRequestCallbackFn callback, IdleRequestOptions options);
+
+    @JsFunction
+    @FunctionalInterface
+    interface IdleRequestCallbackFn {
+
+        void onInvoke(IdleDeadline deadline);
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = "Object")
+    static class IdleDeadline {
+
+        boolean didTimeout;
+
+        native double timeRemaining();
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = "Object")
+    static class IdleRequestOptions {
+
+        int timeout;
+    }
+}
@@ -38,41 +38,35 @@ import static elemental2.dom.DomGlobal.window;
  */
 public final class Ouia {
 
+    private static Boolean supported;
+
     /** Sets {@code data-ouia-component-type} and {@code data-ouia-safe="true"} on the given HTML element. */
     public static void ouia(HTMLElement element, String componentType) {
-        if (element != null && componentType != null && isSupported()) {
-            element.dataset.set("ouiaComponentType", componentType);
-            element.dataset.set("ouiaSafe", "true");
-        }
+        ouia(element, null, componentType);
     }
 
-    /** Sets {@code data-ouia-component-id}, {@code data-ouia-component-type}, and {@code data-ouia-safe="true"} on the given HTML element. */
+    /**
+     * Sets {@code data-ouia-component-id}, {@code data-ouia-component-type}, and {@code data-ouia-safe="true"} on the given
+     * HTML element.
+     */
     public static void ouia(HTMLElement element, String componentId, String componentType) {
         if (element != null && componentType != null && isSupported()) {
-            if (componentId != null) {
-                element.dataset.set("ouiaComponentId", componentId);
-            }
-            element.dataset.set("ouiaComponentType", componentType);
-            element.dataset.set("ouiaSafe", "true");
+            writeOuia(element.dataset, componentId, componentType);
         }
     }
 
     /** Sets {@code data-ouia-component-type} and {@code data-ouia-safe="true"} on the given SVG element. */
     public static void ouia(SVGElement element, String componentType) {
-        if (element != null && componentType != null && isSupported()) {
-            svgDataset(element).set("ouiaComponentType", componentType);
-            svgDataset(element).set("ouiaSafe", "true");
-        }
+        ouia(element, null, componentType);
     }
 
-    /** Sets {@code data-ouia-component-id}, {@code data-ouia-component-type}, and {@code data-ouia-safe="true"} on the given SVG element. */
+    /**
+     * Sets {@code data-ouia-component-id}, {@code data-ouia-component-type}, and {@code data-ouia-safe="true"} on the given
+     * SVG element.
+     */
     public static void ouia(SVGElement element, String componentId, String componentType) {
         if (element != null && componentType != null && isSupported()) {
-            if (componentId != null) {
-                svgDataset(element).set("ouiaComponentId", componentId);
-            }
-            svgDataset(element).set("ouiaComponentType", componentType);
-            svgDataset(element).set("ouiaSafe", "true");
+            writeOuia(svgDataset(element), componentId, componentType);
         }
     }
 
@@ -110,12 +104,21 @@ public final class Ouia {
         }
     }
 
+    private static void writeOuia(JsPropertyMap<String> dataset, String componentId, String componentType) {
+        if (componentId != null) {
+            dataset.set("ouiaComponentId", componentId);
+        }
+        dataset.set("ouiaComponentType", componentType);
+        dataset.set("ouiaSafe", "true");
+    }
+
+    // The local storage is read only once: Changing the 'ouia' flag requires a reload of the page.
     private static boolean isSupported() {
-        Storage localStorage = WebStorageWindow.of(window).localStorage;
-        if (localStorage != null) {
-            return Boolean.parseBoolean(localStorage.getItem("ouia"));
+        if (supported == null) {
+            Storage localStorage = WebStorageWindow.of(window).localStorage;
+            supported = localStorage != null && Boolean.parseBoolean(localStorage.getItem("ouia"));
         }
-        return false;
+        return supported;
     }
 
     // Elemental2 only declares 'dataset' on HTMLElement, but the DOM spec defines it on Element.
@@ -0,0 +1,106 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A task scheduled by the {@link TaskScheduler}. Use {@link #cancel()} to cancel a task which has not been executed yet.
+ * <p>
+ * If the task throws an exception, the exception is logged, and the task is stopped. Use {@link #onFailure(Consumer)} to get
+ * notified about the failure.
+ */
+public class ScheduledTask {
+
+    private final Runnable runnable;
+    private final List<Consumer<Throwable>> failureHandler;
+    boolean cancelled;
+    boolean done;
+    Throwable failure;
+
+    ScheduledTask(Runnable runnable) {
+        this.runnable = runnable;
+        this.failureHandler = new ArrayList<>();
+        this.cancelled = false;
+        this.done = false;
+    }
+
+    // ------------------------------------------------------ events
+
+    /**
+     * Registers a handler which is called if the task fails with an exception. If the task has already failed, the handler is
+     * called immediately.
+     */
+    public ScheduledTask onFailure(Consumer<Throwable> failureHandler) {
+        this.failureHandler.add(failureHandler);
+        if (failure != null) {
+            failureHandler.accept(failure);
+        }
+        return this;
+    }
+
+    // ------------------------------------------------------ api
+
+    /** Cancels this task. If the task is a {@link ChunkedTask}, the remaining items are not processed. */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean cancelled() {
+        return cancelled;
+    }
+
+    /** Returns {@code true} if the task has been executed completely. */
+    public boolean done() {
+        return done;
+    }
+
+    /** Returns {@code true} if the task has been stopped because of an exception. */
+    public boolean failed() {
+        return failure != null;
+    }
+
+    // ------------------------------------------------------ internal
+
+    /**
+     * Executes the task.
+     *
+     * @param deadline the timestamp (as returned by {@code performance.now()}) until which the task may run
+     * @return {@code true} if the task is done, {@code false} if the task needs to be executed again
+     */
+    boolean execute(double deadline) {
+        try {
+            runnable.run();
+            done = true;
+        } catch (Throwable t) {
+            TaskScheduler.environment().error("Error running scheduled task: %s", t);
+            fail(t);
+        }
+        return true;
+    }
+
+    /** Returns {@code true} if the task has been cancelled or has failed. */
+    boolean stopped() {
+        return cancelled || failure != null;
+    }
+
+    void fail(Throwable throwable) {
+        failure = throwable;
+        failureHandler.forEach(fh -> fh.accept(throwable));
+    }
+}
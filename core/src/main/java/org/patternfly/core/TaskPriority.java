@@ -0,0 +1,34 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.core;
+
+/**
+ * Defines the priority lanes of the {@link TaskScheduler}.
+ */
+public enum TaskPriority {
+
+    /** The task runs synchronously. Chunked tasks process all items at once. */
+    immediate,
+
+    /** The task runs in the next animation frame. Chunked tasks process items until the frame budget is used up. */
+    frame,
+
+    /**
+     * The task runs when the browser is idle (using {@code requestIdleCallback()} if available). Chunked tasks process items
+     * until the idle period is used up.
+     */
+    idle
+}
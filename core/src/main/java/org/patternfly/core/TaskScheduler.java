@@ -0,0 +1,239 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.core;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+import org.jboss.elemento.logger.Logger;
+import org.patternfly.core.IdleCallbacks.IdleRequestOptions;
+
+import jsinterop.base.Js;
+
+import static elemental2.dom.DomGlobal.performance;
+import static elemental2.dom.DomGlobal.requestAnimationFrame;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static elemental2.dom.DomGlobal.window;
+
+/**
+ * Central scheduler for deferred and idle-time work. Components use the scheduler to move non-urgent work out of their
+ * constructors and {@code attach()} methods, so that rendering a big view yields to user input.
+ * <p>
+ * The scheduler provides three {@linkplain TaskPriority priority lanes}:
+ * <ul>
+ *     <li>{@link TaskPriority#immediate}: The task runs synchronously.</li>
+ *     <li>{@link TaskPriority#frame}: All tasks scheduled for the next frame run in one {@code requestAnimationFrame()}
+ *     callback.</li>
+ *     <li>{@link TaskPriority#idle}: The tasks run in {@code requestIdleCallback()} callbacks as long as the browser reports
+ *     idle time. If {@code requestIdleCallback()} is not available, the scheduler falls back to {@code setTimeout()} with a
+ *     fixed budget.</li>
+ * </ul>
+ * Large batches should be processed using {@linkplain #chunked(Iterable, Consumer) chunked tasks}, which are split into
+ * time-boxed slices.
+ * {@snippet :
+ * TaskScheduler.nextFrame(() -> element.classList.add("pf-m-ready"));
+ * TaskScheduler.idle(() -> buildTooltip());
+ * }
+ */
+public final class TaskScheduler {
+
+    /** Time budget in milliseconds for chunked tasks in the frame lane. */
+    static final double FRAME_BUDGET = 8;
+
+    /** Time budget in milliseconds for the idle lane if {@code requestIdleCallback()} is not available. */
+    static final double IDLE_FALLBACK_BUDGET = 8;
+
+    /** Maximum time in milliseconds the idle lane waits before tasks are forced to run. */
+    static final int IDLE_TIMEOUT = 1000;
+
+    private static final Deque<ScheduledTask> frameQueue = new ArrayDeque<>();
+    private static final Deque<ScheduledTask> idleQueue = new ArrayDeque<>();
+    private static boolean frameRequested = false;
+    private static boolean idleRequested = false;
+    private static Environment environment;
+
+    // ------------------------------------------------------ api
+
+    /** Runs the given task in the specified priority lane. */
+    public static ScheduledTask schedule(TaskPriority priority, Runnable task) {
+        return enqueue(priority, new ScheduledTask(task));
+    }
+
+    /** Same as {@code schedule(TaskPriority.immediate, task)} */
+    public static ScheduledTask immediate(Runnable task) {
+        return schedule(TaskPriority.immediate, task);
+    }
+
+    /** Same as {@code schedule(TaskPriority.frame, task)} */
+    public static ScheduledTask nextFrame(Runnable task) {
+        return schedule(TaskPriority.frame, task);
+    }
+
+    /** Same as {@code schedule(TaskPriority.idle, task)} */
+    public static ScheduledTask idle(Runnable task) {
+        return schedule(TaskPriority.idle, task);
+    }
+
+    /**
+     * Creates a chunked task which passes the given items to the consumer in time-boxed slices. The task has to be started
+     * using {@link ChunkedTask#start()}.
+     */
+    public static <T> ChunkedTask<T> chunked(Iterable<T> items, Consumer<T> consumer) {
+        return new ChunkedTask<>(items, consumer);
+    }
+
+    // ------------------------------------------------------ internal
+
+    static <T extends ScheduledTask> T enqueue(TaskPriority priority, T task) {
+        switch (priority) {
+            case immediate:
+                task.execute(Double.POSITIVE_INFINITY);
+                break;
+            case frame:
+                frameQueue.add(task);
+                requestFrame();
+                break;
+            case idle:
+                idleQueue.add(task);
+                requestIdle();
+                break;
+        }
+        return task;
+    }
+
+    static Environment environment() {
+        if (environment == null) {
+            environment = new BrowserEnvironment();
+        }
+        return environment;
+    }
+
+    /** Replaces the environment. Used by unit tests which run outside the browser. */
+    static void environment(Environment environment) {
+        TaskScheduler.environment = environment;
+    }
+
+    private static void requestFrame() {
+        if (!frameRequested) {
+            frameRequested = true;
+            environment().requestFrame(TaskScheduler::flushFrame);
+        }
+    }
+
+    private static void flushFrame() {
+        frameRequested = false;
+        double deadline = environment().now() + FRAME_BUDGET;
+        // tasks scheduled while flushing run in the next frame
+        int size = frameQueue.size();
+        for (int i = 0; i < size; i++) {
+            ScheduledTask task = frameQueue.poll();
+            if (task != null && !task.cancelled && !task.execute(deadline)) {
+                frameQueue.add(task);
+            }
+        }
+        if (!frameQueue.isEmpty()) {
+            requestFrame();
+        }
+    }
+
+    private static void requestIdle() {
+        if (!idleRequested) {
+            idleRequested = true;
+            environment().requestIdle(TaskScheduler::flushIdle);
+        }
+    }
+
+    private static void flushIdle(double deadline) {
+        idleRequested = false;
+        boolean first = true;
+        while (!idleQueue.isEmpty() && (first || environment().now() < deadline)) {
+            first = false;
+            ScheduledTask task = idleQueue.poll();
+            if (!task.cancelled && !task.execute(deadline)) {
+                // continue with this task in the next idle period
+                idleQueue.addFirst(task);
+                break;
+            }
+        }
+        if (!idleQueue.isEmpty()) {
+            requestIdle();
+        }
+    }
+
+    private TaskScheduler() {
+    }
+
+    // ------------------------------------------------------ environment
+
+    /** The browser APIs used by the scheduler and its tasks. */
+    interface Environment {
+
+        /** Returns the current time in milliseconds. */
+        double now();
+
+        /** Calls the callback before the next repaint. */
+        void requestFrame(Runnable callback);
+
+        /** Calls the callback in the next idle period with the deadline of the idle period. */
+        void requestIdle(DoubleConsumer callback);
+
+        void error(String message, Object... params);
+    }
+
+    private static class BrowserEnvironment implements Environment {
+
+        private static final Logger logger = Logger.getLogger(TaskScheduler.class.getName());
+        private Boolean idleCallbackSupported;
+
+        @Override
+        public double now() {
+            return performance.now();
+        }
+
+        @Override
+        public void requestFrame(Runnable callback) {
+            requestAnimationFrame(__ -> callback.run());
+        }
+
+        @Override
+        public void requestIdle(DoubleConsumer callback) {
+            if (idleCallbackSupported()) {
+                IdleRequestOptions options = new IdleRequestOptions();
+                options.timeout = IDLE_TIMEOUT;
+                IdleCallbacks.requestIdleCallback(deadline -> {
+                    double budget = deadline.didTimeout ? IDLE_FALLBACK_BUDGET : deadline.timeRemaining();
+                    callback.accept(performance.now() + budget);
+                }, options);
+            } else {
+                setTimeout(__ -> callback.accept(performance.now() + IDLE_FALLBACK_BUDGET), 1);
+            }
+        }
+
+        @Override
+        public void error(String message, Object... params) {
+            logger.error(message, params);
+        }
+
+        private boolean idleCallbackSupported() {
+            if (idleCallbackSupported == null) {
+                idleCallbackSupported = Js.asPropertyMap(window).has("requestIdleCallback");
+            }
+            return idleCallbackSupported;
+        }
+    }
+}
@@ -36,6 +36,8 @@
  *     <li>{@link org.patternfly.core.ComponentContext} - Interface for storing and retrieving arbitrary values within a component</li>
  *     <li>{@link org.patternfly.core.ObservableValue} - A value wrapper that notifies subscribers when changed, enabling reactive patterns</li>
  *     <li>{@link org.patternfly.core.AsyncStatus} - Enumeration representing asynchronous operation states</li>
+ *     <li>{@link org.patternfly.core.TaskScheduler} - Scheduler for deferred and idle-time work with priority lanes and
+ *     time-sliced {@linkplain org.patternfly.core.ChunkedTask chunked tasks}</li>
  * </ul>
  *
  * <h3>Utilities</h3>
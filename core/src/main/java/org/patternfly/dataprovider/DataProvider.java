@@ -40,6 +40,9 @@ import static java.util.stream.Collectors.toMap;
 /**
  * Holds items and state for components like data lists and tables. Modifications of items and state are reflected in the bound
  * displays.
+ * <p>
+ * Filtering and sorting produce a cached list of the filtered items. Changing the page or the page size only slices this list
+ * and doesn't run the filter and sort pipeline again. Only the items of the current page are passed to the displays.
  */
 public class DataProvider<T> {
 
@@ -51,6 +54,7 @@ public class DataProvider<T> {
     private final List<Display<T>> displays;
     private final List<SelectHandler<T>> selectHandler;
     private SortInfo<T> sortInfo;
+    private List<T> filteredList;
     private Map<String, T> filteredItems;
     private Map<String, T> visibleItems;
 
@@ -64,6 +68,7 @@ public class DataProvider<T> {
         this.selectionInfo = new SelectionInfo<>(identifier);
         this.sortInfo = new SortInfo<>();
         this.allItems = new LinkedHashMap<>();
+        this.filteredList = emptyList();
         this.filteredItems = new LinkedHashMap<>();
         this.visibleItems = new LinkedHashMap<>();
         this.filters = new HashMap<>();
@@ -233,7 +238,8 @@ public class DataProvider<T> {
         int oldPageSize = pageInfo.getPageSize();
         pageInfo.setPageSize(pageSize);
         if (oldPageSize != pageInfo.getPageSize()) {
-            internalUpdate();
+            pageInfo.setTotal(filteredList.size()); // adjust the current page to the new number of pages
+            updatePage();
         }
     }
 
@@ -257,13 +263,17 @@ public class DataProvider<T> {
         int oldPage = pageInfo.getPage();
         pageInfo.setPage(page);
         if (oldPage != pageInfo.getPage()) {
-            internalUpdate();
+            updatePage();
         }
     }
 
+    public PageInfo getPageInfo() {
+        return pageInfo;
+    }
+
     private List<T> paged(List<T> values) {
         List<List<T>> pages = partition(values, pageInfo.getPageSize());
-        return pages.get(min(pageInfo.getPage(), pages.size() - 1));
+        return pages.isEmpty() ? emptyList() : pages.get(min(pageInfo.getPage(), pages.size() - 1));
     }
 
     private List<List<T>> partition(List<T> list, int size) {
@@ -292,7 +302,7 @@ public class DataProvider<T> {
     }
 
     private void internalUpdate() {
-        // set items
+        // filter and sort
         Stream<T> stream = allItems.values().stream();
         if (!filters.isEmpty()) {
             Predicate<T> predicate = null;
@@ -308,15 +318,19 @@ public class DataProvider<T> {
         if (sortInfo.getComparator() != null) {
             stream = stream.sorted(sortInfo.getComparator());
         }
-        List<T> values = stream.collect(toList());
-        if (values.size() > pageInfo.getPageSize()) {
-            filteredItems = values.stream().collect(toLinkedMap(identifier, identity()));
-            values = paged(values);
-            visibleItems = values.stream().collect(toLinkedMap(identifier, identity()));
+        filteredList = stream.collect(toList());
+        filteredItems = filteredList.stream().collect(toLinkedMap(identifier, identity()));
+        pageInfo.setTotal(filteredList.size()); // total first!
+        updatePage();
+    }
+
+    // Slices the cached filtered list. Doesn't run the filter and sort pipeline.
+    private void updatePage() {
+        if (filteredList.size() > pageInfo.getPageSize()) {
+            visibleItems = paged(filteredList).stream().collect(toLinkedMap(identifier, identity()));
         } else {
-            filteredItems = visibleItems = values.stream().collect(toLinkedMap(identifier, identity()));
+            visibleItems = filteredItems;
         }
-        pageInfo.setTotal(filteredItems.size()); // total first!
         pageInfo.setVisible(visibleItems.size());
 
         // notify displays
@@ -77,7 +77,8 @@
  *
  * <h3>Pagination</h3>
  * <p>Automatic pagination with configurable page size. The {@link org.patternfly.dataprovider.PageInfo} class
- * tracks current page, total pages, and item counts.
+ * tracks current page, total pages, and item counts. Changing the page or the page size slices the cached list of filtered
+ * and sorted items and doesn't run the filter and sort pipeline again.
  *
  * <h3>Selection</h3>
  * <p>Support for single and multi-selection with selection events. The {@link org.patternfly.dataprovider.SelectionInfo}
@@ -0,0 +1,32 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.handler;
+
+/**
+ * Functional interface for components which are paused when they are hidden and resumed when they are shown again. Use it
+ * to stop and restart background work like polling or animations.
+ *
+ * @param <C> The type of the component.
+ */
+@FunctionalInterface
+public interface PauseHandler<C> {
+
+    /**
+     * @param component the component
+     * @param paused    {@code true} if the component has been hidden, {@code false} if it's visible again
+     */
+    void onPause(C component, boolean paused);
+}
@@ -0,0 +1,32 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.handler;
+
+/**
+ * Functional interface for handling the progress of a long-running operation in a component.
+ *
+ * @param <C> The type of the component.
+ */
+@FunctionalInterface
+public interface ProgressHandler<C> {
+
+    /**
+     * @param component the component
+     * @param processed the number of processed items
+     * @param total     the total number of items or {@code -1} if the total number is unknown
+     */
+    void onProgress(C component, int processed, int total);
+}
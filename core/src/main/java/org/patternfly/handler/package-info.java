@@ -29,8 +29,12 @@
  *     <li>{@link org.patternfly.handler.MultiSelectHandler} - Handler for multi-selection events with list of selected items</li>
  *     <li>{@link org.patternfly.handler.ToggleHandler} - Handler for expand/collapse toggle events</li>
  *     <li>{@link org.patternfly.handler.CloseHandler} - Handler for close/dismiss events</li>
+ *     <li>{@link org.patternfly.handler.BreakpointHandler} - Handler for breakpoint changes</li>
  *     <li>{@link org.patternfly.handler.ResizeHandler} - Handler for resize events with dimensions</li>
+ *     <li>{@link org.patternfly.handler.SizeHandler} - Handler for size changes of an element</li>
  *     <li>{@link org.patternfly.handler.OverlayHandler} - Handler for overlay visibility changes</li>
+ *     <li>{@link org.patternfly.handler.ProgressHandler} - Handler for progress events with processed and total counts</li>
+ *     <li>{@link org.patternfly.handler.PauseHandler} - Handler for pausing and resuming hidden components</li>
  * </ul>
  *
  * <h2>Usage Examples</h2>
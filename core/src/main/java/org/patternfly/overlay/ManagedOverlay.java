@@ -0,0 +1,58 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.overlay;
+
+import elemental2.dom.Event;
+import elemental2.dom.KeyboardEvent;
+import elemental2.dom.Node;
+
+/**
+ * An overlay which is registered with the {@link OverlayManager} while it is open. The overlay manager owns the document
+ * level listeners and forwards the events to the open overlays.
+ */
+public interface ManagedOverlay {
+
+    /**
+     * Returns {@code true} if the given node is part of this overlay (e.g., the overlay or the trigger element). Clicks on
+     * such nodes are not treated as outside clicks, neither for this overlay nor for the overlays this overlay is
+     * {@linkplain #trigger() nested} in.
+     */
+    boolean contains(Node node);
+
+    /**
+     * Returns the element which opens this overlay or {@code null} if there's no such element. If the trigger element is
+     * {@linkplain #contains(Node) part} of another overlay, this overlay is nested in the other overlay.
+     */
+    default Node trigger() {
+        return null;
+    }
+
+    /** Called if the user clicked outside this overlay and outside all overlays which are nested in this overlay. */
+    default void onOutsideClick(Event event) {
+    }
+
+    /**
+     * Called for keydown events. The event is passed to the open overlays from top to bottom until an overlay returns
+     * {@code true}.
+     */
+    default boolean onKeydown(KeyboardEvent event) {
+        return false;
+    }
+
+    /** Called at most once per animation frame after the document was scrolled or the window was resized. */
+    default void onReposition() {
+    }
+}
@@ -29,9 +29,10 @@ import org.patternfly.style.Classes;
 import org.patternfly.style.Placement;
 
 import elemental2.dom.DOMRect;
-import elemental2.dom.Element;
 import elemental2.dom.Event;
 import elemental2.dom.HTMLElement;
+import elemental2.dom.KeyboardEvent;
+import elemental2.dom.Node;
 
 import static elemental2.dom.DomGlobal.clearTimeout;
 import static elemental2.dom.DomGlobal.document;
@@ -44,7 +45,7 @@ import static org.jboss.elemento.EventType.focusin;
 import static org.jboss.elemento.EventType.focusout;
 import static org.jboss.elemento.EventType.mouseenter;
 import static org.jboss.elemento.EventType.mouseleave;
-import static org.jboss.elemento.EventType.scroll;
+import static org.jboss.elemento.Key.Escape;
 import static org.patternfly.overlay.TriggerMode.manual;
 import static org.patternfly.style.Classes.modifier;
 import static org.patternfly.style.Placement.bottom;
@@ -59,6 +60,10 @@ import static org.patternfly.style.TypedModifier.swap;
  * <p>
  * Components such as Tooltip and Popover delegate all overlay behavior to this class, keeping their own code focused on
  * component-specific concerns (DOM structure, ARIA, content).
+ * <p>
+ * While the overlay is visible, it is registered with the {@link OverlayManager}, which handles outside clicks, the
+ * <kbd>Escape</kbd> key and repositioning on scroll and resize. A hidden overlay doesn't register any document or window
+ * listeners.
  *
  * @see <a href="https://developer.mozilla.org/en-US/docs/Web/API/Popover_API">Popover API</a>
  * @see <a href="https://developer.mozilla.org/en-US/docs/Web/CSS/Guides/Anchor_positioning">CSS Anchor Positioning</a>
@@ -78,6 +83,7 @@ public class Overlay {
     private final String id;
     private final HTMLElement overlayElement;
     private final List<OverlayHandler> toggleHandlers;
+    private final ManagedOverlay managed;
 
     // anchor positioning
     private Supplier<HTMLElement> triggerSupplier;
@@ -102,8 +108,6 @@ public class Overlay {
     // managed handler registrations
     private HandlerRegistration triggerHandlers;
     private HandlerRegistration overlayHandlers;
-    private HandlerRegistration outsideClickHandler;
-    private HandlerRegistration scrollHandler;
 
     Overlay(HTMLElement overlayElement, Placement placement) {
         this.id = Id.unique("overlay");
@@ -118,6 +122,40 @@ public class Overlay {
         this.exitDelay = 0;
         this.showTimeout = 0;
         this.hideTimeout = 0;
+        this.managed = new ManagedOverlay() {
+            @Override
+            public boolean contains(Node node) {
+                return overlayElement.contains(node) || (trigger != null && trigger.contains(node));
+            }
+
+            @Override
+            public Node trigger() {
+                return trigger;
+            }
+
+            @Override
+            public void onOutsideClick(Event event) {
+                if (triggerMode == TriggerMode.click) {
+                    hide(event);
+                }
+            }
+
+            @Override
+            public boolean onKeydown(KeyboardEvent event) {
+                if (triggerMode != manual && Escape.match(event)) {
+                    hide(event);
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public void onReposition() {
+                if (!cssPositioning) {
+                    recalculatePlacement();
+                }
+            }
+        };
         placement(placement);
     }
 
@@ -228,18 +266,10 @@ public class Overlay {
         if (visible) {
             internalHide(new Event(""));
         }
-        if (scrollHandler != null) {
-            scrollHandler.removeHandler();
-            scrollHandler = null;
-        }
         if (overlayHandlers != null) {
             overlayHandlers.removeHandler();
             overlayHandlers = null;
         }
-        if (outsideClickHandler != null) {
-            outsideClickHandler.removeHandler();
-            outsideClickHandler = null;
-        }
         if (triggerHandlers != null) {
             triggerHandlers.removeHandler();
             triggerHandlers = null;
@@ -371,15 +401,6 @@ public class Overlay {
         }
     }
 
-    private void onOutsideClick(Event event) {
-        if (visible && trigger != null) {
-            Element target = (Element) event.target;
-            if (!overlayElement.contains(target) && !trigger.contains(target)) {
-                hide(event);
-            }
-        }
-    }
-
     // ------------------------------------------------------ internal show / hide
 
     private void scheduleShow() {
@@ -406,12 +427,9 @@ public class Overlay {
             overlayElement.showPopover();
             recalculatePlacement();
             overlayElement.style.removeProperty("visibility");
-            scrollHandler = bind(document, scroll, true, e -> recalculatePlacement());
         }
         visible = true;
-        if (triggerMode == TriggerMode.click) {
-            outsideClickHandler = bind(document, click.name, this::onOutsideClick);
-        }
+        OverlayManager.open(managed);
         for (OverlayHandler handler : toggleHandlers) {
             handler.handle(event, true);
         }
@@ -420,14 +438,7 @@ public class Overlay {
     private void internalHide(Event event) {
         overlayElement.hidePopover();
         visible = false;
-        if (scrollHandler != null) {
-            scrollHandler.removeHandler();
-            scrollHandler = null;
-        }
-        if (outsideClickHandler != null) {
-            outsideClickHandler.removeHandler();
-            outsideClickHandler = null;
-        }
+        OverlayManager.close(managed);
         for (OverlayHandler handler : toggleHandlers) {
             handler.handle(event, false);
         }
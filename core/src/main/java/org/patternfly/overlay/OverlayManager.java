@@ -0,0 +1,151 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.overlay;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.gwtproject.event.shared.HandlerRegistration;
+
+import elemental2.dom.Event;
+import elemental2.dom.KeyboardEvent;
+import elemental2.dom.Node;
+
+import static elemental2.dom.DomGlobal.cancelAnimationFrame;
+import static elemental2.dom.DomGlobal.document;
+import static elemental2.dom.DomGlobal.requestAnimationFrame;
+import static elemental2.dom.DomGlobal.window;
+import static org.gwtproject.event.shared.HandlerRegistrations.compose;
+import static org.jboss.elemento.EventType.bind;
+import static org.jboss.elemento.EventType.click;
+import static org.jboss.elemento.EventType.keydown;
+import static org.jboss.elemento.EventType.resize;
+import static org.jboss.elemento.EventType.scroll;
+
+/**
+ * Tracks the open overlays as a stack and owns one set of document listeners (click, keydown, scroll and resize) for all of
+ * them. The listeners are registered when the first overlay opens and removed when the last overlay closes. Closed overlays
+ * don't register any global listeners.
+ * <p>
+ * Events are dispatched from the topmost overlay downwards:
+ * <ul>
+ *     <li>click: every overlay gets {@link ManagedOverlay#onOutsideClick(Event)} unless it
+ *     {@linkplain ManagedOverlay#contains(Node) contains} the event target, or an overlay which contains the event target
+ *     is {@linkplain ManagedOverlay#trigger() nested} in it. Clicks inside a nested overlay don't close its parent
+ *     overlays, but close independent overlays below it.</li>
+ *     <li>keydown: the event is passed to the overlays until one of them handles it.</li>
+ *     <li>scroll and resize: all overlays are {@linkplain ManagedOverlay#onReposition() repositioned} once per animation
+ *     frame.</li>
+ * </ul>
+ */
+public final class OverlayManager {
+
+    private static final List<ManagedOverlay> stack = new ArrayList<>();
+    private static HandlerRegistration handlers;
+    private static double repositionHandle;
+
+    /** Pushes the overlay on top of the stack. If the overlay is already open, it is moved to the top. */
+    public static void open(ManagedOverlay overlay) {
+        if (overlay != null) {
+            stack.remove(overlay);
+            stack.add(overlay);
+            if (handlers == null) {
+                handlers = compose(
+                        bind(document, click, true, OverlayManager::onClick),
+                        bind(document, keydown, OverlayManager::onKeydown),
+                        bind(document, scroll, true, e -> scheduleReposition()),
+                        bind(window, resize.name, e -> scheduleReposition()));
+            }
+        }
+    }
+
+    /** Removes the overlay from the stack. */
+    public static void close(ManagedOverlay overlay) {
+        if (overlay != null && stack.remove(overlay) && stack.isEmpty()) {
+            if (handlers != null) {
+                handlers.removeHandler();
+                handlers = null;
+            }
+            if (repositionHandle != 0) {
+                cancelAnimationFrame(repositionHandle);
+                repositionHandle = 0;
+            }
+        }
+    }
+
+    public static boolean isOpen(ManagedOverlay overlay) {
+        return stack.contains(overlay);
+    }
+
+    /** Returns the topmost open overlay or {@code null} if no overlay is open. */
+    public static ManagedOverlay topmost() {
+        return stack.isEmpty() ? null : stack.get(stack.size() - 1);
+    }
+
+    // ------------------------------------------------------ internal
+
+    private OverlayManager() {
+    }
+
+    private static void onClick(Event event) {
+        Node target = (Node) event.target;
+        // iterate over a copy: overlays close themselves while the event is dispatched
+        List<ManagedOverlay> overlays = new ArrayList<>(stack);
+        List<ManagedOverlay> inside = new ArrayList<>(); // the clicked overlays and their parents
+        for (int i = overlays.size() - 1; i >= 0; i--) {
+            ManagedOverlay overlay = overlays.get(i);
+            if (stack.contains(overlay)) {
+                if (overlay.contains(target) || isParent(overlay, inside)) {
+                    inside.add(overlay);
+                } else {
+                    overlay.onOutsideClick(event);
+                }
+            }
+        }
+    }
+
+    // Returns true if one of the given overlays is nested in the overlay
+    private static boolean isParent(ManagedOverlay overlay, List<ManagedOverlay> overlays) {
+        for (ManagedOverlay o : overlays) {
+            Node trigger = o.trigger();
+            if (trigger != null && overlay.contains(trigger)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void onKeydown(KeyboardEvent event) {
+        List<ManagedOverlay> overlays = new ArrayList<>(stack);
+        for (int i = overlays.size() - 1; i >= 0; i--) {
+            ManagedOverlay overlay = overlays.get(i);
+            if (stack.contains(overlay) && overlay.onKeydown(event)) {
+                break;
+            }
+        }
+    }
+
+    private static void scheduleReposition() {
+        if (repositionHandle == 0) {
+            repositionHandle = requestAnimationFrame(timestamp -> {
+                repositionHandle = 0;
+                for (ManagedOverlay overlay : new ArrayList<>(stack)) {
+                    overlay.onReposition();
+                }
+            });
+        }
+    }
+}
@@ -27,6 +27,8 @@
  * <ul>
  *     <li>{@link org.patternfly.overlay.Overlay} - Centralized controller that combines anchor positioning, event
  *         listener registration, entry/exit delay timers, and show/hide lifecycle management</li>
+ *     <li>{@link org.patternfly.overlay.OverlayManager} - Tracks the open overlays as a stack and owns one set of
+ *         document listeners for outside clicks, the escape key, scrolling and resizing</li>
  *     <li>{@link org.patternfly.overlay.TriggerMode} - Defines how an overlay responds to user interaction: hover,
  *         click, or manual control</li>
  *     <li>{@link org.patternfly.overlay.CssPositioning} - Detects browser support for CSS Anchor Positioning to
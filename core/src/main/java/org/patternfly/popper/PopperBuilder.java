@@ -24,16 +24,19 @@ import java.util.function.Predicate;
 import org.gwtproject.event.shared.HandlerRegistration;
 import org.jboss.elemento.EventType;
 import org.jboss.elemento.logger.Logger;
+import org.patternfly.overlay.ManagedOverlay;
 
 import elemental2.core.JsArray;
 import elemental2.dom.CSSProperties;
 import elemental2.dom.Event;
 import elemental2.dom.HTMLElement;
+import elemental2.dom.KeyboardEvent;
 import elemental2.dom.Node;
 import jsinterop.base.Any;
 import jsinterop.base.Js;
 
-import static elemental2.dom.DomGlobal.document;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static jsinterop.base.Js.isTripleEqual;
 import static jsinterop.base.Js.undefined;
 import static org.jboss.elemento.Elements.failSafeRemoveFromParent;
@@ -55,6 +58,16 @@ public class PopperBuilder {
     private final JsArray<Modifier> modifiers;
     private Predicate<Event> stayOpen;
     private final List<HandlerRegistration> handlerRegistrations;
+    private final ManagedOverlay managedOverlay;
+    private Consumer<KeyboardEvent> keyHandler;
+    // outside clicks and keydown events are handled by the overlay manager while the popper is visible
+    private HTMLElement overlayTrigger;
+    private Consumer<Event> overlayHide;
+    private boolean clickActions;
+    private boolean escape;
+    private boolean stayOpenAction;
+    // the last click which was handled as outside click: prevents the trigger from showing the popper again
+    private Event outsideClick;
     private int animationDuration;
     private int entryDelay;
     private int exitDelay;
@@ -66,6 +79,39 @@ public class PopperBuilder {
         this.popperElement = popperElement;
         this.modifiers = new JsArray<>();
         this.handlerRegistrations = new ArrayList<>();
+        this.managedOverlay = new ManagedOverlay() {
+            @Override
+            public boolean contains(Node node) {
+                return stayOpenAction && popperElement.contains(node);
+            }
+
+            @Override
+            public Node trigger() {
+                return overlayTrigger;
+            }
+
+            @Override
+            public void onOutsideClick(Event event) {
+                if (clickActions) {
+                    outsideClick = event;
+                    if (stayOpen == null || !stayOpen.test(event)) {
+                        overlayHide.accept(event);
+                    }
+                }
+            }
+
+            @Override
+            public boolean onKeydown(KeyboardEvent event) {
+                if (keyHandler != null) {
+                    keyHandler.accept(event);
+                }
+                if (escape && Escape.match(event)) {
+                    overlayHide.accept(event);
+                    return true;
+                }
+                return false;
+            }
+        };
         this.animationDuration = Popper.UNDEFINED;
         this.entryDelay = Popper.UNDEFINED;
         this.exitDelay = Popper.UNDEFINED;
@@ -125,41 +171,24 @@ public class PopperBuilder {
             handlerRegistrations.add(bind(triggerElement, EventType.focus, e -> show.accept(e)));
             handlerRegistrations.add(bind(triggerElement, EventType.blur, e -> hide.accept(e)));
         }
-        if (triggerActions.contains(TriggerAction.click) || triggerActions.contains(TriggerAction.stayOpen)) {
-            handlerRegistrations.add(bind(document, EventType.click, true, e -> {
-                if (isVisible(popperElement)) {
-                    if (triggerActions.contains(TriggerAction.stayOpen)) {
-                        boolean clickedInside = popperElement.contains((Node) e.target);
-                        if (stayOpen != null) {
-                            if (!clickedInside && !stayOpen.test(e)) {
-                                hide.accept(e);
-                            }
-                        } else {
-                            if (!clickedInside) {
-                                hide.accept(e);
-                            }
-                        }
-                    } else if (triggerActions.contains(TriggerAction.click)) {
-                        if (stayOpen != null) {
-                            if (!stayOpen.test(e)) {
-                                hide.accept(e);
-                            }
-                        } else {
-                            hide.accept(e);
-                        }
-                    }
-                } else if (e.target == triggerElement || triggerElement.contains(((Node) e.target))) {
+        clickActions = triggerActions.contains(TriggerAction.click) || triggerActions.contains(TriggerAction.stayOpen);
+        escape = !triggerActions.contains(TriggerAction.manual);
+        stayOpenAction = triggerActions.contains(TriggerAction.stayOpen);
+        overlayTrigger = triggerElement;
+        overlayHide = hide;
+        if (clickActions) {
+            handlerRegistrations.add(bind(triggerElement, EventType.click, e -> {
+                if (e != outsideClick && !isVisible(popperElement)) {
                     show.accept(e);
                 }
             }));
         }
-        if (!triggerActions.contains(TriggerAction.manual)) {
-            handlerRegistrations.add(bind(document, EventType.keydown, true, e -> {
-                if (isVisible(popperElement) && Escape.match(e)) {
-                    hide.accept(e);
-                }
-            }));
-        }
+        return this;
+    }
+
+    /** Registers a key handler which is called for keydown events while the popper is visible. */
+    public PopperBuilder onKeydown(Consumer<KeyboardEvent> keyHandler) {
+        this.keyHandler = keyHandler;
         return this;
     }
 
@@ -193,7 +222,10 @@ public class PopperBuilder {
             options.modifiers = modifiers;
             PopperJs popper = PopperJs.createPopper(triggerElement, popperElement, options);
             logger.debug("Create popper %o for trigger element %o", popperElement, triggerElement);
-            return new PopperImpl(popper, handlerRegistrations, animationDuration, entryDelay, exitDelay);
+            List<ManagedOverlay> managedOverlays = clickActions || escape || keyHandler != null
+                    ? singletonList(managedOverlay)
+                    : emptyList();
+            return new PopperImpl(popper, handlerRegistrations, managedOverlays, animationDuration, entryDelay, exitDelay);
         }
     }
 }
@@ -20,6 +20,8 @@ import java.util.List;
 import org.gwtproject.event.shared.HandlerRegistration;
 import org.jboss.elemento.Callback;
 import org.jboss.elemento.Elements;
+import org.patternfly.overlay.ManagedOverlay;
+import org.patternfly.overlay.OverlayManager;
 
 import elemental2.core.JsArray;
 import elemental2.dom.CSSProperties.OpacityUnionType;
@@ -36,15 +38,17 @@ public class PopperImpl implements Popper {
 
     private final PopperJs popper;
     private final List<HandlerRegistration> handlerRegistrations;
+    private final List<ManagedOverlay> managedOverlays;
     private final int animationDuration;
     private final int entryDelay;
     private final int exitDelay;
     private double transitionTimer, exitTimer, entryTimer;
 
-    PopperImpl(PopperJs popper, List<HandlerRegistration> handlerRegistrations,
+    PopperImpl(PopperJs popper, List<HandlerRegistration> handlerRegistrations, List<ManagedOverlay> managedOverlays,
             int animationDuration, int entryDelay, int exitDelay) {
         this.popper = popper;
         this.handlerRegistrations = handlerRegistrations;
+        this.managedOverlays = managedOverlays;
         this.animationDuration = animationDuration;
         this.entryDelay = entryDelay;
         this.exitDelay = exitDelay;
@@ -98,12 +102,18 @@ public class PopperImpl implements Popper {
         for (HandlerRegistration handlerRegistration : handlerRegistrations) {
             handlerRegistration.removeHandler();
         }
+        for (ManagedOverlay managedOverlay : managedOverlays) {
+            OverlayManager.close(managedOverlay);
+        }
         popper.destroy();
     }
 
     private void internalShow(Callback visible) {
         Elements.setVisible(popper.state.elements.popper, true);
         toggleEvenListeners(true);
+        for (ManagedOverlay managedOverlay : managedOverlays) {
+            OverlayManager.open(managedOverlay);
+        }
         popper.update().then(__ -> {
             if (animationDuration != UNDEFINED) {
                 popper.state.elements.popper.style.opacity = OpacityUnionType.of(1);
@@ -118,6 +128,9 @@ public class PopperImpl implements Popper {
     private void internalHide(Callback hidden) {
         Elements.setVisible(popper.state.elements.popper, false);
         toggleEvenListeners(false);
+        for (ManagedOverlay managedOverlay : managedOverlays) {
+            OverlayManager.close(managedOverlay);
+        }
         if (hidden != null) {
             hidden.call();
         }
@@ -0,0 +1,235 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.style;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.gwtproject.event.shared.HandlerRegistration;
+import org.patternfly.handler.BreakpointHandler;
+import org.patternfly.handler.SizeHandler;
+
+import elemental2.core.JsArray;
+import elemental2.dom.Element;
+import elemental2.dom.EventListener;
+import elemental2.dom.HTMLElement;
+import elemental2.dom.MediaQueryList;
+import elemental2.dom.ResizeObserver;
+import elemental2.dom.ResizeObserverEntry;
+
+import static elemental2.dom.DomGlobal.requestAnimationFrame;
+import static elemental2.dom.DomGlobal.window;
+
+/**
+ * Shared service to observe size and breakpoint changes. Use this class instead of registering resize listeners or resize
+ * observers in each component.
+ * <ul>
+ *     <li>Elements are observed by one shared {@link ResizeObserver}. Each element is observed once, regardless of the
+ *     number of subscribers.</li>
+ *     <li>The viewport breakpoint is tracked by one shared set of {@code matchMedia} listeners for the {@link Breakpoint}
+ *     thresholds.</li>
+ *     <li>Changes are collected and delivered to the subscribers in one animation frame.</li>
+ *     <li>Breakpoint subscribers are only notified if the breakpoint actually changes.</li>
+ * </ul>
+ * The resize observer and the media query listeners are registered on the first subscription and removed when the last
+ * subscription has been removed.
+ */
+public final class BreakpointObserver {
+
+    private static final Breakpoint[] THRESHOLDS = new Breakpoint[]{
+            Breakpoint.sm, Breakpoint.md, Breakpoint.lg, Breakpoint.xl, Breakpoint._2xl};
+
+    // element state
+    private static final Map<Element, Observed> observed = new HashMap<>();
+    private static final Set<Observed> dirty = new LinkedHashSet<>();
+    private static ResizeObserver resizeObserver;
+
+    // viewport state
+    private static final List<BreakpointHandler> viewportHandler = new ArrayList<>();
+    private static MediaQueryList[] mediaQueries;
+    private static EventListener mediaListener;
+    private static Breakpoint viewportBreakpoint;
+    private static boolean viewportDirty;
+
+    private static double frame;
+
+    // ------------------------------------------------------ viewport
+
+    /** Returns the current breakpoint of the viewport width. */
+    public static Breakpoint breakpoint() {
+        return viewportHandler.isEmpty() ? matchBreakpoint(queries()) : viewportBreakpoint;
+    }
+
+    /**
+     * Subscribes to breakpoint changes of the viewport width. The handler is called once per animation frame at most and only
+     * if the breakpoint has changed.
+     */
+    public static HandlerRegistration onBreakpoint(BreakpointHandler handler) {
+        if (viewportHandler.isEmpty()) {
+            MediaQueryList[] queries = queries();
+            viewportBreakpoint = matchBreakpoint(queries);
+            mediaListener = e -> {
+                viewportDirty = true;
+                scheduleFlush();
+            };
+            for (MediaQueryList query : queries) {
+                query.addEventListener("change", mediaListener);
+            }
+        }
+        viewportHandler.add(handler);
+        return () -> {
+            if (viewportHandler.remove(handler) && viewportHandler.isEmpty()) {
+                for (MediaQueryList query : queries()) {
+                    query.removeEventListener("change", mediaListener);
+                }
+                mediaListener = null;
+                viewportDirty = false;
+            }
+        };
+    }
+
+    // ------------------------------------------------------ element
+
+    /**
+     * Subscribes to size changes of the specified element. The handler is called once per animation frame at most with the
+     * current and the previous content size of the element.
+     */
+    public static HandlerRegistration observeSize(HTMLElement element, SizeHandler handler) {
+        if (resizeObserver == null) {
+            resizeObserver = new ResizeObserver((entries, o) -> onResize(entries));
+        }
+        Observed o = observed.get(element);
+        if (o == null) {
+            o = new Observed();
+            observed.put(element, o);
+            resizeObserver.observe(element);
+        }
+        o.handler.add(handler);
+        Observed registered = o;
+        return () -> {
+            if (registered.handler.remove(handler) && registered.handler.isEmpty()) {
+                observed.remove(element);
+                dirty.remove(registered);
+                if (resizeObserver != null) {
+                    resizeObserver.unobserve(element);
+                    if (observed.isEmpty()) {
+                        resizeObserver.disconnect();
+                        resizeObserver = null;
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Subscribes to breakpoint changes of the width of the specified element using {@link Breakpoint#breakpoint(int)}. The
+     * handler is called once per animation frame at most and only if the breakpoint has changed.
+     */
+    public static HandlerRegistration observeBreakpoint(HTMLElement element, BreakpointHandler handler) {
+        Breakpoint[] last = new Breakpoint[]{null};
+        return observeSize(element, (current, previous) -> {
+            Breakpoint breakpoint = Breakpoint.breakpoint(current.width);
+            if (breakpoint != last[0]) {
+                Breakpoint before = last[0] != null ? last[0] : Breakpoint.breakpoint(previous.width);
+                last[0] = breakpoint;
+                handler.onBreakpoint(breakpoint, before);
+            }
+        });
+    }
+
+    // ------------------------------------------------------ internal
+
+    private BreakpointObserver() {
+    }
+
+    private static void onResize(JsArray<ResizeObserverEntry> entries) {
+        for (int i = 0; i < entries.length; i++) {
+            ResizeObserverEntry entry = entries.getAt(i);
+            Observed o = observed.get(entry.target);
+            if (o != null) {
+                o.pending = new Rect((int) Math.round(entry.contentRect.width), (int) Math.round(entry.contentRect.height));
+                dirty.add(o);
+            }
+        }
+        if (!dirty.isEmpty()) {
+            scheduleFlush();
+        }
+    }
+
+    private static void scheduleFlush() {
+        if (frame == 0) {
+            frame = requestAnimationFrame(__ -> flush());
+        }
+    }
+
+    private static void flush() {
+        frame = 0;
+        if (viewportDirty) {
+            viewportDirty = false;
+            Breakpoint previous = viewportBreakpoint;
+            viewportBreakpoint = matchBreakpoint(queries());
+            if (viewportBreakpoint != previous) {
+                for (BreakpointHandler handler : new ArrayList<>(viewportHandler)) {
+                    handler.onBreakpoint(viewportBreakpoint, previous);
+                }
+            }
+        }
+        if (!dirty.isEmpty()) {
+            List<Observed> changed = new ArrayList<>(dirty);
+            dirty.clear();
+            for (Observed o : changed) {
+                Rect previous = o.rect;
+                Rect current = o.pending;
+                if (current != null && !current.equals(previous)) {
+                    o.rect = current;
+                    for (SizeHandler handler : new ArrayList<>(o.handler)) {
+                        handler.onSize(current, previous);
+                    }
+                }
+            }
+        }
+    }
+
+    private static MediaQueryList[] queries() {
+        if (mediaQueries == null) {
+            mediaQueries = new MediaQueryList[THRESHOLDS.length];
+            for (int i = 0; i < THRESHOLDS.length; i++) {
+                mediaQueries[i] = window.matchMedia("(min-width: " + THRESHOLDS[i].widthCss + ")");
+            }
+        }
+        return mediaQueries;
+    }
+
+    private static Breakpoint matchBreakpoint(MediaQueryList[] queries) {
+        for (int i = queries.length - 1; i >= 0; i--) {
+            if (queries[i].matches) {
+                return THRESHOLDS[i];
+            }
+        }
+        return Breakpoint.default_;
+    }
+
+    private static class Observed {
+
+        final List<SizeHandler> handler = new ArrayList<>();
+        Rect rect = new Rect();
+        Rect pending;
+    }
+}
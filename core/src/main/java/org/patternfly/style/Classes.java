@@ -119,6 +119,7 @@ public interface Classes {
     String fillColumns = "fill-columns";
     String filtered = "filtered"; // special PatternFly Java modifier
     String finished = "finished";
+    String first = "first";
     String fitContent = "fit-content";
     String fixed = "fixed";
     String flat = "flat";
@@ -170,6 +171,7 @@ public interface Classes {
     String keyboard = "keyboard";
     String label = "label";
     String labelGroup = "label-group";
+    String last = "last";
     String left = "left";
     String level = "level";
     String limitWidth = "limit-width";
@@ -185,6 +187,9 @@ public interface Classes {
     String menuToggle = "menu-toggle";
     String modalBox = "modal-box";
     String nav = "nav";
+    String navControl = "nav-control";
+    String navPageSelect = "nav-page-select";
+    String next = "next";
     String noBorder = "no-border";
     String noBorderBottom = "no-border-bottom";
     String noBorderRows = "no-border-rows";
@@ -212,6 +217,8 @@ public interface Classes {
     String padding = "padding";
     String page = "page";
     String pageInsets = "page-insets";
+    String pageMenu = "page-menu";
+    String pagination = "pagination";
     String panel = "panel";
     String path = "path";
     String pending = "pending";
@@ -222,6 +229,7 @@ public interface Classes {
     String plainList = "plainList";
     String popover = "popover";
     String pre = "pre";
+    String prev = "prev";
     String primary = "primary";
     String progress = "progress";
     String progressStepper = "progress-stepper";
@@ -315,6 +323,7 @@ public interface Classes {
     String themeSelector = "theme-selector";
     String tooltip = "tooltip";
     String top = "top";
+    String totalItems = "total-items";
     String tr = "tr";
     String track = "track";
     String treeView = "tree-view";
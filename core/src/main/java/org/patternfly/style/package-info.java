@@ -24,6 +24,7 @@
  *
  * <ul>
  *     <li>{@link org.patternfly.style.Breakpoint} - Responsive breakpoint definitions (sm, md, lg, xl, 2xl)</li>
+ *     <li>{@link org.patternfly.style.BreakpointObserver} - Shared service to observe size and breakpoint changes</li>
  *     <li>{@link org.patternfly.style.BreakpointCollector} - Stream collector for building breakpoint maps</li>
  *     <li>{@link org.patternfly.style.Breakpoints} - Container for breakpoint-specific values</li>
  *     <li>{@link org.patternfly.style.Classes} - Constants for PatternFly CSS class names</li>
@@ -102,6 +103,15 @@
  * int cols = columns.get(current);
  * }
  *
+ * <p>Use {@link org.patternfly.style.BreakpointObserver} to react to breakpoint changes instead of registering your own
+ * resize listeners:
+ *
+ * {@snippet :
+ * HandlerRegistration registration = BreakpointObserver.onBreakpoint((current, previous) -> {
+ *     // called at most once per animation frame and only if the breakpoint has changed
+ * });
+ * }
+ *
  * <h2>CSS Variables</h2>
  *
  * <p>PatternFly uses CSS custom properties (variables) for theming. The {@link org.patternfly.style.Variable}
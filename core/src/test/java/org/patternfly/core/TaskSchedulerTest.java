@@ -0,0 +1,224 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskSchedulerTest {
+
+    private FakeEnvironment environment;
+    private ChunkedTask<Integer> task;
+
+    @BeforeEach
+    void setUp() {
+        environment = new FakeEnvironment();
+        TaskScheduler.environment(environment);
+    }
+
+    // ------------------------------------------------------ slicing
+
+    @Test
+    void chunkSlicing() {
+        List<Integer> progress = new ArrayList<>();
+        List<String> done = new ArrayList<>();
+        // each item takes 3 ms: three items fit into the frame budget of 8 ms
+        task = TaskScheduler.chunked(items(10), i -> environment.advance(3))
+                .onProgress((processed, total) -> progress.add(processed))
+                .onDone(() -> done.add("done"))
+                .start();
+        assertEquals(0, task.processed());
+
+        assertEquals(4, environment.runFrames());
+        assertEquals(asList(3, 6, 9, 10), progress);
+        assertEquals(10, task.processed());
+        assertEquals(10, task.total());
+        assertTrue(task.done());
+        assertEquals(1, done.size());
+    }
+
+    @Test
+    void chunkSlicingEager() {
+        List<Integer> progress = new ArrayList<>();
+        task = TaskScheduler.chunked(items(10), i -> environment.advance(3))
+                .eager(4)
+                .onProgress((processed, total) -> progress.add(processed))
+                .start();
+        assertEquals(4, task.processed());
+
+        assertEquals(2, environment.runFrames());
+        assertEquals(asList(4, 7, 10), progress);
+        assertTrue(task.done());
+    }
+
+    @Test
+    void chunkSlicingImmediate() {
+        task = TaskScheduler.chunked(items(10), i -> environment.advance(3))
+                .priority(TaskPriority.immediate)
+                .start();
+        assertEquals(10, task.processed());
+        assertTrue(task.done());
+        assertEquals(0, environment.runFrames());
+    }
+
+    // ------------------------------------------------------ cancel
+
+    @Test
+    void cancelMidBatch() {
+        List<String> done = new ArrayList<>();
+        task = TaskScheduler.chunked(items(10), i -> {
+            if (i == 4) {
+                task.cancel();
+            }
+        }).onDone(() -> done.add("done")).start();
+
+        assertEquals(1, environment.runFrames());
+        assertEquals(5, task.processed());
+        assertTrue(task.cancelled());
+        assertFalse(task.done());
+        assertTrue(done.isEmpty());
+    }
+
+    @Test
+    void cancelBetweenSlices() {
+        task = TaskScheduler.chunked(items(10), i -> environment.advance(3)).start();
+        environment.runFrame();
+        assertEquals(3, task.processed());
+
+        task.cancel();
+        assertEquals(1, environment.runFrames());
+        assertEquals(3, task.processed());
+        assertFalse(task.done());
+    }
+
+    // ------------------------------------------------------ failures
+
+    @Test
+    void failingTaskDoesNotStallFrameLane() {
+        List<Throwable> failures = new ArrayList<>();
+        ScheduledTask failing = TaskScheduler.nextFrame(() -> {
+            throw new IllegalStateException("frame");
+        }).onFailure(failures::add);
+        ScheduledTask next = TaskScheduler.nextFrame(() -> environment.advance(1));
+
+        assertEquals(1, environment.runFrames());
+        assertTrue(failing.failed());
+        assertFalse(failing.done());
+        assertEquals(1, failures.size());
+        assertEquals(1, environment.errors.size());
+        assertTrue(next.done());
+    }
+
+    @Test
+    void failingChunkedTaskDoesNotStallIdleLane() {
+        List<Integer> processed = new ArrayList<>();
+        task = TaskScheduler.chunked(items(10), i -> {
+            if (i == 2) {
+                throw new IllegalStateException("idle");
+            }
+            processed.add(i);
+        }).priority(TaskPriority.idle).start();
+        ScheduledTask next = TaskScheduler.idle(() -> environment.advance(1));
+
+        assertEquals(1, environment.runIdle());
+        assertEquals(asList(0, 1), processed);
+        assertEquals(2, task.processed());
+        assertTrue(task.failed());
+        assertFalse(task.done());
+        assertEquals(1, environment.errors.size());
+        assertTrue(next.done());
+    }
+
+    // ------------------------------------------------------ helper
+
+    private List<Integer> items(int count) {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(i);
+        }
+        return items;
+    }
+
+    private static class FakeEnvironment implements TaskScheduler.Environment {
+
+        final List<String> errors = new ArrayList<>();
+        private final List<Runnable> frames = new ArrayList<>();
+        private final List<DoubleConsumer> idle = new ArrayList<>();
+        private double now;
+
+        void advance(double millis) {
+            now += millis;
+        }
+
+        /** Runs the callbacks of one frame. */
+        void runFrame() {
+            List<Runnable> callbacks = new ArrayList<>(frames);
+            frames.clear();
+            callbacks.forEach(Runnable::run);
+        }
+
+        /** Runs frames until no more frames are requested and returns the number of frames. */
+        int runFrames() {
+            int count = 0;
+            while (!frames.isEmpty()) {
+                runFrame();
+                count++;
+            }
+            return count;
+        }
+
+        /** Runs idle periods of 50 ms until no more idle periods are requested and returns the number of idle periods. */
+        int runIdle() {
+            int count = 0;
+            while (!idle.isEmpty()) {
+                List<DoubleConsumer> callbacks = new ArrayList<>(idle);
+                idle.clear();
+                callbacks.forEach(callback -> callback.accept(now + 50));
+                count++;
+            }
+            return count;
+        }
+
+        @Override
+        public double now() {
+            return now;
+        }
+
+        @Override
+        public void requestFrame(Runnable callback) {
+            frames.add(callback);
+        }
+
+        @Override
+        public void requestIdle(DoubleConsumer callback) {
+            idle.add(callback);
+        }
+
+        @Override
+        public void error(String message, Object... params) {
+            errors.add(message);
+        }
+    }
+}
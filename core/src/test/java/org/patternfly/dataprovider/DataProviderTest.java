@@ -0,0 +1,176 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.dataprovider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DataProviderTest {
+
+    private static final int ITEMS = 30;
+    private static final int PAGE_SIZE = 10;
+
+    private DataProvider<Integer> dataProvider;
+    private RecordingDisplay display;
+    private int filterCalls;
+    private int comparatorCalls;
+
+    @BeforeEach
+    void setUp() {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            items.add(i);
+        }
+        dataProvider = new DataProvider<>(String::valueOf, PAGE_SIZE);
+        display = new RecordingDisplay();
+        dataProvider.bindDisplay(display);
+        dataProvider.update(items);
+
+        // even numbers in descending order: 28, 26, ..., 0
+        dataProvider.addFilter("even", i -> {
+            filterCalls++;
+            return i % 2 == 0;
+        });
+        dataProvider.sort(new SortInfo<>("desc", (a, b) -> {
+            comparatorCalls++;
+            return Integer.compare(b, a);
+        }, false));
+        filterCalls = 0;
+        comparatorCalls = 0;
+    }
+
+    @Test
+    void filterAndSort() {
+        assertEquals(asList(28, 26, 24, 22, 20, 18, 16, 14, 12, 10), display.items);
+        assertPageInfo(0, 2, 10, 15);
+    }
+
+    @Test
+    void gotoPage() {
+        dataProvider.gotoNextPage();
+        assertEquals(asList(8, 6, 4, 2, 0), display.items);
+        assertPageInfo(1, 2, 5, 15);
+
+        dataProvider.gotoFirstPage();
+        assertEquals(asList(28, 26, 24, 22, 20, 18, 16, 14, 12, 10), display.items);
+        assertPageInfo(0, 2, 10, 15);
+
+        dataProvider.gotoLastPage();
+        assertEquals(asList(8, 6, 4, 2, 0), display.items);
+        assertPageInfo(1, 2, 5, 15);
+        assertPipelineNotRun();
+    }
+
+    @Test
+    void gotoIllegalPage() {
+        int updates = display.updates;
+        dataProvider.gotoPreviousPage();
+        dataProvider.gotoPage(-1);
+        assertEquals(updates, display.updates);
+
+        dataProvider.gotoPage(5);
+        assertEquals(updates + 1, display.updates);
+        assertEquals(asList(8, 6, 4, 2, 0), display.items);
+        assertPageInfo(1, 2, 5, 15);
+        assertPipelineNotRun();
+    }
+
+    @Test
+    void setPageSize() {
+        dataProvider.setPageSize(4);
+        assertEquals(asList(28, 26, 24, 22), display.items);
+        assertPageInfo(0, 4, 4, 15);
+
+        dataProvider.gotoLastPage();
+        assertEquals(asList(4, 2, 0), display.items);
+        assertPageInfo(3, 4, 3, 15);
+        assertPipelineNotRun();
+    }
+
+    @Test
+    void setPageSizeClampsPage() {
+        dataProvider.setPageSize(5);
+        dataProvider.gotoLastPage();
+        assertEquals(asList(8, 6, 4, 2, 0), display.items);
+        assertPageInfo(2, 3, 5, 15);
+
+        // the last page shrinks from 2 to 1
+        dataProvider.setPageSize(10);
+        assertEquals(asList(8, 6, 4, 2, 0), display.items);
+        assertPageInfo(1, 2, 5, 15);
+
+        // only one page left
+        dataProvider.setPageSize(20);
+        assertEquals(15, display.items.size());
+        assertPageInfo(0, 1, 15, 15);
+        assertPipelineNotRun();
+    }
+
+    @Test
+    void filterClampsPage() {
+        dataProvider.setPageSize(5);
+        dataProvider.gotoLastPage();
+        assertPageInfo(2, 3, 5, 15);
+
+        // the total is updated before the page is clamped
+        dataProvider.addFilter("small", i -> i < 14);
+        assertEquals(asList(2, 0), display.items);
+        assertPageInfo(1, 2, 2, 7);
+    }
+
+    private void assertPageInfo(int page, int pages, int visible, int total) {
+        PageInfo pageInfo = dataProvider.getPageInfo();
+        assertEquals(page, pageInfo.getPage());
+        assertEquals(pages, pageInfo.getPages());
+        assertEquals(visible, pageInfo.getVisible());
+        assertEquals(total, pageInfo.getTotal());
+        assertEquals(pageInfo, display.pageInfo);
+    }
+
+    private void assertPipelineNotRun() {
+        assertEquals(0, filterCalls);
+        assertEquals(0, comparatorCalls);
+    }
+
+    private static class RecordingDisplay implements Display<Integer> {
+
+        List<Integer> items = new ArrayList<>();
+        PageInfo pageInfo;
+        int updates;
+
+        @Override
+        public void showItems(Iterable<Integer> items, PageInfo pageInfo) {
+            this.items = new ArrayList<>();
+            items.forEach(this.items::add);
+            this.pageInfo = pageInfo;
+            updates++;
+        }
+
+        @Override
+        public void updateSelection(SelectionInfo<Integer> selectionInfo) {
+        }
+
+        @Override
+        public void updateSortInfo(SortInfo<Integer> sortInfo) {
+        }
+    }
+}
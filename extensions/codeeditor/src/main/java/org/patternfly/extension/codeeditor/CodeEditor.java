@@ -18,6 +18,7 @@ package org.patternfly.extension.codeeditor;
 import org.jboss.elemento.Elements;
 import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
+import org.patternfly.component.TextStream;
 import org.patternfly.style.Classes;
 import org.patternfly.style.Modifiers.Readonly2;
 
@@ -50,13 +51,16 @@ public class CodeEditor extends BaseComponent<HTMLElement, CodeEditor>
 
     // ------------------------------------------------------ instance
 
+    private final HTMLElement codeElement;
     private final HTMLElement preElement;
+    private TextStream stream;
+    private int maxLines;
 
     CodeEditor(String code) {
         super(ComponentType.CodeEditor, div().css(component(codeEditor)).element());
 
         add(div().css(component(codeEditor, main))
-                .add(Elements.code().css(component(codeEditor, Classes.code))
+                .add(codeElement = Elements.code().css(component(codeEditor, Classes.code))
                         .attr("dir", "ltr")
                         .add(preElement = pre().css(component(codeEditor, Classes.code, Classes.pre))
                                 .element())
@@ -83,7 +87,23 @@ public class CodeEditor extends BaseComponent<HTMLElement, CodeEditor>
     // ------------------------------------------------------ builder
 
     public CodeEditor code(String code) {
-        preElement.textContent = code;
+        if (stream != null) {
+            stream.reset(code);
+        } else {
+            preElement.textContent = code;
+        }
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of lines kept when {@linkplain #append(String) appending} code. If the code grows beyond this
+     * limit, the oldest lines are dropped. Use {@code 0} (the default) to keep all lines.
+     */
+    public CodeEditor maxLines(int maxLines) {
+        this.maxLines = Math.max(0, maxLines);
+        if (stream != null) {
+            stream.maxLines(this.maxLines);
+        }
         return this;
     }
 
@@ -95,6 +115,24 @@ public class CodeEditor extends BaseComponent<HTMLElement, CodeEditor>
     // ------------------------------------------------------ api
 
     public String code() {
+        if (stream != null) {
+            stream.flush();
+        }
         return preElement.textContent;
     }
+
+    /**
+     * Appends a chunk of code without replacing the existing code. Use this method to follow a growing document like a log
+     * file. The chunks are buffered and written at most once per animation frame. If the code editor was scrolled to the
+     * bottom, it stays at the bottom.
+     */
+    public CodeEditor append(String chunk) {
+        if (stream == null) {
+            stream = new TextStream(preElement, codeElement);
+            stream.maxLines(maxLines);
+            stream.reset(preElement.textContent);
+        }
+        stream.append(chunk);
+        return this;
+    }
 }
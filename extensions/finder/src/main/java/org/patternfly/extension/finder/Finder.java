@@ -16,11 +16,13 @@
 package org.patternfly.extension.finder;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 
 import org.gwtproject.event.shared.HandlerRegistration;
@@ -38,24 +40,30 @@ import org.patternfly.component.BaseComponent;
 import org.patternfly.component.ComponentType;
 import org.patternfly.component.HasIdentifier;
 import org.patternfly.component.HasItems;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 import org.patternfly.core.Dataset;
 import org.patternfly.style.Classes;
 import org.patternfly.style.Modifiers.Bordered;
 
+import elemental2.dom.Event;
 import elemental2.dom.HTMLDivElement;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.KeyboardEvent;
 import elemental2.dom.MutationRecord;
 import elemental2.promise.Promise;
 
+import static elemental2.dom.DomGlobal.clearTimeout;
 import static elemental2.dom.DomGlobal.requestAnimationFrame;
+import static elemental2.dom.DomGlobal.setTimeout;
 import static org.jboss.elemento.Elements.div;
 import static org.jboss.elemento.Elements.failSafeRemoveFromParent;
 import static org.jboss.elemento.Elements.removeChildrenFrom;
 import static org.jboss.elemento.EventType.bind;
 import static org.jboss.elemento.flow.Flow.sequential;
+import static org.patternfly.core.AsyncStatus.pending;
+import static org.patternfly.core.AsyncStatus.rejected;
 import static org.patternfly.core.Aria.label;
 import static org.patternfly.extension.finder.FinderClasses.columns;
 import static org.patternfly.extension.finder.FinderClasses.finder;
@@ -82,13 +90,20 @@ public class Finder extends BaseComponent<HTMLElement, Finder> implements
     // ------------------------------------------------------ instance
 
     private static final String STOP_SELECT_KEY = "stop-select";
+    private static final int PREFETCH_DELAY = 100;
 
     FinderPreview preview;
+    FinderColumnCache columnCache;
     private final Map<String, FinderColumn> items;
     private final AurHandler<Finder, FinderColumn> aur;
     private final HTMLContainerBuilder<HTMLDivElement> cc; // columns container
     private FinderColumn activeColumn;
+    private FinderPathResolver pathResolver;
     private HandlerRegistration keydownHandler;
+    private HandlerRegistration mouseoverHandler;
+    private HandlerRegistration focusinHandler;
+    private FinderItem prefetchItem;
+    private double prefetchHandle;
 
     Finder() {
         super(ComponentType.Finder, div().css(component(finder))
@@ -104,6 +119,8 @@ public class Finder extends BaseComponent<HTMLElement, Finder> implements
     @Override
     public void attach(MutationRecord mutationRecord) {
         keydownHandler = bind(this, EventType.keydown, this::handleKeydown);
+        mouseoverHandler = bind(this, EventType.mouseover, this::schedulePrefetch);
+        focusinHandler = bind(this, EventType.focusin, this::schedulePrefetch);
     }
 
     @Override
@@ -111,6 +128,14 @@ public class Finder extends BaseComponent<HTMLElement, Finder> implements
         if (keydownHandler != null) {
             keydownHandler.removeHandler();
         }
+        if (mouseoverHandler != null) {
+            mouseoverHandler.removeHandler();
+        }
+        if (focusinHandler != null) {
+            focusinHandler.removeHandler();
+        }
+        clearTimeout(prefetchHandle);
+        prefetchItem = null;
     }
 
     // ------------------------------------------------------ add
@@ -162,6 +187,27 @@ public class Finder extends BaseComponent<HTMLElement, Finder> implements
 
     // ------------------------------------------------------ builder
 
+    /**
+     * Sets a cache for the columns of this finder. If the user navigates back and forth, the next column of an item including
+     * its items is taken from the cache instead of creating and loading it again. In addition, hovering or focusing an item
+     * puts its next column into the cache and starts fetching the items of the column. The items are rendered when the column
+     * is selected.
+     */
+    public Finder columnCache(FinderColumnCache columnCache) {
+        this.columnCache = columnCache;
+        return this;
+    }
+
+    /**
+     * Sets a resolver which starts loading the columns of a path before {@link #select(FinderPath)} walks the path. Use
+     * {@link FinderPathResolver#batch(Function)} to fetch all columns of a path in one request or
+     * {@link FinderPathResolver#parallel(java.util.function.BiFunction)} to load the columns in parallel.
+     */
+    public Finder pathResolver(FinderPathResolver pathResolver) {
+        this.pathResolver = pathResolver;
+        return this;
+    }
+
     @Override
     public Finder that() {
         return this;
@@ -186,6 +232,11 @@ public class Finder extends BaseComponent<HTMLElement, Finder> implements
 
     // ------------------------------------------------------ api
 
+    /** Returns the column cache or {@code null} if no cache has been set. */
+    public FinderColumnCache columnCache() {
+        return columnCache;
+    }
+
     /**
      * Returns the full selection path across all columns, regardless of which column is currently active. The path includes a
      * segment for every column that has a selected item, stopping at the first column without a selection.
@@ -260,6 +311,10 @@ public class Finder extends BaseComponent<HTMLElement, Finder> implements
      * segment cannot be resolved (column not found, item not found after loading), the promise resolves with a partial
      * {@link ResolvedFinderPath} containing only the successfully selected segments, and events are fired for the last resolved
      * item.
+     * <p>
+     * By default, each column is loaded after the item of the previous column has been selected. If a
+     * {@linkplain #pathResolver(FinderPathResolver) path resolver} has been set, the columns of the path are loaded up front,
+     * and each column renders as soon as the previous column has been selected and its data has arrived.
      *
      * @param path the finder path to select
      * @return a {@link Promise} that resolves with the {@link ResolvedFinderPath} of successfully selected items
@@ -268,10 +323,11 @@ public class Finder extends BaseComponent<HTMLElement, Finder> implements
         if (path == null || path.isEmpty()) {
             return Promise.resolve(path());
         }
+        Map<String, Promise<Iterable<FinderItem>>> preloaded = resolvePath(path);
         FlowContext context = new FlowContext();
         List<Task<FlowContext>> tasks = new ArrayList<>();
         for (FinderSegment segment : path) {
-            tasks.add(ctx -> selectSegment(segment.columnId, segment.itemId, ctx));
+            tasks.add(ctx -> selectSegment(segment.columnId, segment.itemId, preloaded.get(segment.columnId), ctx));
         }
         return sequential(context, tasks)
                 .then(ctx -> {
@@ -313,6 +369,11 @@ public class Finder extends BaseComponent<HTMLElement, Finder> implements
         });
     }
 
+    @Override
+    public void reorderItems(List<FinderColumn> items) {
+        KeyedDiff.reorder(this.items, items);
+    }
+
     @Override
     public void removeItem(String identifier) {
         FinderColumn item = items.remove(identifier);
@@ -358,7 +419,26 @@ public class Finder extends BaseComponent<HTMLElement, Finder> implements
         }
     }
 
-    private Promise<FlowContext> selectSegment(String columnId, String itemId, FlowContext context) {
+    private Map<String, Promise<Iterable<FinderItem>>> resolvePath(FinderPath path) {
+        if (pathResolver != null) {
+            // skip the leading columns which are already loaded for the item selected in the previous column
+            int loaded = path.loaded((columnId, parentId) -> {
+                FinderColumn column = items.get(columnId);
+                return column != null && column.status() != pending && Objects.equals(column.parentId, parentId);
+            });
+            if (loaded < path.size()) {
+                Map<String, Promise<Iterable<FinderItem>>> preloaded = pathResolver.resolve(path.subPath(loaded),
+                        path.parentId(loaded));
+                if (preloaded != null) {
+                    return preloaded;
+                }
+            }
+        }
+        return new HashMap<>();
+    }
+
+    private Promise<FlowContext> selectSegment(String columnId, String itemId, Promise<Iterable<FinderItem>> preloaded,
+            FlowContext context) {
         if (context.get(STOP_SELECT_KEY) != null) {
             return context.resolve();
         }
@@ -367,7 +447,7 @@ public class Finder extends BaseComponent<HTMLElement, Finder> implements
             context.set(STOP_SELECT_KEY, true);
             return context.resolve();
         }
-        return column.load().then(__ -> {
+        return column.load(preloaded).then(__ -> {
             select(column);
             if (itemId == null) {
                 context.set(STOP_SELECT_KEY, true);
@@ -379,7 +459,7 @@ public class Finder extends BaseComponent<HTMLElement, Finder> implements
                 return context.resolve();
             }
             column.select(item, true, false);
-            FinderColumn nextColumn = item.supplyNextColumn();
+            FinderColumn nextColumn = supplyNextColumn(item);
             if (nextColumn != null) {
                 internalAdd(nextColumn);
             }
@@ -397,9 +477,7 @@ public class Finder extends BaseComponent<HTMLElement, Finder> implements
             Map.Entry<String, FinderColumn> entry = iterator.next();
             if (found) {
                 FinderColumn removeColumn = entry.getValue();
-                for (FinderItem item : removeColumn.items()) {
-                    item.markSelected(false);
-                }
+                removeColumn.unselectItem();
                 failSafeRemoveFromParent(removeColumn);
                 iterator.remove();
                 aur.removed(removeColumn);
@@ -417,13 +495,39 @@ public class Finder extends BaseComponent<HTMLElement, Finder> implements
         activeColumn = column;
     }
 
-    private void handleKeydown(KeyboardEvent event) {
+    private void schedulePrefetch(Event event) {
+        if (columnCache != null) {
+            FinderItem item = eventItem(event);
+            if (item != null && item != prefetchItem) {
+                prefetchItem = item;
+                clearTimeout(prefetchHandle);
+                if (item.hasNext()) {
+                    prefetchHandle = setTimeout(__ -> prefetch(item), PREFETCH_DELAY);
+                }
+            }
+        }
+    }
+
+    private void prefetch(FinderItem item) {
+        if (columnCache != null && !item.isSelected() && item.column != null) {
+            FinderColumn column = supplyNextColumn(item);
+            if (column != null) {
+                column.prefetch();
+            }
+        }
+    }
+
+    private FinderItem eventItem(Event event) {
         HTMLElement target = (HTMLElement) event.target;
         HTMLElement itemElement = Elements.closest(target, By.classname(component(finder, item)));
         if (itemElement == null) {
-            return;
+            return null;
         }
-        FinderItem item = findItem(itemElement.dataset.get(Dataset.identifier));
+        return findItem(itemElement.dataset.get(Dataset.identifier));
+    }
+
+    private void handleKeydown(KeyboardEvent event) {
+        FinderItem item = eventItem(event);
         if (item == null || item.column == null) {
             return;
         }
@@ -501,6 +605,26 @@ public class Finder extends BaseComponent<HTMLElement, Finder> implements
         return null;
     }
 
+    /**
+     * Returns the next column of the given item. If a column cache has been set, the column is taken from or put into the
+     * cache. Cached columns which failed to load are reset, so that they are loaded again.
+     */
+    FinderColumn supplyNextColumn(FinderItem item) {
+        if (columnCache != null && item.column != null) {
+            FinderColumn column = columnCache.get(item);
+            if (column != null && column.status() == rejected) {
+                column.reset();
+            } else if (column == null) {
+                column = item.supplyNextColumn();
+                if (column != null) {
+                    columnCache.put(item, column);
+                }
+            }
+            return column;
+        }
+        return item.supplyNextColumn();
+    }
+
     private FinderColumn nextColumn(FinderColumn column) {
         boolean found = false;
         for (FinderColumn c : items.values()) {
@@ -22,6 +22,7 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 
 import org.jboss.elemento.HTMLContainerBuilder;
@@ -29,15 +30,18 @@ import org.jboss.elemento.Id;
 import org.jboss.elemento.logger.Logger;
 import org.patternfly.component.AddItemHandler;
 import org.patternfly.component.AsyncItems;
+import org.patternfly.component.AsyncItemsRenderer;
 import org.patternfly.component.AurHandler;
 import org.patternfly.component.HasAsyncItems;
 import org.patternfly.component.HasIdentifier;
+import org.patternfly.component.KeyedDiff;
 import org.patternfly.component.Ordered;
 import org.patternfly.component.RemoveItemHandler;
 import org.patternfly.component.UpdateItemHandler;
 import org.patternfly.core.AsyncStatus;
 import org.patternfly.core.ComponentContext;
 import org.patternfly.core.Dataset;
+import org.patternfly.handler.ProgressHandler;
 import org.patternfly.handler.SelectHandler;
 import org.patternfly.style.Classes;
 
@@ -49,7 +53,6 @@ import elemental2.promise.Promise;
 import static elemental2.dom.DomGlobal.clearTimeout;
 import static elemental2.dom.DomGlobal.setTimeout;
 import static java.util.Collections.emptyList;
-import static java.util.stream.Collectors.toList;
 import static org.jboss.elemento.Elements.div;
 import static org.jboss.elemento.Elements.failSafeRemoveFromParent;
 import static org.jboss.elemento.Elements.insertBefore;
@@ -61,6 +64,7 @@ import static org.jboss.elemento.Role.tree;
 import static org.patternfly.component.textinputgroup.SearchInput.searchInput;
 import static org.patternfly.core.AsyncStatus.pending;
 import static org.patternfly.core.AsyncStatus.rejected;
+import static org.patternfly.core.AsyncStatus.rendering;
 import static org.patternfly.core.AsyncStatus.resolved;
 import static org.patternfly.core.AsyncStatus.static_;
 import static org.patternfly.core.Timeouts.LOADING_TIMEOUT;
@@ -71,8 +75,6 @@ import static org.patternfly.extension.finder.FinderItem.errorItem;
 import static org.patternfly.extension.finder.FinderItem.loadingItem;
 import static org.patternfly.icon.IconSets.rhUi.search;
 import static org.patternfly.style.Classes.component;
-import static org.patternfly.style.Classes.filtered;
-import static org.patternfly.style.Classes.modifier;
 import static org.patternfly.style.Modifiers.toggleModifier;
 
 /** A column in the {@link Finder}, displaying a list of {@link FinderItem}s that can be selected, filtered, and sorted. */
@@ -104,11 +106,13 @@ public class FinderColumn extends FinderSubComponent<HTMLElement, FinderColumn>
     // See: https://hal-console.gitbook.io/elemento/attach-detach
     Finder finder;
     PreviewHandler previewHandler;
+    String parentId; // the identifier of the item which created this column
 
     private final String identifier;
     private final Map<String, Object> data;
     private final Map<String, FinderItem> items;
     private final AurHandler<FinderColumn, FinderItem> aur;
+    private final AsyncItemsRenderer<FinderColumn, FinderItem> renderer;
     private final List<SelectHandler<FinderItem>> selectHandler;
     private final HTMLContainerBuilder<HTMLUListElement> ul;
     private boolean pinnable;
@@ -117,6 +121,10 @@ public class FinderColumn extends FinderSubComponent<HTMLElement, FinderColumn>
     private Comparator<FinderItem> comparator;
     private AsyncItems<FinderColumn, FinderItem> asyncItems;
     private Promise<Iterable<FinderItem>> loadPromise;
+    private Promise<Iterable<FinderItem>> prefetched;
+    private FinderItem currentItem;
+    private List<FinderItem> visibleItems; // null if the index needs to be rebuilt
+    private Map<String, Integer> visibleIndex;
 
     FinderColumn(String identifier) {
         super(SUB_COMPONENT_ID, SUB_COMPONENT_NAME, div().css(component(FinderClasses.finder, column))
@@ -126,6 +134,7 @@ public class FinderColumn extends FinderSubComponent<HTMLElement, FinderColumn>
         this.data = new HashMap<>();
         this.items = new LinkedHashMap<>();
         this.aur = new AurHandler<>(this);
+        this.renderer = new AsyncItemsRenderer<>(this);
         this.selectHandler = new ArrayList<>();
         this.status = static_;
 
@@ -163,6 +172,10 @@ public class FinderColumn extends FinderSubComponent<HTMLElement, FinderColumn>
         }
         addOrdered(ul, item);
         items.put(item.identifier(), item);
+        if (item.isSelected()) {
+            currentItem = item;
+        }
+        visibleItems = null;
         return aur.added(item);
     }
 
@@ -204,10 +217,7 @@ public class FinderColumn extends FinderSubComponent<HTMLElement, FinderColumn>
     public FinderColumn defaultSearch(String placeholder) {
         return addSearch(finderColumnSearch()
                 .addSearchInput(searchInput(Id.unique(SUB_COMPONENT_ID)).icon(search()).placeholder(placeholder),
-                        (item, value) -> {
-                            String lcv = value.toLowerCase();
-                            return !value.isEmpty() && !item.text().toLowerCase().contains(lcv);
-                        }));
+                        FinderColumnSearch.textFilter()));
     }
 
     @Override
@@ -267,6 +277,11 @@ public class FinderColumn extends FinderSubComponent<HTMLElement, FinderColumn>
         return this;
     }
 
+    @Override
+    public FinderColumn renderInChunks(int firstChunk) {
+        return renderer.chunked(firstChunk);
+    }
+
     @Override
     public FinderColumn that() {
         return this;
@@ -289,6 +304,11 @@ public class FinderColumn extends FinderSubComponent<HTMLElement, FinderColumn>
         return aur.onRemove(onRemove);
     }
 
+    @Override
+    public FinderColumn onRenderProgress(ProgressHandler<FinderColumn> progressHandler) {
+        return renderer.onProgress(progressHandler);
+    }
+
     public FinderColumn onSelect(SelectHandler<FinderItem> selectHandler) {
         this.selectHandler.add(selectHandler);
         return this;
@@ -312,46 +332,7 @@ public class FinderColumn extends FinderSubComponent<HTMLElement, FinderColumn>
 
     @Override
     public Promise<Iterable<FinderItem>> load() {
-        if (status == pending && asyncItems != null) {
-            if (loadPromise != null) {
-                return loadPromise;
-            }
-
-            // show a loading indicator after a given timeout
-            FinderItem[] loadingItem = new FinderItem[1];
-            double handle = setTimeout(__ -> {
-                loadingItem[0] = loadingItem();
-                loadingItem[0].column = this;
-                ul.add(loadingItem[0].element());
-            }, LOADING_TIMEOUT);
-
-            // load items
-            loadPromise = asyncItems.apply(this)
-                    .then(items -> {
-                        status = resolved;
-                        loadPromise = null;
-                        clearTimeout(handle);
-                        failSafeRemoveFromParent(loadingItem[0]);
-                        for (FinderItem child : items) {
-                            addItem(child);
-                        }
-                        return Promise.resolve(items);
-                    })
-                    .catch_(error -> {
-                        status = rejected;
-                        loadPromise = null;
-                        clearTimeout(handle);
-                        failSafeRemoveFromParent(loadingItem[0]);
-                        logger.error("Unable to load items for %o - %s: %s", element(), identifier, error);
-                        FinderItem errorItem = errorItem();
-                        errorItem.column = this;
-                        ul.add(errorItem);
-                        return Promise.reject(error);
-                    });
-            return loadPromise;
-        } else {
-            return Promise.resolve(emptyList());
-        }
+        return load(null);
     }
 
     @Override
@@ -365,7 +346,9 @@ public class FinderColumn extends FinderSubComponent<HTMLElement, FinderColumn>
 
     @Override
     public void reset() {
-        if (status == resolved || status == rejected) {
+        prefetched = null;
+        if (status == resolved || status == rejected || status == rendering) {
+            renderer.cancel();
             status = pending;
             loadPromise = null;
             internalClear();
@@ -424,14 +407,28 @@ public class FinderColumn extends FinderSubComponent<HTMLElement, FinderColumn>
     public void updateItem(FinderItem item) {
         replaceItemElement(item, (oldItem, newItem) -> {
             items.put(newItem.identifier(), newItem);
+            if (oldItem == currentItem) {
+                currentItem = newItem.isSelected() ? newItem : null;
+            }
+            visibleItems = null;
             aur.updated(oldItem, newItem);
         });
     }
 
+    @Override
+    public void reorderItems(List<FinderItem> items) {
+        KeyedDiff.reorder(this.items, items);
+        visibleItems = null;
+    }
+
     @Override
     public void removeItem(String identifier) {
         FinderItem item = items.remove(identifier);
         failSafeRemoveFromParent(item);
+        if (item != null && item == currentItem) {
+            currentItem = null;
+        }
+        visibleItems = null;
         aur.removed(item);
     }
 
@@ -439,7 +436,7 @@ public class FinderColumn extends FinderSubComponent<HTMLElement, FinderColumn>
     public void clear() {
         if (status == static_) {
             internalClear();
-        } else if (status == resolved || status == rejected || status == pending) {
+        } else if (status == resolved || status == rejected || status == rendering || status == pending) {
             reset();
         }
     }
@@ -466,8 +463,11 @@ public class FinderColumn extends FinderSubComponent<HTMLElement, FinderColumn>
 
     public void select(FinderItem item, boolean selected, boolean fireEvent) {
         if (item != null) {
-            unselectAllItems();
+            if (currentItem != null && currentItem != item) {
+                currentItem.markSelected(false);
+            }
             item.markSelected(selected);
+            currentItem = selected ? item : null;
             if (fireEvent) {
                 selectHandler.forEach(selectHandler -> selectHandler.onSelect(new Event(""), item, selected));
             }
@@ -476,6 +476,82 @@ public class FinderColumn extends FinderSubComponent<HTMLElement, FinderColumn>
 
     // ------------------------------------------------------ internal
 
+    /**
+     * Loads the items of this column. If {@code preloaded} is not {@code null}, the items are taken from the given promise
+     * instead of the async items of this column. If the promise resolves to {@code null}, the async items are used as
+     * fallback.
+     */
+    Promise<Iterable<FinderItem>> load(Promise<Iterable<FinderItem>> preloaded) {
+        if ((status == pending || status == rendering) && asyncItems != null) {
+            if (loadPromise != null) {
+                return loadPromise;
+            }
+
+            // show a loading indicator after a given timeout
+            FinderItem[] loadingItem = new FinderItem[1];
+            double handle = setTimeout(__ -> {
+                loadingItem[0] = loadingItem();
+                loadingItem[0].column = this;
+                ul.add(loadingItem[0].element());
+            }, LOADING_TIMEOUT);
+
+            // load items
+            Promise<Iterable<FinderItem>> source = preloaded != null
+                    ? preloaded.then(items -> items != null ? Promise.resolve(items) : fetch())
+                    : fetch();
+            loadPromise = source
+                    .then(items -> {
+                        status = rendering;
+                        clearTimeout(handle);
+                        failSafeRemoveFromParent(loadingItem[0]);
+                        return renderer.render(items, this::addItem);
+                    })
+                    .then(items -> {
+                        // the status is no longer 'rendering' if the column has been reset in the meantime
+                        if (status == rendering) {
+                            status = resolved;
+                            loadPromise = null;
+                        }
+                        return Promise.resolve(items);
+                    })
+                    .catch_(error -> {
+                        status = rejected;
+                        loadPromise = null;
+                        clearTimeout(handle);
+                        failSafeRemoveFromParent(loadingItem[0]);
+                        logger.error("Unable to load items for %o - %s: %s", element(), identifier, error);
+                        FinderItem errorItem = errorItem();
+                        errorItem.column = this;
+                        ul.add(errorItem);
+                        return Promise.reject(error);
+                    });
+            return loadPromise;
+        } else {
+            return Promise.resolve(emptyList());
+        }
+    }
+
+    /**
+     * Starts fetching the items of this column without rendering them. The items are rendered when the column is
+     * {@linkplain #load() loaded}.
+     */
+    void prefetch() {
+        if (status == pending && asyncItems != null && loadPromise == null && prefetched == null) {
+            prefetched = asyncItems.apply(this);
+            // errors are reported when the column is actually loaded
+            prefetched.catch_(error -> null);
+        }
+    }
+
+    private Promise<Iterable<FinderItem>> fetch() {
+        if (prefetched != null) {
+            Promise<Iterable<FinderItem>> items = prefetched;
+            prefetched = null;
+            return items;
+        }
+        return asyncItems.apply(this);
+    }
+
     void fireSelect(FinderItem item) {
         if (item != null) {
             selectHandler.forEach(sh -> sh.onSelect(new Event(""), item, true));
@@ -488,7 +564,7 @@ public class FinderColumn extends FinderSubComponent<HTMLElement, FinderColumn>
 
     FinderItem previousItem(FinderItem item) {
         List<FinderItem> visible = visibleItems();
-        int index = visible.indexOf(item);
+        int index = visibleIndex(item);
         if (index > 0) {
             return visible.get(index - 1);
         }
@@ -497,7 +573,7 @@ public class FinderColumn extends FinderSubComponent<HTMLElement, FinderColumn>
 
     FinderItem nextItem(FinderItem item) {
         List<FinderItem> visible = visibleItems();
-        int index = visible.indexOf(item);
+        int index = visibleIndex(item);
         if (index != -1 && index < visible.size() - 1) {
             return visible.get(index + 1);
         }
@@ -505,20 +581,64 @@ public class FinderColumn extends FinderSubComponent<HTMLElement, FinderColumn>
     }
 
     FinderItem selectedItem() {
-        return items.values().stream()
-                .filter(FinderItem::isSelected)
-                .findFirst()
-                .orElse(null);
+        return currentItem;
+    }
+
+    void unselectItem() {
+        if (currentItem != null) {
+            currentItem.markSelected(false);
+            currentItem = null;
+        }
     }
 
     List<FinderItem> visibleItems() {
-        return items.values().stream()
-                .filter(item -> !item.classList().contains(modifier(filtered)))
-                .collect(toList());
+        if (visibleItems == null) {
+            visibleItems = new ArrayList<>();
+            visibleIndex = new HashMap<>();
+            for (FinderItem item : items.values()) {
+                if (!item.isFiltered()) {
+                    visibleIndex.put(item.identifier(), visibleItems.size());
+                    visibleItems.add(item);
+                }
+            }
+        }
+        return visibleItems;
+    }
+
+    /**
+     * Marks the items as filtered using the given predicate and value. Only items whose filtered state changes are touched in
+     * the DOM.
+     */
+    void filter(BiPredicate<FinderItem, String> predicate, String value) {
+        boolean changed = false;
+        for (FinderItem item : items.values()) {
+            changed |= item.markFiltered(predicate.test(item, value));
+        }
+        if (changed) {
+            visibleItems = null;
+        }
+    }
+
+    void clearFilter() {
+        boolean changed = false;
+        for (FinderItem item : items.values()) {
+            changed |= item.markFiltered(false);
+        }
+        if (changed) {
+            visibleItems = null;
+        }
+    }
+
+    private int visibleIndex(FinderItem item) {
+        visibleItems();
+        Integer index = visibleIndex.get(item.identifier());
+        return index != null && visibleItems.get(index) == item ? index : -1;
     }
 
     private void internalClear() {
         removeChildrenFrom(ul);
+        currentItem = null;
+        visibleItems = null;
         Iterator<FinderItem> iterator = items.values().iterator();
         while (iterator.hasNext()) {
             FinderItem item = iterator.next();
@@ -526,10 +646,4 @@ public class FinderColumn extends FinderSubComponent<HTMLElement, FinderColumn>
             aur.removed(item);
         }
     }
-
-    private void unselectAllItems() {
-        for (FinderItem item : items.values()) {
-            item.markSelected(false);
-        }
-    }
 }
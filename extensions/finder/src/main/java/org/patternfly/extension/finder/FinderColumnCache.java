@@ -0,0 +1,89 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.extension.finder;
+
+import java.util.Objects;
+
+import static elemental2.dom.DomGlobal.performance;
+
+/**
+ * A bounded LRU cache for the columns of a {@link Finder}. Entries are keyed by the parent item, that is, the item whose
+ * {@link FinderItem#nextColumn(java.util.function.Supplier)} created the column. If the user navigates back and forth in a
+ * finder, the column including its items is taken from the cache instead of calling the supplier and the
+ * {@link org.patternfly.component.AsyncItems} of the column again.
+ * <p>
+ * Entries expire after the configured time-to-live and can be invalidated explicitly.
+ *
+ * @see Finder#columnCache(FinderColumnCache)
+ */
+public class FinderColumnCache {
+
+    // ------------------------------------------------------ factory
+
+    /**
+     * Creates a new column cache.
+     *
+     * @param capacity the maximum number of columns in the cache
+     * @param ttl      the time-to-live of an entry in milliseconds, or {@code 0} if entries don't expire
+     */
+    public static FinderColumnCache finderColumnCache(int capacity, int ttl) {
+        return new FinderColumnCache(capacity, ttl);
+    }
+
+    // ------------------------------------------------------ instance
+
+    private final LruCache<FinderColumn> columns;
+
+    FinderColumnCache(int capacity, int ttl) {
+        this.columns = new LruCache<>(capacity, ttl, () -> performance.now());
+    }
+
+    // ------------------------------------------------------ api
+
+    /** Removes the column with the given identifier, which has been created by the item with the given identifier. */
+    public void invalidate(String columnId, String parentId) {
+        columns.removeIf(column -> column.identifier().equals(columnId) && Objects.equals(column.parentId, parentId));
+    }
+
+    /** Removes all columns with the given identifier. */
+    public void invalidate(String columnId) {
+        columns.removeIf(column -> column.identifier().equals(columnId));
+    }
+
+    /** Removes all columns. */
+    public void invalidateAll() {
+        columns.clear();
+    }
+
+    public int size() {
+        return columns.size();
+    }
+
+    // ------------------------------------------------------ internal
+
+    /** Returns the cached next column of the given item, or {@code null} if there's no column or the column has expired. */
+    FinderColumn get(FinderItem item) {
+        return columns.get(key(item));
+    }
+
+    void put(FinderItem item, FinderColumn column) {
+        columns.put(key(item), column);
+    }
+
+    private String key(FinderItem item) {
+        return item.column.identifier() + "/" + item.identifier();
+    }
+}
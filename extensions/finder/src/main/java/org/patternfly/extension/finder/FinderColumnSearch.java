@@ -21,12 +21,12 @@ import org.patternfly.component.textinputgroup.SearchInput;
 
 import elemental2.dom.HTMLElement;
 
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.setTimeout;
 import static org.jboss.elemento.Elements.div;
 import static org.patternfly.extension.finder.FinderClasses.column;
 import static org.patternfly.extension.finder.FinderClasses.finder;
 import static org.patternfly.style.Classes.component;
-import static org.patternfly.style.Classes.filtered;
-import static org.patternfly.style.Classes.modifier;
 import static org.patternfly.style.Classes.search;
 
 /**
@@ -37,6 +37,8 @@ import static org.patternfly.style.Classes.search;
  * <p>
  * The filtering predicate determines how {@link FinderItem}s are flagged as filtered depending on their text content and the
  * specified search value. When no predicate is provided, the {@link FinderItem}s are not programmatically filtered on input.
+ * <p>
+ * Filtering is debounced, and only items whose filtered state changes are updated in the DOM.
  */
 public class FinderColumnSearch extends FinderSubComponent<HTMLElement, FinderColumnSearch> {
 
@@ -46,13 +48,33 @@ public class FinderColumnSearch extends FinderSubComponent<HTMLElement, FinderCo
         return new FinderColumnSearch();
     }
 
+    /**
+     * Returns a filtering predicate which flags items whose text doesn't contain the search value (case-insensitive). The
+     * search value is normalized once per input, the text of the items is normalized once per item.
+     */
+    public static BiPredicate<FinderItem, String> textFilter() {
+        String[] normalized = new String[2]; // [raw value, normalized value]
+        return (item, value) -> {
+            if (!value.equals(normalized[0])) {
+                normalized[0] = value;
+                normalized[1] = value.trim().toLowerCase();
+            }
+            return !normalized[1].isEmpty() && !item.searchText().contains(normalized[1]);
+        };
+    }
+
     // ------------------------------------------------------ instance
 
     public static final String SUB_COMPONENT_ID = "fcs";
     public static final String SUB_COMPONENT_NAME = "FinderColumnSearch";
+    private static final int DEFAULT_DELAY = 150;
+
+    private int delay;
+    private double filterHandle;
 
     FinderColumnSearch() {
         super(SUB_COMPONENT_ID, SUB_COMPONENT_NAME, div().css(component(finder, column, search)).element());
+        this.delay = DEFAULT_DELAY;
     }
 
     // ------------------------------------------------------ add
@@ -105,17 +127,18 @@ public class FinderColumnSearch extends FinderSubComponent<HTMLElement, FinderCo
         add(input.element());
         if (predicate != null) {
             input.onInput((e, si, value) -> {
-                FinderColumn column = lookupSubComponent(FinderColumn.SUB_COMPONENT_ID, true);
-                if (column != null) {
-                    for (FinderItem item : column.items()) {
-                        item.classList().toggle(modifier(filtered), predicate.test(item, value));
-                    }
+                clearTimeout(filterHandle);
+                if (delay > 0) {
+                    filterHandle = setTimeout(__ -> filter(predicate, value), delay);
+                } else {
+                    filter(predicate, value);
                 }
             });
             input.onClear((e, si) -> {
+                clearTimeout(filterHandle);
                 FinderColumn column = lookupSubComponent(FinderColumn.SUB_COMPONENT_ID, true);
                 if (column != null) {
-                    column.items().forEach(item -> item.classList().remove(modifier(filtered)));
+                    column.clearFilter();
                 }
             });
         }
@@ -124,8 +147,23 @@ public class FinderColumnSearch extends FinderSubComponent<HTMLElement, FinderCo
 
     // ------------------------------------------------------ builder
 
+    /** Sets the delay in milliseconds after the last input before the items are filtered. Defaults to 150ms. */
+    public FinderColumnSearch delay(int delay) {
+        this.delay = delay;
+        return this;
+    }
+
     @Override
     public FinderColumnSearch that() {
         return this;
     }
+
+    // ------------------------------------------------------ internal
+
+    private void filter(BiPredicate<FinderItem, String> predicate, String value) {
+        FinderColumn column = lookupSubComponent(FinderColumn.SUB_COMPONENT_ID, true);
+        if (column != null) {
+            column.filter(predicate, value);
+        }
+    }
 }
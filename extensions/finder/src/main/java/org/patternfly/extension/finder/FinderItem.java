@@ -37,7 +37,6 @@ import elemental2.dom.Event;
 import elemental2.dom.HTMLDivElement;
 import elemental2.dom.HTMLElement;
 
-import static java.lang.Boolean.parseBoolean;
 import static org.jboss.elemento.Elements.button;
 import static org.jboss.elemento.Elements.div;
 import static org.jboss.elemento.Elements.failSafeRemoveFromParent;
@@ -144,6 +143,9 @@ public class FinderItem extends FinderSubComponent<HTMLElement, FinderItem> impl
     private HTMLElement ic;
     private PreviewHandler previewHandler;
     private Supplier<FinderColumn> nextColumn;
+    private boolean itemSelected;
+    private boolean filtered;
+    private String searchText;
 
     FinderItem(String identifier) {
         super(SUB_COMPONENT_ID, SUB_COMPONENT_NAME, li().css(component(finder, item))
@@ -222,6 +224,12 @@ public class FinderItem extends FinderSubComponent<HTMLElement, FinderItem> impl
         return folder(true);
     }
 
+    @Override
+    public FinderItem text(String text) {
+        searchText = null;
+        return ElementTextDelegate.super.text(text);
+    }
+
     @Override
     public FinderItem removeIcon() {
         failSafeRemoveFromParent(ic);
@@ -286,7 +294,7 @@ public class FinderItem extends FinderSubComponent<HTMLElement, FinderItem> impl
 
         finder.select(column);
         column.select(item);
-        FinderColumn nextColumn = supplyNextColumn();
+        FinderColumn nextColumn = finder.supplyNextColumn(this);
         if (nextColumn != null) {
             finder.addItem(nextColumn);
         }
@@ -294,12 +302,38 @@ public class FinderItem extends FinderSubComponent<HTMLElement, FinderItem> impl
     }
 
     void markSelected(boolean selected) {
-        aria(Aria.selected, selected);
-        classList().toggle(modifier(Classes.selected), selected);
+        if (itemSelected != selected) {
+            itemSelected = selected;
+            aria(Aria.selected, selected);
+            classList().toggle(modifier(Classes.selected), selected);
+        }
     }
 
     boolean isSelected() {
-        return parseBoolean((element().getAttribute(Aria.selected))) && classList().contains(modifier(Classes.selected));
+        return itemSelected;
+    }
+
+    /** Adds/removes the filtered modifier and returns {@code true} if the filtered state has changed. */
+    boolean markFiltered(boolean filtered) {
+        if (this.filtered != filtered) {
+            this.filtered = filtered;
+            classList().toggle(modifier(Classes.filtered), filtered);
+            return true;
+        }
+        return false;
+    }
+
+    boolean isFiltered() {
+        return filtered;
+    }
+
+    /** Returns the trimmed, lower case text of this item. The value is computed once and reset if the text changes. */
+    String searchText() {
+        if (searchText == null) {
+            String text = text();
+            searchText = text != null ? text.trim().toLowerCase() : "";
+        }
+        return searchText;
     }
 
     boolean hasNext() {
@@ -307,7 +341,14 @@ public class FinderItem extends FinderSubComponent<HTMLElement, FinderItem> impl
     }
 
     FinderColumn supplyNextColumn() {
-        return nextColumn != null ? nextColumn.get() : null;
+        if (nextColumn != null) {
+            FinderColumn column = nextColumn.get();
+            if (column != null) {
+                column.parentId = identifier;
+            }
+            return column;
+        }
+        return null;
     }
 
     void makePinnable() {
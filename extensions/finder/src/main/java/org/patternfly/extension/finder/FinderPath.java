@@ -18,6 +18,7 @@ package org.patternfly.extension.finder;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 
 import static java.util.stream.Collectors.joining;
@@ -90,6 +91,39 @@ public class FinderPath implements Iterable<FinderSegment> {
         return findSegment(segment -> identifier.equals(segment.itemId));
     }
 
+    // ------------------------------------------------------ internal
+
+    /**
+     * Returns the number of leading segments whose columns are already loaded. The predicate is called with the column
+     * identifier and the identifier of the item selected in the previous segment ({@code null} for the first segment) and
+     * must return {@code true} if the column has been loaded for that parent item.
+     */
+    int loaded(BiPredicate<String, String> loaded) {
+        int count = 0;
+        String parentId = null;
+        for (FinderSegment segment : segments) {
+            if (!loaded.test(segment.columnId, parentId)) {
+                break;
+            }
+            count++;
+            if (segment.itemId == null) {
+                break;
+            }
+            parentId = segment.itemId;
+        }
+        return count;
+    }
+
+    /** Returns the identifier of the item of the segment before {@code index}, or {@code null} if {@code index} is 0. */
+    String parentId(int index) {
+        return index > 0 && index <= segments.size() ? segments.get(index - 1).itemId : null;
+    }
+
+    /** Returns the segments starting at {@code from}. */
+    FinderPath subPath(int from) {
+        return new FinderPath(new LinkedList<>(segments.subList(Math.min(from, segments.size()), segments.size())));
+    }
+
     private FinderSegment findSegment(Predicate<FinderSegment> condition) {
         for (FinderSegment segment : this) {
             if (condition.test(segment)) {
@@ -0,0 +1,91 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.extension.finder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import elemental2.promise.Promise;
+
+/**
+ * Resolves the items of the columns of a {@link FinderPath} up front, before {@link Finder#select(FinderPath)} walks the path.
+ * Without a resolver, each column is loaded only after the item of the previous column has been selected, which results in
+ * one round trip per segment. A resolver returns a promise of items for each column of the path. These promises are used
+ * instead of the {@link org.patternfly.component.AsyncItems} of the columns, so that columns render as soon as the previous
+ * column is selected and their data has arrived.
+ * <p>
+ * If a promise resolves to {@code null}, or if a column is not part of the returned map, the column is loaded using its own
+ * async items.
+ *
+ * @see Finder#pathResolver(FinderPathResolver)
+ */
+@FunctionalInterface
+public interface FinderPathResolver {
+
+    /**
+     * Returns a resolver which fetches the items of all columns of a path in one request.
+     *
+     * @param batch a function which returns a promise of a map of column identifiers to items; the path passed to the
+     *              function contains only the columns which need to be loaded
+     */
+    static FinderPathResolver batch(Function<FinderPath, Promise<Map<String, Iterable<FinderItem>>>> batch) {
+        return (path, parentId) -> {
+            Promise<Map<String, Iterable<FinderItem>>> promise = batch.apply(path);
+            Map<String, Promise<Iterable<FinderItem>>> columns = new HashMap<>();
+            for (FinderSegment segment : path) {
+                columns.put(segment.columnId, promise.then(items -> Promise.resolve(items != null
+                        ? items.get(segment.columnId)
+                        : null)));
+            }
+            return columns;
+        };
+    }
+
+    /**
+     * Returns a resolver which loads the columns of a path in parallel. The loader is called for each column of the path with
+     * the column identifier and the identifier of the parent item, that is, the item selected in the previous column
+     * ({@code null} for the first column).
+     *
+     * @param loader a function which returns a promise of the items of one column
+     */
+    static FinderPathResolver parallel(BiFunction<String, String, Promise<Iterable<FinderItem>>> loader) {
+        return (path, parentId) -> {
+            String currentParentId = parentId;
+            Map<String, Promise<Iterable<FinderItem>>> columns = new HashMap<>();
+            for (FinderSegment segment : path) {
+                columns.put(segment.columnId, loader.apply(segment.columnId, currentParentId));
+                if (segment.itemId == null) {
+                    break;
+                }
+                currentParentId = segment.itemId;
+            }
+            return columns;
+        };
+    }
+
+    /**
+     * Starts loading the columns of the given path. Leading columns which are already loaded for the right parent item are
+     * not part of the path.
+     *
+     * @param path     the segments of the path which need to be loaded
+     * @param parentId the identifier of the item selected in the column before the first segment of the path ({@code null}
+     *                 if the path starts with the first column)
+     * @return a map of column identifiers to the promised items of the columns
+     */
+    Map<String, Promise<Iterable<FinderItem>>> resolve(FinderPath path, String parentId);
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.extension.finder;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.DoubleSupplier;
+import java.util.function.Predicate;
+
+/**
+ * A bounded, access-ordered cache whose entries expire after a time-to-live. Used by {@link FinderColumnCache}. The clock
+ * is passed in to keep this class free of browser APIs.
+ */
+final class LruCache<V> {
+
+    private final int capacity;
+    private final int ttl;
+    private final DoubleSupplier clock;
+    private final LinkedHashMap<String, Entry<V>> entries;
+
+    LruCache(int capacity, int ttl, DoubleSupplier clock) {
+        this.capacity = Math.max(1, capacity);
+        this.ttl = Math.max(0, ttl);
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /** Returns the value of the given key, or {@code null} if there's no value or the value has expired. */
+    V get(String key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            if (ttl > 0 && clock.getAsDouble() - entry.timestamp > ttl) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+        return null;
+    }
+
+    /** Adds or replaces the value of the given key and removes the least recently used entries above the capacity. */
+    void put(String key, V value) {
+        entries.put(key, new Entry<>(value, clock.getAsDouble()));
+        Iterator<Map.Entry<String, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (entries.size() > capacity && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    void remove(String key) {
+        entries.remove(key);
+    }
+
+    void removeIf(Predicate<V> predicate) {
+        entries.values().removeIf(entry -> predicate.test(entry.value));
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static final class Entry<V> {
+
+        final V value;
+        final double timestamp;
+
+        Entry(V value, double timestamp) {
+            this.value = value;
+            this.timestamp = timestamp;
+        }
+    }
+}
@@ -27,6 +27,8 @@
  *     <li>{@link org.patternfly.extension.finder.FinderItem} - an individual selectable item within a column</li>
  *     <li>{@link org.patternfly.extension.finder.FinderPreview} - preview pane shown alongside the columns</li>
  *     <li>{@link org.patternfly.extension.finder.FinderPath} - lightweight path for serialization and URL routing</li>
+ *     <li>{@link org.patternfly.extension.finder.FinderPathResolver} - loads the columns of a path up front</li>
+ *     <li>{@link org.patternfly.extension.finder.FinderColumnCache} - LRU cache for the columns of a finder</li>
  * </ul>
  *
  * <h2>Usage</h2>
@@ -176,6 +176,45 @@ public class FinderPathTest {
         assertEquals(input, FinderPath.parse(input).toString());
     }
 
+    // ------------------------------------------------------ loaded
+
+    @Test
+    public void loadedNothing() {
+        FinderPath path = FinderPath.parse("a=1/b=2/c");
+        assertEquals(0, path.loaded((columnId, parentId) -> false));
+        assertNull(path.parentId(0));
+        assertEquals("a=1/b=2/c", path.subPath(0).toString());
+    }
+
+    @Test
+    public void loadedEverything() {
+        FinderPath path = FinderPath.parse("a=1/b=2/c");
+        assertEquals(3, path.loaded((columnId, parentId) -> true));
+        assertTrue(path.subPath(3).isEmpty());
+    }
+
+    @Test
+    public void loadedPartially() {
+        // columns a and b are loaded, b has been loaded for item 1 of column a
+        FinderPath path = FinderPath.parse("a=1/b=2/c=3/d");
+        int loaded = path.loaded((columnId, parentId) -> ("a".equals(columnId) && parentId == null) ||
+                ("b".equals(columnId) && "1".equals(parentId)));
+        assertEquals(2, loaded);
+        assertEquals("2", path.parentId(loaded));
+        assertEquals("c=3/d", path.subPath(loaded).toString());
+    }
+
+    @Test
+    public void loadedForDifferentParent() {
+        // column b is loaded, but for item 9 of column a
+        FinderPath path = FinderPath.parse("a=1/b=2/c");
+        int loaded = path.loaded((columnId, parentId) -> ("a".equals(columnId) && parentId == null) ||
+                ("b".equals(columnId) && "9".equals(parentId)));
+        assertEquals(1, loaded);
+        assertEquals("1", path.parentId(loaded));
+        assertEquals("b=2/c", path.subPath(loaded).toString());
+    }
+
     // ------------------------------------------------------ findColumn
 
     @Test
@@ -0,0 +1,175 @@
+/*
+ *  Copyright 2023 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.patternfly.extension.finder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class LruCacheTest {
+
+    private double now;
+
+    @BeforeEach
+    public void setUp() {
+        now = 0;
+    }
+
+    // ------------------------------------------------------ get / put
+
+    @Test
+    public void getMissing() {
+        LruCache<String> cache = cache(3, 0);
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void putAndGet() {
+        LruCache<String> cache = cache(3, 0);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        assertEquals("A", cache.get("a"));
+        assertEquals("B", cache.get("b"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void putReplaces() {
+        LruCache<String> cache = cache(3, 0);
+        cache.put("a", "A");
+        cache.put("a", "A2");
+        assertEquals("A2", cache.get("a"));
+        assertEquals(1, cache.size());
+    }
+
+    // ------------------------------------------------------ capacity
+
+    @Test
+    public void evictsLeastRecentlyAdded() {
+        LruCache<String> cache = cache(2, 0);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.put("c", "C");
+        assertNull(cache.get("a"));
+        assertEquals("B", cache.get("b"));
+        assertEquals("C", cache.get("c"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        LruCache<String> cache = cache(2, 0);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.get("a");
+        cache.put("c", "C");
+        assertEquals("A", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("C", cache.get("c"));
+    }
+
+    @Test
+    public void capacityAtLeastOne() {
+        LruCache<String> cache = cache(0, 0);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        assertNull(cache.get("a"));
+        assertEquals("B", cache.get("b"));
+        assertEquals(1, cache.size());
+    }
+
+    // ------------------------------------------------------ ttl
+
+    @Test
+    public void notExpired() {
+        LruCache<String> cache = cache(3, 100);
+        cache.put("a", "A");
+        now = 100;
+        assertEquals("A", cache.get("a"));
+    }
+
+    @Test
+    public void expired() {
+        LruCache<String> cache = cache(3, 100);
+        cache.put("a", "A");
+        now = 101;
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void putResetsTimestamp() {
+        LruCache<String> cache = cache(3, 100);
+        cache.put("a", "A");
+        now = 80;
+        cache.put("a", "A2");
+        now = 150;
+        assertEquals("A2", cache.get("a"));
+    }
+
+    @Test
+    public void noTtl() {
+        LruCache<String> cache = cache(3, 0);
+        cache.put("a", "A");
+        now = Double.MAX_VALUE;
+        assertEquals("A", cache.get("a"));
+    }
+
+    // ------------------------------------------------------ remove
+
+    @Test
+    public void remove() {
+        LruCache<String> cache = cache(3, 0);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.remove("a");
+        assertNull(cache.get("a"));
+        assertEquals("B", cache.get("b"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void removeIf() {
+        LruCache<String> cache = cache(5, 0);
+        cache.put("a", "x1");
+        cache.put("b", "y1");
+        cache.put("c", "x2");
+        cache.removeIf(value -> value.startsWith("x"));
+        assertNull(cache.get("a"));
+        assertEquals("y1", cache.get("b"));
+        assertNull(cache.get("c"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void clear() {
+        LruCache<String> cache = cache(3, 0);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.clear();
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    // ------------------------------------------------------ internal
+
+    private LruCache<String> cache(int capacity, int ttl) {
+        return new LruCache<>(capacity, ttl, () -> now);
+    }
+}
@@ -15,6 +15,9 @@
  */
 package org.patternfly.icon;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.jboss.elemento.ElementAttributeMethods;
 import org.jboss.elemento.ElementClassListMethods;
 import org.jboss.elemento.ElementConsumerMethods;
@@ -28,6 +31,7 @@ import org.jboss.elemento.svg.SVGElementDataMethods;
 import org.jboss.elemento.svg.SVGElementStyleMethods;
 
 import elemental2.dom.Element;
+import jsinterop.base.Js;
 
 import static elemental2.dom.DomGlobal.document;
 import static org.jboss.elemento.svg.SVG.path;
@@ -42,6 +46,9 @@ import static org.patternfly.style.Classes.unknown;
 /**
  * The PredefinedIcon class represents a predefined SVG icon. It implements SVG builder interfaces and provides methods for
  * creating and configuring the SVG element for the icon.
+ * <p>
+ * The SVG element of an icon is built only once and used as a template. Subsequent instances of the same icon clone the
+ * template, which is considerably cheaper than building the SVG element from scratch.
  */
 public final class PredefinedIcon implements
         ElementAttributeMethods<SVGElement, PredefinedIcon>,
@@ -93,12 +100,18 @@ public final class PredefinedIcon implements
 
     // ------------------------------------------------------ instance
 
+    private static final Map<String, SVGElement> templates = new HashMap<>();
+
     public final IconSpec iconSpec;
     private final SVGElement element;
 
     PredefinedIcon(IconSpec iconSpec) {
         this.iconSpec = iconSpec;
-        this.element = svg().css(svg)
+        this.element = Js.cast(template(iconSpec).cloneNode(true));
+    }
+
+    private static SVGElement template(IconSpec iconSpec) {
+        return templates.computeIfAbsent(iconSpec.set + "." + iconSpec.id, __ -> svg().css(svg)
                 .attr("viewBox", iconSpec.xOffset + " " + iconSpec.yOffset + " " + iconSpec.width + " " + iconSpec.height)
                 .attr("width", "1em")
                 .attr("height", "1em")
@@ -109,7 +122,7 @@ public final class PredefinedIcon implements
                 .add(document.createComment(iconSpec.license))
                 .add(path()
                         .attr("d", iconSpec.path))
-                .element();
+                .element());
     }
 
     @Override